@@ -1,16 +1,21 @@
 package org.folio.client;
 
 import org.folio.domain.dto.ReorderQueue;
+import org.folio.domain.dto.Request;
 import org.folio.domain.dto.Requests;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
 
 @HttpExchange(url = "circulation/requests")
 public interface RequestCirculationClient {
 
+  @PutExchange("/{requestId}")
+  void updateRequest(@PathVariable String requestId, @RequestBody Request request);
+
   @GetExchange("/queue/instance/{instanceId}")
   Requests getRequestsQueueByInstanceId(@PathVariable String instanceId);
 
@@ -29,6 +29,7 @@ import org.folio.client.ServicePointClient;
 import org.folio.client.UserClient;
 import org.folio.client.UserGroupClient;
 import org.folio.client.UserTenantsClient;
+import org.folio.client.memo.ClientCallMemoizer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,9 +38,14 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class HttpClientConfiguration {
 
+  private final ClientCallMemoizer clientCallMemoizer;
+
   // same as default factory provided by folio-spring-support, but does not swallow 404s
   @Bean
   @Fallback
@@ -52,174 +58,178 @@ public class HttpClientConfiguration {
   @Bean
   public AddressTypeClient addressTypeClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(AddressTypeClient.class);
+    return createClient(factory, AddressTypeClient.class);
   }
 
   @Bean
   public CheckOutClient checkOutClient(
       @Qualifier("errorForwardingHttpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(CheckOutClient.class);
+    return createClient(factory, CheckOutClient.class);
   }
 
   @Bean
   public CirculationClient circulationClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(CirculationClient.class);
+    return createClient(factory, CirculationClient.class);
   }
 
   @Bean
   public CirculationErrorForwardingClient circulationErrorForwardingClient(
       @Qualifier("errorForwardingHttpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(CirculationErrorForwardingClient.class);
+    return createClient(factory, CirculationErrorForwardingClient.class);
   }
 
   @Bean
   public CirculationItemClient circulationItemClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(CirculationItemClient.class);
+    return createClient(factory, CirculationItemClient.class);
   }
 
   @Bean
   public ConsortiaClient consortiaClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(ConsortiaClient.class);
+    return createClient(factory, ConsortiaClient.class);
   }
 
   @Bean
   public ConsortiaConfigurationClient consortiaConfigurationClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(ConsortiaConfigurationClient.class);
+    return createClient(factory, ConsortiaConfigurationClient.class);
   }
 
   @Bean
   public ConsortiumSearchClient consortiumSearchClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(ConsortiumSearchClient.class);
+    return createClient(factory, ConsortiumSearchClient.class);
   }
 
   @Bean
   public DcbEcsTransactionClient dcbEcsTransactionClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(DcbEcsTransactionClient.class);
+    return createClient(factory, DcbEcsTransactionClient.class);
   }
 
   @Bean
   public DcbTransactionClient dcbTransactionClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(DcbTransactionClient.class);
+    return createClient(factory, DcbTransactionClient.class);
   }
 
   @Bean
   public DepartmentClient departmentClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(DepartmentClient.class);
+    return createClient(factory, DepartmentClient.class);
   }
 
   @Bean
   public HoldingClient holdingClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(HoldingClient.class);
+    return createClient(factory, HoldingClient.class);
   }
 
   @Bean
   public InstanceClient instanceClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceClient.class);
+    return createClient(factory, InstanceClient.class);
   }
 
   @Bean
   public ItemClient itemClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(ItemClient.class);
+    return createClient(factory, ItemClient.class);
   }
 
   @Bean
   public LoanPolicyClient loanPolicyClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LoanPolicyClient.class);
+    return createClient(factory, LoanPolicyClient.class);
   }
 
   @Bean
   public LoanStorageClient loanStorageClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LoanStorageClient.class);
+    return createClient(factory, LoanStorageClient.class);
   }
 
   @Bean
   public LoanTypeClient loanTypeClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LoanTypeClient.class);
+    return createClient(factory, LoanTypeClient.class);
   }
 
   @Bean
   public LocationCampusClient locationCampusClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LocationCampusClient.class);
+    return createClient(factory, LocationCampusClient.class);
   }
 
   @Bean
   public LocationClient locationClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LocationClient.class);
+    return createClient(factory, LocationClient.class);
   }
 
   @Bean
   public LocationInstitutionClient locationInstitutionClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LocationInstitutionClient.class);
+    return createClient(factory, LocationInstitutionClient.class);
   }
 
   @Bean
   public LocationLibraryClient locationLibraryClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(LocationLibraryClient.class);
+    return createClient(factory, LocationLibraryClient.class);
   }
 
   @Bean
   public MaterialTypeClient materialTypeClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(MaterialTypeClient.class);
+    return createClient(factory, MaterialTypeClient.class);
   }
 
   @Bean
   public RequestCirculationClient requestCirculationClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(RequestCirculationClient.class);
+    return createClient(factory, RequestCirculationClient.class);
   }
 
   @Bean
   public RequestStorageClient requestStorageClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(RequestStorageClient.class);
+    return createClient(factory, RequestStorageClient.class);
   }
 
   @Bean
   public SearchInstanceClient searchInstanceClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(SearchInstanceClient.class);
+    return createClient(factory, SearchInstanceClient.class);
   }
 
   @Bean
   public ServicePointClient servicePointClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(ServicePointClient.class);
+    return createClient(factory, ServicePointClient.class);
   }
 
   @Bean
   public UserClient userClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(UserClient.class);
+    return createClient(factory, UserClient.class);
   }
 
   @Bean
   public UserGroupClient userGroupClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(UserGroupClient.class);
+    return createClient(factory, UserGroupClient.class);
   }
 
   @Bean
   public UserTenantsClient userTenantsClient(
     @Qualifier("httpServiceProxyFactory") HttpServiceProxyFactory factory) {
-    return factory.createClient(UserTenantsClient.class);
+    return createClient(factory, UserTenantsClient.class);
+  }
+
+  private <T> T createClient(HttpServiceProxyFactory factory, Class<T> clientClass) {
+    return clientCallMemoizer.memoize(factory.createClient(clientClass), clientClass);
   }
 }
@@ -0,0 +1,124 @@
+package org.folio.client.memo;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Results of downstream GET calls made while handling a single incoming request. Identical calls
+ * (same tenant, client method and arguments) are served from the memo, concurrent identical calls
+ * share the same in-flight call. Results are kept until the incoming request is handled, up to
+ * a limit on their total size.
+ */
+@Log4j2
+@Getter
+public class ClientCallMemo {
+
+  private static final ThreadLocal<ClientCallMemo> CURRENT = new ThreadLocal<>();
+
+  private final Map<Key, CompletableFuture<byte[]>> calls = new ConcurrentHashMap<>();
+  private final AtomicInteger misses = new AtomicInteger();
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger sharedInFlight = new AtomicInteger();
+  private final AtomicLong retainedBytes = new AtomicLong();
+
+  public static Optional<ClientCallMemo> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Makes the memo current for the calling thread until the returned scope is closed. Accepts
+   * {@code null} so that absence of a memo can be propagated to other threads as well.
+   */
+  public static Scope activate(ClientCallMemo memo) {
+    ClientCallMemo previous = CURRENT.get();
+    CURRENT.set(memo);
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Registers a new call unless an identical one has already been made.
+   *
+   * @return result of an identical call (possibly still in flight) or {@code null} if the call
+   * should be made by the caller and its result should be used to complete {@code call}
+   */
+  CompletableFuture<byte[]> registerCall(Key key, CompletableFuture<byte[]> call) {
+    CompletableFuture<byte[]> existingCall = calls.putIfAbsent(key, call);
+    if (existingCall == null) {
+      misses.incrementAndGet();
+    } else if (existingCall.isDone()) {
+      hits.incrementAndGet();
+    } else {
+      sharedInFlight.incrementAndGet();
+    }
+    return existingCall;
+  }
+
+  void removeCall(Key key, CompletableFuture<byte[]> call) {
+    calls.remove(key, call);
+  }
+
+  /**
+   * Keeps the result of a completed call unless it is too large or the memo is full, in which
+   * case the call is removed, so that identical calls made later are made again.
+   */
+  boolean retain(Key key, CompletableFuture<byte[]> call, long maxEntrySize, long maxSize) {
+    if (calls.get(key) != call) {
+      // invalidated while in flight
+      return false;
+    }
+
+    byte[] result = call.getNow(null);
+    int size = result == null ? 0 : result.length;
+    if (size <= maxEntrySize && retainedBytes.addAndGet(size) <= maxSize) {
+      return true;
+    }
+
+    if (size <= maxEntrySize) {
+      retainedBytes.addAndGet(-size);
+    }
+    log.debug("retain:: result of {} bytes is not kept, {} bytes already kept", size,
+      retainedBytes);
+    removeCall(key, call);
+    return false;
+  }
+
+  void invalidate(String tenantId) {
+    boolean invalidated = calls.entrySet().removeIf(entry -> {
+      if (!entry.getKey().tenantId().equals(tenantId)) {
+        return false;
+      }
+      byte[] result = entry.getValue().isDone() && !entry.getValue().isCompletedExceptionally()
+        ? entry.getValue().getNow(null)
+        : null;
+      if (result != null) {
+        retainedBytes.addAndGet(-result.length);
+      }
+      return true;
+    });
+    if (invalidated) {
+      log.debug("invalidate:: memoized calls invalidated for tenant {}", tenantId);
+    }
+  }
+
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  record Key(String tenantId, Method method, List<Object> arguments) { }
+}
@@ -0,0 +1,60 @@
+package org.folio.client.memo;
+
+import java.io.IOException;
+
+import org.folio.config.ClientCallMemoProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Opens a {@link ClientCallMemo} for every incoming request and reports how many downstream
+ * calls it has saved.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ClientCallMemoFilter extends OncePerRequestFilter {
+
+  private static final String CALLS_METRIC = "tlr.client-call-memo.calls";
+
+  private final ClientCallMemoProperties properties;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+    FilterChain filterChain) throws ServletException, IOException {
+
+    ClientCallMemo memo = new ClientCallMemo();
+    try (var ignored = ClientCallMemo.activate(memo)) {
+      filterChain.doFilter(request, response);
+    } finally {
+      report(request, memo);
+    }
+  }
+
+  private static void report(HttpServletRequest request, ClientCallMemo memo) {
+    int misses = memo.getMisses().get();
+    int hits = memo.getHits().get();
+    int sharedInFlight = memo.getSharedInFlight().get();
+    Metrics.counter(CALLS_METRIC, "result", "miss").increment(misses);
+    Metrics.counter(CALLS_METRIC, "result", "hit").increment(hits);
+    Metrics.counter(CALLS_METRIC, "result", "shared-in-flight").increment(sharedInFlight);
+
+    if (hits + sharedInFlight > 0) {
+      log.info("report:: {} {}: {} GET call(s) made, {} served from memo, {} joined in-flight calls",
+        request.getMethod(), request.getRequestURI(), misses, hits, sharedInFlight);
+    }
+  }
+}
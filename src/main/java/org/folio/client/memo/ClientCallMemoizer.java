@@ -0,0 +1,136 @@
+package org.folio.client.memo;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.folio.client.GetByQueryClient;
+import org.folio.config.ClientCallMemoProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.service.annotation.HttpExchange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Wraps HTTP clients so that their GET calls are memoized in the {@link ClientCallMemo} of the
+ * current request, if there is one. Any other call (POST, PUT etc.) invalidates memoized calls of
+ * the tenant it is made in. Memoized results are handed out as copies, so callers are free to
+ * modify them. Query calls, which paged and bulk fetches are made of, are not memoized, and
+ * results are only kept up to the configured size.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ClientCallMemoizer {
+
+  private static final String QUERY_METHOD = "getByQuery";
+
+  private final FolioExecutionContext folioContext;
+  private final ObjectMapper objectMapper;
+  private final ClientCallMemoProperties properties;
+
+  @SuppressWarnings("unchecked")
+  public <T> T memoize(T client, Class<T> clientClass) {
+    ProxyFactory proxyFactory = new ProxyFactory(client);
+    proxyFactory.addInterface(clientClass);
+    proxyFactory.addAdvice(new MemoizingInterceptor(clientClass));
+    return (T) proxyFactory.getProxy(clientClass.getClassLoader());
+  }
+
+  @RequiredArgsConstructor
+  private final class MemoizingInterceptor implements MethodInterceptor {
+    private final Class<?> clientClass;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      Method method = invocation.getMethod();
+      if (method.isDefault() && invocation instanceof ProxyMethodInvocation proxyInvocation) {
+        // invoke default methods on the proxy, so that calls they make are memoized too
+        return InvocationHandler.invokeDefault(proxyInvocation.getProxy(), method,
+          invocation.getArguments());
+      }
+
+      HttpExchange exchange = AnnotatedElementUtils.findMergedAnnotation(method, HttpExchange.class);
+      ClientCallMemo memo = ClientCallMemo.current().orElse(null);
+      if (exchange == null || memo == null || isQueryCall(method)) {
+        return invocation.proceed();
+      }
+
+      String tenantId = folioContext.getTenantId();
+      if (!HttpMethod.GET.matches(exchange.method())) {
+        memo.invalidate(tenantId);
+        try {
+          return invocation.proceed();
+        } finally {
+          memo.invalidate(tenantId);
+        }
+      }
+
+      return invokeMemoized(memo, invocation, tenantId);
+    }
+
+    private Object invokeMemoized(ClientCallMemo memo, MethodInvocation invocation, String tenantId)
+      throws Throwable {
+
+      Method method = invocation.getMethod();
+      var key = new ClientCallMemo.Key(tenantId, method, Arrays.asList(invocation.getArguments()));
+      var call = new CompletableFuture<byte[]>();
+      CompletableFuture<byte[]> identicalCall = memo.registerCall(key, call);
+      if (identicalCall != null) {
+        log.debug("invokeMemoized:: reusing result of {}.{} in tenant {}",
+          clientClass::getSimpleName, method::getName, () -> tenantId);
+        return copy(awaitResult(identicalCall), method);
+      }
+
+      try {
+        Object result = invocation.proceed();
+        call.complete(result == null ? null : objectMapper.writeValueAsBytes(result));
+        memo.retain(key, call, properties.getMaxEntrySize().toBytes(),
+          properties.getMaxSize().toBytes());
+        return result;
+      } catch (Throwable e) {
+        // failures are not memoized, but calls already waiting for this one will fail as well
+        memo.removeCall(key, call);
+        call.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    private boolean isQueryCall(Method method) {
+      return QUERY_METHOD.equals(method.getName())
+        && GetByQueryClient.class.isAssignableFrom(clientClass);
+    }
+
+    private static byte[] awaitResult(CompletableFuture<byte[]> call) throws Throwable {
+      try {
+        return call.join();
+      } catch (CompletionException e) {
+        throw e.getCause();
+      }
+    }
+
+    private Object copy(byte[] result, Method method) {
+      return result == null ? null : objectMapper.readValue(result, resolveReturnType(method));
+    }
+
+    private JavaType resolveReturnType(Method method) {
+      ResolvableType returnType = ResolvableType.forMethodReturnType(method, clientClass);
+      return returnType.hasGenerics()
+        ? objectMapper.constructType(returnType.getType())
+        : objectMapper.constructType(returnType.resolve(Object.class));
+    }
+  }
+}
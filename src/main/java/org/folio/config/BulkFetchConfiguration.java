@@ -0,0 +1,20 @@
+package org.folio.config;
+
+import org.folio.support.CqlQueryPartitioner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.log4j.Log4j2;
+
+@Configuration
+@Log4j2
+public class BulkFetchConfiguration {
+
+  @Bean
+  public CqlQueryPartitioner cqlQueryPartitioner(BulkFetchProperties properties) {
+    log.info("cqlQueryPartitioner:: max query length: {}, max values per query: {}",
+      properties.getMaxQueryLength(), properties.getMaxValuesPerQuery());
+    return new CqlQueryPartitioner(properties.getMaxQueryLength(),
+      properties.getMaxValuesPerQuery());
+  }
+}
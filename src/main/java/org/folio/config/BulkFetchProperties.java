@@ -0,0 +1,20 @@
+package org.folio.config;
+
+import static org.folio.support.CqlQueryPartitioner.DEFAULT_MAX_QUERY_LENGTH;
+import static org.folio.support.CqlQueryPartitioner.DEFAULT_MAX_VALUES_PER_QUERY;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.bulk-fetch")
+public class BulkFetchProperties {
+
+  // max length of request path and URL-encoded parameters, CQL query included, should leave
+  // room for base URL
+  private int maxQueryLength = DEFAULT_MAX_QUERY_LENGTH;
+  private int maxValuesPerQuery = DEFAULT_MAX_VALUES_PER_QUERY;
+}
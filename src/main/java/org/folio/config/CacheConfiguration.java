@@ -0,0 +1,114 @@
+package org.folio.config;
+
+import static org.folio.service.impl.CloneRegistryImpl.KNOWN_CLONES_CACHE;
+import static org.folio.service.impl.ConsortiaServiceImpl.CENTRAL_TENANT_ID_CACHE;
+import static org.folio.service.impl.ConsortiaServiceImpl.CONSORTIUM_TENANTS_CACHE;
+import static org.folio.service.impl.ConsortiumServiceImpl.TENANT_CONTEXT_CACHE;
+import static org.folio.service.impl.ServicePointLocationIndexImpl.STAFF_SLIPS_LOCATION_INDEX_CACHE;
+import static org.folio.service.impl.StaffSlipsServiceImpl.STAFF_SLIPS_SNAPSHOTS_CACHE;
+import static org.folio.service.impl.TlrSettingsServiceImpl.TLR_SETTINGS_CACHE;
+
+import java.util.List;
+
+import org.folio.domain.TenantContext;
+import org.folio.domain.type.ReferenceDataType;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.log4j.Log4j2;
+
+@Configuration
+@EnableCaching
+@Log4j2
+public class CacheConfiguration {
+
+  @Bean
+  public CacheManager cacheManager(ReferenceDataCacheProperties referenceDataCacheProperties,
+    ConsortiumCacheProperties consortiumCacheProperties,
+    TenantContextCacheProperties tenantContextCacheProperties,
+    TlrSettingsCacheProperties tlrSettingsCacheProperties,
+    CloneRegistryProperties cloneRegistryProperties,
+    StaffSlipsProperties staffSlipsProperties) {
+
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    for (ReferenceDataType type : ReferenceDataType.values()) {
+      log.info("cacheManager:: registering cache {}: TTL {}, max size {}", type.getValue(),
+        referenceDataCacheProperties.ttlFor(type), referenceDataCacheProperties.getMaxSize());
+      // stats are bound to "cache.*" metrics by Spring Boot
+      cacheManager.registerCustomCache(type.getValue(), Caffeine.newBuilder()
+        .expireAfterWrite(referenceDataCacheProperties.ttlFor(type))
+        .maximumSize(referenceDataCacheProperties.getMaxSize())
+        .recordStats()
+        .build());
+    }
+    for (String cacheName : List.of(CONSORTIUM_TENANTS_CACHE, CENTRAL_TENANT_ID_CACHE)) {
+      log.info("cacheManager:: registering cache {}: TTL {}", cacheName,
+        consortiumCacheProperties.getTtl());
+      cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+        .expireAfterWrite(consortiumCacheProperties.getTtl())
+        .recordStats()
+        .build());
+    }
+    registerTenantContextCache(cacheManager, tenantContextCacheProperties);
+    log.info("cacheManager:: registering cache {}: TTL {}", TLR_SETTINGS_CACHE,
+      tlrSettingsCacheProperties.getTtl());
+    cacheManager.registerCustomCache(TLR_SETTINGS_CACHE, Caffeine.newBuilder()
+      .expireAfterWrite(tlrSettingsCacheProperties.getTtl())
+      .recordStats()
+      .build());
+    log.info("cacheManager:: registering cache {}: TTL {}, max size {}", KNOWN_CLONES_CACHE,
+      cloneRegistryProperties.getTtl(), cloneRegistryProperties.getMaxSize());
+    cacheManager.registerCustomCache(KNOWN_CLONES_CACHE, Caffeine.newBuilder()
+      .expireAfterWrite(cloneRegistryProperties.getTtl())
+      .maximumSize(cloneRegistryProperties.getMaxSize())
+      .recordStats()
+      .build());
+    log.info("cacheManager:: registering cache {}: TTL {}, max size {}", STAFF_SLIPS_SNAPSHOTS_CACHE,
+      staffSlipsProperties.getSnapshotTtl(), staffSlipsProperties.getMaxSnapshots());
+    cacheManager.registerCustomCache(STAFF_SLIPS_SNAPSHOTS_CACHE, Caffeine.newBuilder()
+      .expireAfterWrite(staffSlipsProperties.getSnapshotTtl())
+      .maximumSize(staffSlipsProperties.getMaxSnapshots())
+      .recordStats()
+      .build());
+    log.info("cacheManager:: registering cache {}: TTL {}", STAFF_SLIPS_LOCATION_INDEX_CACHE,
+      staffSlipsProperties.getLocationIndexTtl());
+    cacheManager.registerCustomCache(STAFF_SLIPS_LOCATION_INDEX_CACHE, Caffeine.newBuilder()
+      .expireAfterWrite(staffSlipsProperties.getLocationIndexTtl())
+      .recordStats()
+      .build());
+    return cacheManager;
+  }
+
+  private static void registerTenantContextCache(CaffeineCacheManager cacheManager,
+    TenantContextCacheProperties properties) {
+
+    log.info("registerTenantContextCache:: registering cache {}: TTL {}, negative TTL {}, " +
+      "max size {}", TENANT_CONTEXT_CACHE, properties.getTtl(), properties.getNegativeTtl(),
+      properties.getMaxSize());
+
+    Cache<Object, Object> cache = Caffeine.newBuilder()
+      .maximumSize(properties.getMaxSize())
+      .expireAfter(Expiry.writing((Object tenantId, Object context) ->
+        ((TenantContext) context).isConsortiumMember()
+          ? properties.getTtl()
+          : properties.getNegativeTtl()))
+      .recordStats()
+      .build();
+
+    Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+      .description("Ratio of cache requests which were hits")
+      .tag("cache", TENANT_CONTEXT_CACHE)
+      .register(Metrics.globalRegistry);
+
+    cacheManager.registerCustomCache(TENANT_CONTEXT_CACHE, cache);
+  }
+}
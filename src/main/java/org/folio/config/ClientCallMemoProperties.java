@@ -0,0 +1,20 @@
+package org.folio.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.client-call-memo")
+public class ClientCallMemoProperties {
+
+  // memoize identical downstream GET calls made while handling a single incoming request
+  private boolean enabled = true;
+  // results larger than this are handed to calls waiting for them, but are not kept
+  private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+  // max size of all results kept for a single incoming request
+  private DataSize maxSize = DataSize.ofMegabytes(16);
+}
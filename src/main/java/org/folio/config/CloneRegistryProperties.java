@@ -0,0 +1,21 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.clone-registry")
+public class CloneRegistryProperties {
+
+  // remember clones (shadow users, DCB service points etc.) known to exist in each tenant
+  private boolean enabled = true;
+  private long maxSize = 10_000;
+  private Duration ttl = Duration.ofHours(24);
+  // also keep known clones in a database table, so that they survive restarts
+  private boolean persistent = false;
+}
@@ -0,0 +1,18 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.consortium-cache")
+public class ConsortiumCacheProperties {
+
+  // cache consortium tenants and central tenant ID, which change very rarely
+  private boolean enabled = true;
+  private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,30 @@
+package org.folio.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.log4j.Log4j2;
+
+@Configuration
+@Log4j2
+public class EcsTlrCreationConfiguration {
+
+  // bounded, so that a burst of asynchronous ECS TLRs can not exhaust downstream modules;
+  // rejected creations stay persisted and are picked up by the resume timer
+  @Bean(destroyMethod = "shutdownNow")
+  public ExecutorService ecsTlrCreationExecutor(EcsTlrCreationProperties properties) {
+    log.info("ecsTlrCreationExecutor:: creating executor: pool size {}, queue capacity {}",
+      properties.getWorkerPoolSize(), properties.getQueueCapacity());
+
+    return new ThreadPoolExecutor(properties.getWorkerPoolSize(),
+      properties.getWorkerPoolSize(), 0L, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+      Thread.ofPlatform().name("ecs-tlr-creation-", 0).factory(),
+      new ThreadPoolExecutor.AbortPolicy());
+  }
+}
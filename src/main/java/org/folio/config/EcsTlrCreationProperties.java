@@ -0,0 +1,29 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.ecs-tlr-creation")
+public class EcsTlrCreationProperties {
+
+  // max number of ECS TLRs whose requests are created asynchronously at the same time
+  private int workerPoolSize = 10;
+  // ECS TLRs waiting for a worker, once it is full creation is left to the resume timer
+  private int queueCapacity = 1000;
+  // creation which has not completed a step for this long is considered interrupted and is
+  // resumed by the timer
+  private Duration resumeAfter = Duration.ofMinutes(5);
+  // max number of ECS TLRs in a single batch
+  private int batchMaxSize = 500;
+  // max number of ECS TLRs of a single batch which are created at the same time
+  private int batchParallelism = 5;
+  // lookups of a batch and ECS TLRs whose placement has not started in time are reported as
+  // failed, placement which has already started is always waited for
+  private Duration batchTimeout = Duration.ofMinutes(5);
+}
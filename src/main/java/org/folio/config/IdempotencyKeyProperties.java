@@ -0,0 +1,23 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.idempotency-key")
+public class IdempotencyKeyProperties {
+
+  // keys are deleted this long after they were first used, keys of creations which never
+  // completed included, after that the same key creates a new ECS TLR
+  private Duration ttl = Duration.ofHours(24);
+  // how often the timer deletes expired keys of a tenant
+  private Duration cleanupInterval = Duration.ofHours(1);
+  // max time a repeated request waits for the in-flight creation with the same key
+  private Duration waitTimeout = Duration.ofSeconds(30);
+  private Duration pollInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,15 @@
+package org.folio.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.parallel-execution")
+public class ParallelExecutionProperties {
+
+  // max number of tasks of a single batch running at the same time, 1 disables parallel execution
+  private int maxParallelism = 5;
+}
@@ -0,0 +1,28 @@
+package org.folio.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.folio.domain.type.ReferenceDataType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.reference-data-cache")
+public class ReferenceDataCacheProperties {
+
+  private boolean enabled = true;
+  // max number of entries in a single cache, shared by all tenants
+  private long maxSize = 10_000;
+  private Duration defaultTtl = Duration.ofMinutes(10);
+  // TTL overrides by cache name, e.g. "locations: 5m"
+  private Map<String, Duration> ttl = new HashMap<>();
+
+  public Duration ttlFor(ReferenceDataType type) {
+    return ttl.getOrDefault(type.getValue(), defaultTtl);
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.secondary-request")
+public class SecondaryRequestProperties {
+
+  // whether top-ranked lending tenants are checked for eligibility concurrently before placing
+  // the secondary request, tenants which are not eligible are tried last
+  private boolean hedgingEnabled = false;
+  // number of top-ranked lending tenants which are checked
+  private int hedgingTenants = 3;
+  // checks which did not complete in time do not affect the order of tenants
+  private Duration hedgingTimeout = Duration.ofSeconds(2);
+}
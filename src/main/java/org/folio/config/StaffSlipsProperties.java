@@ -0,0 +1,38 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.staff-slips")
+public class StaffSlipsProperties {
+
+  // max number of consortium tenants queried at the same time
+  private int tenantParallelism = 10;
+  // tenants which do not respond in time are left out of staff slips
+  private Duration tenantTimeout = Duration.ofSeconds(30);
+  // number of staff slips built and written at once when staff slips are streamed
+  private int streamBatchSize = 500;
+  // number of staff slips on a page when a cursor is provided without a limit
+  private int defaultPageSize = 100;
+  // requests found for the first page are kept for this long, so that next pages do not
+  // have to search all tenants again
+  private Duration snapshotTtl = Duration.ofMinutes(5);
+  private int maxSnapshots = 100;
+  // requests and items relevant for staff slips are kept and updated by Kafka events, so that
+  // they do not have to be searched for every time staff slips are built
+  private boolean materializedEnabled = false;
+  // kept requests and items are searched for again once they are older than this
+  private Duration materializedMaxAge = Duration.ofMinutes(15);
+  // locations of all service points are indexed by tenant, so that tenants without locations
+  // of a service point are not searched when its staff slips are built. A location created
+  // in a tenant which had none of the service point is missed until the index is built again
+  private boolean locationIndexEnabled = false;
+  // the index is built again once it is older than this
+  private Duration locationIndexTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,23 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.tenant-context-cache")
+public class TenantContextCacheProperties {
+
+  private long maxSize = 1_000;
+  private Duration ttl = Duration.ofHours(1);
+  // cached context is re-resolved in background when it is used after this period
+  private Duration refreshAfter = Duration.ofMinutes(45);
+  // TTL of "not a consortium member" results
+  private Duration negativeTtl = Duration.ofMinutes(1);
+  // every N-th cache hit is logged (DEBUG level)
+  private int hitLogSampleRate = 100;
+}
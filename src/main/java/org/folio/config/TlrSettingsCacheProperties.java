@@ -0,0 +1,20 @@
+package org.folio.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.tlr-settings-cache")
+public class TlrSettingsCacheProperties {
+
+  private boolean enabled = true;
+  // upper bound of staleness in case a change notification from another instance is missed
+  private Duration ttl = Duration.ofMinutes(10);
+  // notify other instances about changes via Postgres LISTEN/NOTIFY
+  private boolean changeNotificationsEnabled = true;
+}
@@ -9,6 +9,7 @@ import org.folio.domain.dto.Parameter;
 import org.folio.domain.type.ErrorCode;
 import org.folio.exception.ApiException;
 import org.folio.exception.BadRequestException;
+import org.folio.exception.ConflictException;
 import org.folio.exception.NotFoundException;
 import org.folio.exception.ValidationException;
 import org.springframework.http.HttpStatus;
@@ -34,6 +35,11 @@ public class ApiErrorHandler {
     return handleApiException(e, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(ConflictException.class)
+  public ResponseEntity<Errors> handleConflictException(ConflictException e) {
+    return handleApiException(e, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(ValidationException.class)
   public ResponseEntity<Errors> handleValidationException(ValidationException e) {
     return handleApiException(e, HttpStatus.UNPROCESSABLE_CONTENT);
@@ -54,6 +60,17 @@ public class ApiErrorHandler {
       buildError(e, ErrorCode.INTERNAL_SERVER_ERROR));
   }
 
+  // for errors which can not be handled here, because the response has already been committed
+  static Errors buildErrors(Exception e) {
+    Error error = e instanceof ApiException apiException
+      ? buildError(e, apiException.getCode(), apiException.getParameters())
+      : buildError(e, ErrorCode.INTERNAL_SERVER_ERROR);
+
+    return new Errors()
+      .errors(List.of(error))
+      .totalRecords(1);
+  }
+
   private ResponseEntity<Errors> handleApiException(ApiException e, HttpStatus httpStatus) {
     logException(e);
     return buildSingleErrorResponseEntity(httpStatus,
@@ -0,0 +1,36 @@
+package org.folio.controller;
+
+import org.folio.domain.ConsortiumCacheState;
+import org.folio.service.ConsortiaService;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Actuator endpoint showing cached consortium tenants and central tenant IDs, DELETE forces
+ * them to be re-fetched on next use.
+ */
+@Component
+@Endpoint(id = "consortiumcache")
+@RequiredArgsConstructor
+@Log4j2
+public class ConsortiumCacheEndpoint {
+
+  private final ConsortiaService consortiaService;
+
+  @ReadOperation
+  public ConsortiumCacheState getCacheState() {
+    log.debug("getCacheState:: ");
+    return consortiaService.getCacheState();
+  }
+
+  @DeleteOperation
+  public void refreshCache() {
+    log.info("refreshCache:: ");
+    consortiaService.refreshCache();
+  }
+}
@@ -1,14 +1,23 @@
 package org.folio.controller;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
+import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
+import org.folio.domain.IdempotentEcsTlrCreation;
 import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.dto.EcsTlrBatch;
+import org.folio.domain.dto.EcsTlrBatchResult;
+import org.folio.domain.dto.EcsTlrBatchResults;
+import org.folio.domain.dto.EcsTlrCreationStatus;
 import org.folio.rest.resource.EcsTlrApi;
+import org.folio.service.EcsTlrIdempotencyService;
 import org.folio.service.EcsTlrService;
 import org.folio.service.TlrSettingsService;
 import org.springframework.http.HttpStatus;
@@ -23,8 +32,11 @@ import lombok.extern.log4j.Log4j2;
 @AllArgsConstructor
 public class EcsTlrController implements EcsTlrApi {
 
+  private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
   private final EcsTlrService ecsTlrService;
   private final TlrSettingsService tlrSettingsService;
+  private final EcsTlrIdempotencyService idempotencyService;
 
   @Override
   public ResponseEntity<EcsTlr> getEcsTlrById(UUID requestId) {
@@ -36,10 +48,39 @@ public class EcsTlrController implements EcsTlrApi {
   }
 
   @Override
-  public ResponseEntity<EcsTlr> postEcsTlr(EcsTlr ecsTlr) {
-    log.debug("postEcsTlr:: parameters ecsTlr: {}", () -> ecsTlr);
+  public ResponseEntity<EcsTlr> postEcsTlr(EcsTlr ecsTlr, Boolean async, String idempotencyKey) {
+    log.debug("postEcsTlr:: parameters ecsTlr: {}, async: {}, idempotencyKey: {}", () -> ecsTlr,
+      () -> async, () -> idempotencyKey);
+    boolean createAsync = Boolean.TRUE.equals(async);
+
+    if (idempotencyKey != null) {
+      IdempotentEcsTlrCreation creation = idempotencyService.create(idempotencyKey, createAsync,
+        ecsTlr, onPlacement -> createAsync
+          ? ecsTlrService.createAsync(ecsTlr)
+          : ecsTlrService.create(ecsTlr, onPlacement));
+      return buildPostResponse(creation.ecsTlr(), creation.async(), creation.replayed());
+    }
+
+    return buildPostResponse(create(ecsTlr, createAsync), createAsync, false);
+  }
+
+  @Override
+  public ResponseEntity<EcsTlrBatchResults> postEcsTlrBatch(EcsTlrBatch ecsTlrBatch) {
+    log.debug("postEcsTlrBatch:: parameters ecsTlrBatch: {}", () -> ecsTlrBatch);
+    List<EcsTlrBatchResult> results = ecsTlrService.createBatch(ecsTlrBatch.getEcsTlrs());
+
+    return ResponseEntity.status(OK).body(new EcsTlrBatchResults()
+      .results(results)
+      .totalRecords(results.size()));
+  }
+
+  @Override
+  public ResponseEntity<EcsTlrCreationStatus> getEcsTlrCreationStatus(UUID requestId) {
+    log.debug("getEcsTlrCreationStatus:: parameters requestId: {}", requestId);
 
-    return ResponseEntity.status(CREATED).body(ecsTlrService.create(ecsTlr));
+    return ecsTlrService.getCreationStatus(requestId)
+      .map(ResponseEntity.status(OK)::body)
+      .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   @Override
@@ -59,4 +100,22 @@ public class EcsTlrController implements EcsTlrApi {
 
     return ResponseEntity.status(httpStatus).build();
   }
+
+  private EcsTlr create(EcsTlr ecsTlr, boolean async) {
+    return async ? ecsTlrService.createAsync(ecsTlr) : ecsTlrService.create(ecsTlr);
+  }
+
+  private static ResponseEntity<EcsTlr> buildPostResponse(EcsTlr ecsTlr, boolean async,
+    boolean replayed) {
+
+    ResponseEntity.BodyBuilder response = async
+      ? ResponseEntity.status(ACCEPTED)
+        .location(URI.create("/tlr/ecs-tlr/" + ecsTlr.getId() + "/creation-status"))
+      : ResponseEntity.status(CREATED);
+    if (replayed) {
+      response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+    }
+
+    return response.body(ecsTlr);
+  }
 }
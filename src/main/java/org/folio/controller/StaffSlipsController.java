@@ -1,21 +1,43 @@
 package org.folio.controller;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
+import org.folio.domain.CombinedStaffSlips;
+import org.folio.domain.StaffSlipsPage;
+import org.folio.domain.dto.AllSlipsResponse;
 import org.folio.domain.dto.PickSlipsResponse;
 import org.folio.domain.dto.SearchSlipsResponse;
+import org.folio.domain.dto.ServicePointStaffSlips;
 import org.folio.domain.dto.StaffSlip;
+import org.folio.domain.dto.StaffSlipsByServicePointResponse;
 import org.folio.rest.resource.StaffSlipsApi;
+import org.folio.service.StaffSlipsService;
+import org.folio.service.impl.CombinedStaffSlipsService;
 import org.folio.service.impl.PickSlipsService;
 import org.folio.service.impl.SearchSlipsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
 
 @RestController
 @Log4j2
@@ -23,13 +45,33 @@ import lombok.extern.log4j.Log4j2;
 @RequestMapping("/tlr/staff-slips")
 public class StaffSlipsController implements StaffSlipsApi {
 
+  // format=ndjson is documented in the API, but served by the streaming handlers below
+  private static final String STREAMING_FORMAT_PARAM = "format=ndjson";
+  private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
   private final PickSlipsService pickSlipsService;
   private final SearchSlipsService searchSlipsService;
+  private final CombinedStaffSlipsService combinedStaffSlipsService;
+  private final ObjectMapper objectMapper;
 
   @Override
-  public ResponseEntity<PickSlipsResponse> getPickSlips(UUID servicePointId) {
-    log.info("getPickSlips:: servicePointId={}", servicePointId);
-    Collection<StaffSlip> pickSlips = pickSlipsService.getStaffSlips(servicePointId.toString());
+  public ResponseEntity<PickSlipsResponse> getPickSlips(UUID servicePointId, Integer limit,
+    String cursor, Date since, String format) {
+
+    log.info("getPickSlips:: servicePointId={}, limit={}, cursor={}, since={}", servicePointId,
+      limit, cursor, since);
+    if (isPaged(limit, cursor)) {
+      StaffSlipsPage page = pickSlipsService.getStaffSlipsPage(servicePointId.toString(), since,
+        limit, cursor);
+
+      return ResponseEntity.ok(new PickSlipsResponse()
+        .pickSlips(new ArrayList<>(page.staffSlips()))
+        .totalRecords(page.totalRecords())
+        .nextCursor(page.nextCursor()));
+    }
+
+    Collection<StaffSlip> pickSlips = pickSlipsService.getStaffSlips(servicePointId.toString(),
+      since);
 
     return ResponseEntity.ok(new PickSlipsResponse()
       .pickSlips(new ArrayList<>(pickSlips))
@@ -37,12 +79,149 @@ public class StaffSlipsController implements StaffSlipsApi {
   }
 
   @Override
-  public ResponseEntity<SearchSlipsResponse> getSearchSlips(UUID servicePointId) {
-    log.info("getSearchSlips:: servicePointId={}", servicePointId);
-    Collection<StaffSlip> searchSlips = searchSlipsService.getStaffSlips(servicePointId.toString());
+  public ResponseEntity<SearchSlipsResponse> getSearchSlips(UUID servicePointId, Integer limit,
+    String cursor, Date since, String format) {
+
+    log.info("getSearchSlips:: servicePointId={}, limit={}, cursor={}, since={}", servicePointId,
+      limit, cursor, since);
+    if (isPaged(limit, cursor)) {
+      StaffSlipsPage page = searchSlipsService.getStaffSlipsPage(servicePointId.toString(), since,
+        limit, cursor);
+
+      return ResponseEntity.ok(new SearchSlipsResponse()
+        .searchSlips(new ArrayList<>(page.staffSlips()))
+        .totalRecords(page.totalRecords())
+        .nextCursor(page.nextCursor()));
+    }
+
+    Collection<StaffSlip> searchSlips = searchSlipsService.getStaffSlips(servicePointId.toString(),
+      since);
 
     return ResponseEntity.ok(new SearchSlipsResponse()
       .searchSlips(new ArrayList<>(searchSlips))
       .totalRecords(searchSlips.size()));
   }
+
+  @Override
+  public ResponseEntity<AllSlipsResponse> getAllSlips(UUID servicePointId, Date since) {
+    log.info("getAllSlips:: servicePointId={}, since={}", servicePointId, since);
+    CombinedStaffSlips staffSlips = combinedStaffSlipsService.getCombinedStaffSlips(
+      servicePointId.toString(), since);
+
+    return ResponseEntity.ok(new AllSlipsResponse()
+      .pickSlips(new ArrayList<>(staffSlips.pickSlips()))
+      .searchSlips(new ArrayList<>(staffSlips.searchSlips()))
+      .totalRecords(staffSlips.pickSlips().size() + staffSlips.searchSlips().size()));
+  }
+
+  @Override
+  public ResponseEntity<StaffSlipsByServicePointResponse> getPickSlipsForServicePoints(
+    List<UUID> servicePointId, Date since) {
+
+    log.info("getPickSlipsForServicePoints:: servicePointIds={}, since={}", servicePointId, since);
+    return ResponseEntity.ok(getStaffSlipsByServicePoint(pickSlipsService, servicePointId, since));
+  }
+
+  @Override
+  public ResponseEntity<StaffSlipsByServicePointResponse> getSearchSlipsForServicePoints(
+    List<UUID> servicePointId, Date since) {
+
+    log.info("getSearchSlipsForServicePoints:: servicePointIds={}, since={}", servicePointId,
+      since);
+    return ResponseEntity.ok(getStaffSlipsByServicePoint(searchSlipsService, servicePointId,
+      since));
+  }
+
+  @GetMapping(value = "/pick-slips/{servicePointId}", params = STREAMING_FORMAT_PARAM,
+    produces = APPLICATION_NDJSON_VALUE)
+  public void streamPickSlips(@PathVariable UUID servicePointId,
+    @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) Date since,
+    HttpServletResponse response) throws IOException {
+
+    log.info("streamPickSlips:: servicePointId={}, since={}", servicePointId, since);
+    streamStaffSlips(pickSlipsService, servicePointId, since, response);
+  }
+
+  @GetMapping(value = "/search-slips/{servicePointId}", params = STREAMING_FORMAT_PARAM,
+    produces = APPLICATION_NDJSON_VALUE)
+  public void streamSearchSlips(@PathVariable UUID servicePointId,
+    @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) Date since,
+    HttpServletResponse response) throws IOException {
+
+    log.info("streamSearchSlips:: servicePointId={}, since={}", servicePointId, since);
+    streamStaffSlips(searchSlipsService, servicePointId, since, response);
+  }
+
+  private static StaffSlipsByServicePointResponse getStaffSlipsByServicePoint(
+    StaffSlipsService staffSlipsService, List<UUID> servicePointIds, Date since) {
+
+    List<String> distinctServicePointIds = servicePointIds.stream()
+      .map(UUID::toString)
+      .distinct()
+      .toList();
+
+    List<ServicePointStaffSlips> servicePoints = staffSlipsService
+      .getStaffSlipsByServicePoint(distinctServicePointIds, since)
+      .entrySet()
+      .stream()
+      .map(entry -> new ServicePointStaffSlips()
+        .servicePointId(UUID.fromString(entry.getKey()))
+        .staffSlips(new ArrayList<>(entry.getValue()))
+        .totalRecords(entry.getValue().size()))
+      .toList();
+
+    return new StaffSlipsByServicePointResponse()
+      .servicePoints(servicePoints)
+      .totalRecords(servicePoints.stream().mapToInt(ServicePointStaffSlips::getTotalRecords).sum());
+  }
+
+  private static boolean isPaged(Integer limit, String cursor) {
+    return limit != null || cursor != null;
+  }
+
+  // Slips are written one per line and flushed batch by batch, so that clients can start
+  // printing before all slips are built. Slips are built in the request thread, hence the
+  // execution context of the request stays available.
+  private void streamStaffSlips(StaffSlipsService staffSlipsService, UUID servicePointId,
+    Date since, HttpServletResponse response) throws IOException {
+
+    response.setContentType(APPLICATION_NDJSON_VALUE);
+    OutputStream outputStream = response.getOutputStream();
+    try {
+      staffSlipsService.streamStaffSlips(servicePointId.toString(), since,
+        staffSlips -> writeStaffSlips(staffSlips, outputStream));
+    } catch (RuntimeException e) {
+      if (!response.isCommitted()) {
+        throw e;
+      }
+      // the status can no longer be changed, so the error is written as the last line, which
+      // tells clients that staff slips they have received so far are incomplete
+      log.error("streamStaffSlips:: failed to stream staff slips for service point {}",
+        servicePointId, e);
+      writeError(e, outputStream);
+    }
+    outputStream.flush();
+  }
+
+  private void writeError(Exception error, OutputStream outputStream) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(ApiErrorHandler.buildErrors(error)));
+      outputStream.write(LINE_SEPARATOR);
+    } catch (IOException e) {
+      log.warn("writeError:: failed to write error, client has most likely disconnected", e);
+    }
+  }
+
+  private void writeStaffSlips(Collection<StaffSlip> staffSlips, OutputStream outputStream) {
+    log.debug("writeStaffSlips:: writing {} staff slips", staffSlips::size);
+    try {
+      for (StaffSlip staffSlip : staffSlips) {
+        outputStream.write(objectMapper.writeValueAsBytes(staffSlip));
+        outputStream.write(LINE_SEPARATOR);
+      }
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write staff slips", e);
+    }
+  }
 }
@@ -0,0 +1,33 @@
+package org.folio.controller;
+
+import org.folio.rest.resource.TlrCachesApi;
+import org.folio.service.ReferenceDataCacheService;
+import org.folio.service.ServicePointLocationIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@RestController
+@Log4j2
+@AllArgsConstructor
+public class TlrCachesController implements TlrCachesApi {
+
+  private final ReferenceDataCacheService referenceDataCacheService;
+  private final ServicePointLocationIndex servicePointLocationIndex;
+
+  @Override
+  public ResponseEntity<Void> evictReferenceDataCache(String cacheName) {
+    log.info("evictReferenceDataCache:: parameters cacheName: {}", cacheName);
+    referenceDataCacheService.evict(cacheName);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Override
+  public ResponseEntity<Void> evictStaffSlipsLocationIndex() {
+    log.info("evictStaffSlipsLocationIndex:: evicting staff slips location index");
+    servicePointLocationIndex.invalidate();
+    return ResponseEntity.noContent().build();
+  }
+}
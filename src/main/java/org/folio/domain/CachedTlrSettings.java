@@ -0,0 +1,42 @@
+package org.folio.domain;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.domain.dto.TlrSettings;
+
+/**
+ * TLR settings of a tenant along with a normalized (trimmed, lower-cased) set of tenants
+ * excluded from lending tenant search, so that it is not rebuilt on every lookup.
+ */
+public record CachedTlrSettings(TlrSettings settings, Set<String> excludedTenants) {
+
+  public static CachedTlrSettings of(TlrSettings settings) {
+    Set<String> excludedTenants = Optional.ofNullable(settings)
+      .map(TlrSettings::getExcludeFromEcsRequestLendingTenantSearch)
+      .map(CachedTlrSettings::normalizeTenantIds)
+      .orElseGet(Set::of);
+
+    return new CachedTlrSettings(settings, excludedTenants);
+  }
+
+  public boolean isExcluded(String tenantId) {
+    return tenantId != null && excludedTenants.contains(normalizeTenantId(tenantId));
+  }
+
+  private static Set<String> normalizeTenantIds(Collection<String> tenantIds) {
+    return tenantIds.stream()
+      .filter(StringUtils::isNotBlank)
+      .map(CachedTlrSettings::normalizeTenantId)
+      .collect(toUnmodifiableSet());
+  }
+
+  private static String normalizeTenantId(String tenantId) {
+    return tenantId.trim().toLowerCase(Locale.ROOT);
+  }
+}
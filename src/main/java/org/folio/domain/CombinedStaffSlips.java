@@ -0,0 +1,12 @@
+package org.folio.domain;
+
+import java.util.Collection;
+
+import org.folio.domain.dto.StaffSlip;
+
+/**
+ * Pick slips and search slips of a service point which were built together.
+ */
+public record CombinedStaffSlips(Collection<StaffSlip> pickSlips,
+  Collection<StaffSlip> searchSlips) {
+}
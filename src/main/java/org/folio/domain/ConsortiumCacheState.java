@@ -0,0 +1,8 @@
+package org.folio.domain;
+
+import java.util.Collection;
+import java.util.Map;
+
+public record ConsortiumCacheState(Map<String, Collection<String>> tenantIdsByConsortiumId,
+  Map<String, String> centralTenantIdByTenantId) {
+}
@@ -0,0 +1,10 @@
+package org.folio.domain;
+
+import org.folio.domain.dto.EcsTlr;
+
+/**
+ * Outcome of a creation with an idempotency key. {@code replayed} is {@code true} when the
+ * ECS TLR was created by an earlier request with the same key.
+ */
+public record IdempotentEcsTlrCreation(EcsTlr ecsTlr, boolean async, boolean replayed) {
+}
@@ -0,0 +1,169 @@
+package org.folio.domain;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.folio.domain.dto.Item;
+import org.folio.domain.dto.Location;
+import org.folio.domain.dto.Request;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Requests and items which staff slips of one type are built from for a service point, kept up
+ * to date by request and item events. Besides relevant requests it keeps all relevant items at
+ * locations of the service point, so that a request created for such an item can be added
+ * without searching for the item. Requests for items which are not known (yet) are kept aside,
+ * in case an event for the item arrives later. Items are kept as projections of fields which
+ * are displayed on staff slips.
+ */
+@Log4j2
+@Getter
+public class MaterializedStaffSlips {
+
+  private final String tenantId;
+  private final String servicePointId;
+  private final String slipsType;
+  private final Set<String> relevantItemStatuses;
+  private final Set<String> relevantRequestStatuses;
+  private final Set<String> relevantRequestTypes;
+  private final Map<String, Collection<Location>> locationsByTenant;
+  private final Instant builtAt;
+  private final Map<String, Map<String, StaffSlipItemProjection>> itemsByTenant;
+  private final Map<String, Request> requestsById;
+  private final Map<String, Request> pendingRequestsById = new HashMap<>();
+  private volatile boolean stale;
+
+  @SuppressWarnings("java:S107")
+  public MaterializedStaffSlips(String tenantId, String servicePointId, String slipsType,
+    Set<String> relevantItemStatuses, Set<String> relevantRequestStatuses,
+    Set<String> relevantRequestTypes, Map<String, Collection<Location>> locationsByTenant,
+    Map<String, Collection<StaffSlipItemProjection>> itemsByTenant,
+    Collection<Request> requests) {
+
+    this.tenantId = tenantId;
+    this.servicePointId = servicePointId;
+    this.slipsType = slipsType;
+    this.relevantItemStatuses = Set.copyOf(relevantItemStatuses);
+    this.relevantRequestStatuses = Set.copyOf(relevantRequestStatuses);
+    this.relevantRequestTypes = Set.copyOf(relevantRequestTypes);
+    this.locationsByTenant = Map.copyOf(locationsByTenant);
+    this.builtAt = Instant.now();
+    this.itemsByTenant = new HashMap<>();
+    itemsByTenant.forEach((tenant, items) -> this.itemsByTenant.put(tenant,
+      items.stream().collect(toMap(StaffSlipItemProjection::id, Function.identity(), (a, b) -> b,
+        HashMap::new))));
+    this.requestsById = requests.stream()
+      .collect(toMap(Request::getId, Function.identity(), (a, b) -> b, HashMap::new));
+  }
+
+  public void markStale() {
+    stale = true;
+  }
+
+  public synchronized int getRequestsCount() {
+    return requestsById.size();
+  }
+
+  public synchronized List<Request> copyRequests() {
+    return List.copyOf(requestsById.values());
+  }
+
+  public synchronized Map<String, Collection<StaffSlipItemProjection>> copyItemsByTenant() {
+    Map<String, Collection<StaffSlipItemProjection>> copy = new HashMap<>();
+    itemsByTenant.forEach((tenant, items) -> copy.put(tenant, List.copyOf(items.values())));
+    return copy;
+  }
+
+  public synchronized void applyRequest(Request request) {
+    String requestId = request.getId();
+    if (!isRelevant(request)) {
+      requestsById.remove(requestId);
+      pendingRequestsById.remove(requestId);
+      return;
+    }
+
+    String itemId = request.getItemId();
+    if (itemId == null) {
+      // whether a title level hold is relevant depends on holdings of its instance
+      if (requestsById.replace(requestId, request) == null) {
+        log.info("applyRequest:: request {} without item can not be evaluated, marking {} of " +
+          "service point {} as stale", requestId, slipsType, servicePointId);
+        markStale();
+      }
+      return;
+    }
+
+    if (isKnownItem(itemId)) {
+      requestsById.put(requestId, request);
+      pendingRequestsById.remove(requestId);
+    } else {
+      requestsById.remove(requestId);
+      pendingRequestsById.put(requestId, request);
+    }
+  }
+
+  public synchronized void removeRequest(String requestId) {
+    requestsById.remove(requestId);
+    pendingRequestsById.remove(requestId);
+  }
+
+  public synchronized void applyItem(String itemTenantId, Item item) {
+    StaffSlipItemProjection projection = StaffSlipItemProjection.from(item);
+    if (!isRelevant(itemTenantId, projection)) {
+      removeItem(itemTenantId, projection.id());
+      return;
+    }
+
+    itemsByTenant.computeIfAbsent(itemTenantId, tenant -> new HashMap<>())
+      .put(projection.id(), projection);
+
+    Set<String> requestIds = pendingRequestsById.values()
+      .stream()
+      .filter(request -> projection.id().equals(request.getItemId()))
+      .map(Request::getId)
+      .collect(toSet());
+    requestIds.forEach(requestId -> requestsById.put(requestId,
+      pendingRequestsById.remove(requestId)));
+  }
+
+  public synchronized void removeItem(String itemTenantId, String itemId) {
+    Optional.ofNullable(itemsByTenant.get(itemTenantId))
+      .map(items -> items.remove(itemId))
+      .ifPresent(removedItem -> requestsById.values()
+        .removeIf(request -> itemId.equals(request.getItemId())));
+  }
+
+  public boolean isRelevant(Request request) {
+    return request.getStatus() != null
+      && request.getRequestType() != null
+      && relevantRequestStatuses.contains(request.getStatus().getValue())
+      && relevantRequestTypes.contains(request.getRequestType().getValue());
+  }
+
+  public boolean isRelevant(String itemTenantId, StaffSlipItemProjection item) {
+    return item.status() != null
+      && relevantItemStatuses.contains(item.status().getValue())
+      && locationsByTenant.getOrDefault(itemTenantId, List.of())
+        .stream()
+        .map(Location::getId)
+        .anyMatch(locationId -> Objects.equals(locationId, item.effectiveLocationId()));
+  }
+
+  private boolean isKnownItem(String itemId) {
+    return itemsByTenant.values()
+      .stream()
+      .anyMatch(items -> items.containsKey(itemId));
+  }
+}
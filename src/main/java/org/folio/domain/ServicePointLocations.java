@@ -0,0 +1,31 @@
+package org.folio.domain;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.domain.dto.Location;
+
+/**
+ * Locations of service points by tenant, as found in the index. Tenants which are indexed but
+ * missing in {@code locationsByTenant} have no location of the service points. Tenants which
+ * are not indexed have to be searched for locations directly.
+ */
+public record ServicePointLocations(Map<String, Collection<Location>> locationsByTenant,
+  Set<String> indexedTenantIds) {
+
+  public static ServicePointLocations notIndexed() {
+    return new ServicePointLocations(emptyMap(), emptySet());
+  }
+
+  public boolean isIndexed(String tenantId) {
+    return indexedTenantIds.contains(tenantId);
+  }
+
+  public boolean mayHaveLocations(String tenantId) {
+    return !isIndexed(tenantId) || locationsByTenant.containsKey(tenantId);
+  }
+}
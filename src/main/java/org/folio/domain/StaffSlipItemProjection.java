@@ -0,0 +1,50 @@
+package org.folio.domain;
+
+import static org.apache.commons.lang3.StringUtils.firstNonBlank;
+
+import java.util.Optional;
+
+import org.folio.domain.dto.Item;
+import org.folio.domain.dto.ItemEffectiveCallNumberComponents;
+import org.folio.domain.dto.ItemStatus;
+
+/**
+ * Fields of an item which are needed to build a staff slip for it. Items are projected as soon
+ * as they are fetched, so that notes, circulation notes, electronic access and other parts of
+ * an item which are not displayed on staff slips are not kept in memory.
+ */
+@SuppressWarnings("java:S107")
+public record StaffSlipItemProjection(String id, String holdingsRecordId,
+  ItemStatus.NameEnum status, String effectiveLocationId, String materialTypeId,
+  String effectiveLoanTypeId, String barcode, String enumeration, String volume,
+  String chronology, String yearCaption, String copyNumber, String numberOfPieces,
+  String displaySummary, String descriptionOfPieces, String callNumber, String callNumberPrefix,
+  String callNumberSuffix) {
+
+  public static StaffSlipItemProjection from(Item item) {
+    Optional<ItemEffectiveCallNumberComponents> callNumberComponents =
+      Optional.ofNullable(item.getEffectiveCallNumberComponents());
+
+    return new StaffSlipItemProjection(
+      item.getId(),
+      item.getHoldingsRecordId(),
+      Optional.ofNullable(item.getStatus()).map(ItemStatus::getName).orElse(null),
+      item.getEffectiveLocationId(),
+      item.getMaterialTypeId(),
+      firstNonBlank(item.getTemporaryLoanTypeId(), item.getPermanentLoanTypeId()),
+      item.getBarcode(),
+      item.getEnumeration(),
+      item.getVolume(),
+      item.getChronology(),
+      Optional.ofNullable(item.getYearCaption())
+        .map(captions -> String.join("; ", captions))
+        .orElse(null),
+      item.getCopyNumber(),
+      item.getNumberOfPieces(),
+      item.getDisplaySummary(),
+      item.getDescriptionOfPieces(),
+      callNumberComponents.map(ItemEffectiveCallNumberComponents::getCallNumber).orElse(null),
+      callNumberComponents.map(ItemEffectiveCallNumberComponents::getPrefix).orElse(null),
+      callNumberComponents.map(ItemEffectiveCallNumberComponents::getSuffix).orElse(null));
+  }
+}
@@ -0,0 +1,11 @@
+package org.folio.domain;
+
+import java.util.Collection;
+
+import org.folio.domain.dto.StaffSlip;
+
+/**
+ * A page of staff slips. {@code nextCursor} is {@code null} on the last page.
+ */
+public record StaffSlipsPage(Collection<StaffSlip> staffSlips, int totalRecords, String nextCursor) {
+}
@@ -0,0 +1,15 @@
+package org.folio.domain;
+
+import java.time.Instant;
+
+public record TenantContext(String tenantId, String consortiumId, String centralTenantId,
+  Instant resolvedAt) {
+
+  public static TenantContext nonMember(String tenantId) {
+    return new TenantContext(tenantId, null, null, Instant.now());
+  }
+
+  public boolean isConsortiumMember() {
+    return consortiumId != null;
+  }
+}
@@ -44,5 +44,10 @@ public class EcsTlrEntity {
   private String intermediateRequestTenantId;
   private UUID intermediateRequestDcbTransactionId;
   private String primaryRequestStatus;
+  // only set for ECS TLRs which are created asynchronously, see EcsTlrCreationStep
+  private String creationStep;
+  private Date creationStepDate;
+  private String creationError;
+  private String creationCompensations;
 
 }
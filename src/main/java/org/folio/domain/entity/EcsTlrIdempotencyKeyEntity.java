@@ -0,0 +1,30 @@
+package org.folio.domain.entity;
+
+import java.util.Date;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "ecs_tlr_idempotency_key")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EcsTlrIdempotencyKeyEntity {
+
+  @Id
+  private String idempotencyKey;
+  private String status;
+  private boolean async;
+  private String requestHash;
+  private UUID ecsTlrId;
+  private Date createdDate;
+  private Date completedDate;
+}
@@ -0,0 +1,38 @@
+package org.folio.domain.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "known_clone")
+@IdClass(KnownCloneEntity.KnownCloneId.class)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class KnownCloneEntity {
+
+  @Id
+  private String type;
+  @Id
+  private String cloneId;
+  private String state;
+  private Date registeredDate;
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class KnownCloneId implements Serializable {
+    private String type;
+    private String cloneId;
+  }
+}
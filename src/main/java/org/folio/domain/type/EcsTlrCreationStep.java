@@ -0,0 +1,24 @@
+package org.folio.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Steps of asynchronous creation of an ECS TLR, in the order they are completed. The last
+ * completed step is persisted with the ECS TLR, so that creation interrupted by a restart is
+ * resumed from the next step. A failed step moves creation to COMPENSATING, where DCB
+ * transactions and requests created so far are cancelled, and then to FAILED.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EcsTlrCreationStep {
+  ACCEPTED(false),
+  SECONDARY_REQUEST_CREATED(false),
+  PRIMARY_REQUEST_CREATED(false),
+  REQUESTS_CREATED(false),
+  COMPLETED(true),
+  COMPENSATING(false),
+  FAILED(true);
+
+  private final boolean last;
+}
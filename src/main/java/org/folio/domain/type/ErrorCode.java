@@ -12,6 +12,14 @@ public enum ErrorCode {
   PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE("PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE"),
   INVALID_LOAN_ACTION_REQUEST("INVALID_LOAN_ACTION_REQUEST"),
   METHOD_ARGUMENT_NOT_VALID("METHOD_ARGUMENT_NOT_VALID"),
+  UNKNOWN_CACHE("UNKNOWN_CACHE"),
+  INVALID_CURSOR("INVALID_CURSOR"),
+  ECS_TLR_BATCH_TOO_LARGE("ECS_TLR_BATCH_TOO_LARGE"),
+  ECS_TLR_NOT_FOUND("ECS_TLR_NOT_FOUND"),
+  INVALID_IDEMPOTENCY_KEY("INVALID_IDEMPOTENCY_KEY"),
+  IDEMPOTENCY_KEY_IN_USE("IDEMPOTENCY_KEY_IN_USE"),
+  IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED"),
+  IDEMPOTENCY_KEY_FAILED("IDEMPOTENCY_KEY_FAILED"),
   INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR");
 
   private final String value;
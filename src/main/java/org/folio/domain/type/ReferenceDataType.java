@@ -0,0 +1,26 @@
+package org.folio.domain.type;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReferenceDataType {
+  MATERIAL_TYPES("material-types"),
+  LOAN_TYPES("loan-types"),
+  LIBRARIES("libraries"),
+  CAMPUSES("campuses"),
+  INSTITUTIONS("institutions"),
+  LOCATIONS("locations");
+
+  private final String value;
+
+  public static Optional<ReferenceDataType> fromValue(String value) {
+    return Arrays.stream(values())
+      .filter(type -> type.getValue().equals(value))
+      .findFirst();
+  }
+}
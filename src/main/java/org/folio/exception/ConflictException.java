@@ -0,0 +1,12 @@
+package org.folio.exception;
+
+import java.util.Map;
+
+import org.folio.domain.type.ErrorCode;
+
+public class ConflictException extends ApiException {
+
+  public ConflictException(String message, ErrorCode code, Map<String, String> parameters) {
+    super(message, code, parameters);
+  }
+}
@@ -22,6 +22,12 @@ public class ExceptionFactory {
     return new NotFoundException(message, code, parameters);
   }
 
+  public static ConflictException conflict(String message, ErrorCode code,
+    Map<String, String> parameters) {
+
+    return new ConflictException(message, code, parameters);
+  }
+
   public static ValidationException validationError(String message, ErrorCode code,
     Map<String, String> parameters) {
 
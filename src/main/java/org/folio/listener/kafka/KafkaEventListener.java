@@ -12,6 +12,7 @@ import org.folio.domain.dto.UserGroup;
 import org.folio.exception.KafkaEventDeserializationException;
 import org.folio.service.ConsortiumService;
 import org.folio.service.KafkaEventHandler;
+import org.folio.service.MaterializedStaffSlipsService;
 import org.folio.service.impl.ItemEventHandler;
 import org.folio.service.impl.LoanEventHandler;
 import org.folio.service.impl.RequestBatchUpdateEventHandler;
@@ -57,6 +58,7 @@ public class KafkaEventListener {
   private final FolioExecutionContext folioContext;
   private final RequestBatchUpdateEventHandler requestBatchEventHandler;
   private final FolioModuleMetadata folioModuleMetadata;
+  private final MaterializedStaffSlipsService materializedStaffSlipsService;
 
   @KafkaListener(
     topicPattern = "${folio.environment}\\.\\w+\\.circulation\\.request",
@@ -106,6 +108,35 @@ public class KafkaEventListener {
     handleEvent(eventString, userEventHandler, messageHeaders, DefaultKafkaEvent.class, User.class);
   }
 
+  // Materialized staff slips are kept in memory of every instance, so every instance consumes
+  // all events in its own consumer group. Events published before the instance started are
+  // irrelevant, staff slips are searched for from scratch at first.
+  @KafkaListener(
+    topicPattern = "${folio.environment}\\.\\w+\\.circulation\\.request",
+    groupId = "${spring.kafka.consumer.group-id}-staff-slips-${random.uuid}",
+    properties = "auto.offset.reset=latest",
+    autoStartup = "${folio.staff-slips.materialized-enabled:false}"
+  )
+  public void handleRequestEventForStaffSlips(String eventString,
+    @Headers Map<String, Object> messageHeaders) {
+
+    handleEvent(eventString, materializedStaffSlipsService::handleRequestEvent, messageHeaders,
+      DefaultKafkaEvent.class, Request.class);
+  }
+
+  @KafkaListener(
+    topicPattern = "${folio.environment}\\.\\w+\\.inventory\\.item",
+    groupId = "${spring.kafka.consumer.group-id}-staff-slips-${random.uuid}",
+    properties = "auto.offset.reset=latest",
+    autoStartup = "${folio.staff-slips.materialized-enabled:false}"
+  )
+  public void handleItemEventForStaffSlips(String eventString,
+    @Headers Map<String, Object> messageHeaders) {
+
+    handleEvent(eventString, materializedStaffSlipsService::handleItemEvent, messageHeaders,
+      InventoryKafkaEvent.class, Item.class);
+  }
+
   private <E, T> void handleEvent(String eventString, KafkaEventHandler<T> handler,
     Map<String, Object> messageHeaders, Class<E> kafkaEventClass, Class<T> payloadType) {
 
@@ -0,0 +1,115 @@
+package org.folio.listener.postgres;
+
+import static org.folio.service.impl.TlrSettingsChangeNotifier.TLR_SETTINGS_CHANGED_CHANNEL;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.service.TlrSettingsService;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Listens to TLR settings change notifications sent by other instances of the module (see
+ * {@link org.folio.service.impl.TlrSettingsChangeNotifier}) and evicts cached settings of the
+ * changed tenant. A dedicated database connection is held while listening. It is opened outside
+ * of the connection pool, so that the LISTEN registration never leaks to pooled connections.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TlrSettingsChangeListener implements SmartLifecycle {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration RECONNECT_DELAY = Duration.ofSeconds(30);
+
+  private final DataSourceProperties dataSourceProperties;
+  private final TlrSettingsService tlrSettingsService;
+  private final TlrSettingsCacheProperties cacheProperties;
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  @Override
+  public void start() {
+    if (!cacheProperties.isEnabled() || !cacheProperties.isChangeNotificationsEnabled()) {
+      log.info("start:: TLR settings change notifications are disabled");
+      return;
+    }
+    running = true;
+    listenerThread = Thread.ofVirtual()
+      .name("tlr-settings-change-listener")
+      .start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = openConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + TLR_SETTINGS_CHANGED_CHANNEL);
+        }
+        log.info("listen:: listening to channel {}", TLR_SETTINGS_CHANGED_CHANNEL);
+        // changes could have been missed while there was no connection
+        tlrSettingsService.clearCache();
+        receiveNotifications(connection.unwrap(PGConnection.class));
+      } catch (SQLException e) {
+        if (running) {
+          log.warn("listen:: failed to listen to channel {}, retrying in {}",
+            TLR_SETTINGS_CHANGED_CHANNEL, RECONNECT_DELAY, e);
+          sleep(RECONNECT_DELAY);
+        }
+      }
+    }
+    log.info("listen:: stopped listening to channel {}", TLR_SETTINGS_CHANGED_CHANNEL);
+  }
+
+  private Connection openConnection() throws SQLException {
+    return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+      dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+  }
+
+  private void receiveNotifications(PGConnection connection) throws SQLException {
+    while (running) {
+      PGNotification[] notifications = connection.getNotifications((int) POLL_TIMEOUT.toMillis());
+      if (notifications == null) {
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        log.info("receiveNotifications:: TLR settings of tenant {} were changed",
+          notification.getParameter());
+        tlrSettingsService.evictCache(notification.getParameter());
+      }
+    }
+  }
+
+  private void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.repository;
+
+import java.util.Date;
+
+import org.folio.domain.entity.EcsTlrIdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface EcsTlrIdempotencyKeyRepository
+  extends JpaRepository<EcsTlrIdempotencyKeyEntity, String> {
+
+  // unlike save(), does not overwrite a key which was claimed by another request
+  @Modifying
+  @Transactional
+  @Query(nativeQuery = true, value = """
+    INSERT INTO ecs_tlr_idempotency_key (idempotency_key, status, async, request_hash,
+      created_date)
+    VALUES (?1, ?2, ?3, ?4, ?5)
+    ON CONFLICT DO NOTHING
+    """)
+  int insertIfAbsent(String idempotencyKey, String status, boolean async, String requestHash,
+    Date createdDate);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM EcsTlrIdempotencyKeyEntity k WHERE k.createdDate < ?1")
+  int deleteByCreatedDateBefore(Date createdDate);
+}
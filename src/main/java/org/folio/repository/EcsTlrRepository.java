@@ -1,13 +1,16 @@
 package org.folio.repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.folio.domain.entity.EcsTlrEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface EcsTlrRepository extends JpaRepository<EcsTlrEntity, UUID> {
@@ -16,6 +19,8 @@ public interface EcsTlrRepository extends JpaRepository<EcsTlrEntity, UUID> {
   Optional<EcsTlrEntity> findByInstanceId(UUID instanceId);
   List<EcsTlrEntity> findByPrimaryRequestIdIn(List<UUID> primaryRequestIds);
   List<EcsTlrEntity> findByItemId(UUID itemId);
+  List<EcsTlrEntity> findByCreationStepInAndCreationStepDateBefore(List<String> creationSteps,
+    Date creationStepDate);
 
   @Query("""
     SELECT ecsr from EcsTlrEntity ecsr
@@ -26,4 +31,16 @@ public interface EcsTlrRepository extends JpaRepository<EcsTlrEntity, UUID> {
         'Open - In transit', 'Open - Awaiting delivery')
     """)
   List<EcsTlrEntity> findOpenRequests(UUID requesterId, UUID instanceId);
+
+  // succeeds only for the caller which saw the creation step as it is persisted, so that
+  // creation of an ECS TLR is run by a single worker across all module instances
+  @Modifying
+  @Transactional
+  @Query("""
+    UPDATE EcsTlrEntity ecsr SET ecsr.creationStepDate = ?4
+    WHERE ecsr.id = ?1
+    AND ecsr.creationStep = ?2
+    AND ecsr.creationStepDate = ?3
+    """)
+  int claimCreation(UUID id, String creationStep, Date creationStepDate, Date claimedDate);
 }
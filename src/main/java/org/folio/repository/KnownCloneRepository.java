@@ -0,0 +1,19 @@
+package org.folio.repository;
+
+import java.util.Date;
+
+import org.folio.domain.entity.KnownCloneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface KnownCloneRepository
+  extends JpaRepository<KnownCloneEntity, KnownCloneEntity.KnownCloneId> {
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM KnownCloneEntity c WHERE c.registeredDate IS NULL " +
+    "OR c.registeredDate < ?1")
+  int deleteByRegisteredDateBefore(Date registeredDate);
+}
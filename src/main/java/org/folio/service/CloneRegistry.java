@@ -0,0 +1,12 @@
+package org.folio.service;
+
+/**
+ * Keeps track of clones known to exist in current tenant, so that they are not looked up
+ * every time they are needed. State of a clone is a value which can change in time, a clone is
+ * only considered known when its registered state matches the expected one.
+ */
+public interface CloneRegistry {
+  boolean isKnownToExist(String type, String id, String state);
+  void registerExisting(String type, String id, String state);
+  void forget(String type, String id);
+}
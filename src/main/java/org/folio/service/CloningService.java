@@ -2,4 +2,5 @@ package org.folio.service;
 
 public interface CloningService<T> {
   T clone(T original);
+  void forget(T original);
 }
@@ -2,6 +2,7 @@ package org.folio.service;
 
 import java.util.Collection;
 
+import org.folio.domain.ConsortiumCacheState;
 import org.folio.domain.dto.SharingInstance;
 import org.folio.domain.dto.Tenant;
 import org.folio.domain.dto.TenantCollection;
@@ -11,4 +12,6 @@ public interface ConsortiaService {
   Collection<Tenant> getAllConsortiumTenants();
   String getCentralTenantId();
   SharingInstance shareInstance(String instanceId, String targetTenantId);
+  ConsortiumCacheState getCacheState();
+  void refreshCache();
 }
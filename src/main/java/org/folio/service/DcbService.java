@@ -17,4 +17,5 @@ public interface DcbService {
   TransactionStatusResponse getTransactionStatus(UUID transactionId, String tenantId);
   void updateTransactionStatus(UUID transactionId, TransactionStatus.StatusEnum newStatus,
     String tenantId);
+  void cancelTransaction(UUID transactionId, String tenantId);
 }
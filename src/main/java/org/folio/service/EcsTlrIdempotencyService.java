@@ -0,0 +1,19 @@
+package org.folio.service;
+
+import java.util.function.Function;
+
+import org.folio.domain.IdempotentEcsTlrCreation;
+import org.folio.domain.dto.EcsTlr;
+
+/**
+ * Makes creation of ECS TLRs safe to retry. The first request with a key claims it and runs the
+ * creation, a repeated request with the same body gets the ECS TLR created with the key or waits
+ * for the creation which is still in flight. A key is released when its creation fails before
+ * any request is placed, the creation is given a callback to run right before that. A key is
+ * deleted once it expires.
+ */
+public interface EcsTlrIdempotencyService {
+  IdempotentEcsTlrCreation create(String idempotencyKey, boolean async, EcsTlr ecsTlr,
+    Function<Runnable, EcsTlr> creation);
+  void deleteExpiredKeys();
+}
@@ -1,13 +1,22 @@
 package org.folio.service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.dto.EcsTlrBatchResult;
+import org.folio.domain.dto.EcsTlrCreationStatus;
 
 public interface EcsTlrService {
   Optional<EcsTlr> get(UUID requestId);
   EcsTlr create(EcsTlr ecsTlr);
+  // onPlacement is run right before the first request of the ECS TLR is placed
+  EcsTlr create(EcsTlr ecsTlr, Runnable onPlacement);
+  EcsTlr createAsync(EcsTlr ecsTlr);
+  List<EcsTlrBatchResult> createBatch(List<EcsTlr> ecsTlrs);
+  Optional<EcsTlrCreationStatus> getCreationStatus(UUID requestId);
+  void resumeInterruptedCreations();
   boolean update(UUID requestId, EcsTlr ecsTlr);
   boolean delete(UUID requestId);
 }
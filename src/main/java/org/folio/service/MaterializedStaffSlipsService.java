@@ -0,0 +1,25 @@
+package org.folio.service;
+
+import java.util.Optional;
+
+import org.folio.domain.MaterializedStaffSlips;
+import org.folio.domain.dto.Item;
+import org.folio.domain.dto.Request;
+import org.folio.support.kafka.KafkaEvent;
+
+/**
+ * Keeps requests and items which staff slips are built from up to date between full searches.
+ * An entry is only returned while it is younger than the configured max age and has not been
+ * invalidated by an event which it can not apply, otherwise staff slips are built from scratch
+ * and the entry is replaced. Events consumed while an entry is being rebuilt are buffered and
+ * applied to the new entry when it is saved, so that the full search does not overwrite them.
+ */
+public interface MaterializedStaffSlipsService {
+  boolean isEnabled();
+  Optional<MaterializedStaffSlips> find(String servicePointId, String slipsType);
+  void startRebuild(String servicePointId, String slipsType);
+  void save(MaterializedStaffSlips staffSlips);
+  void finishRebuild(String servicePointId, String slipsType);
+  void handleRequestEvent(KafkaEvent<Request> event);
+  void handleItemEvent(KafkaEvent<Item> event);
+}
@@ -0,0 +1,24 @@
+package org.folio.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public interface ParallelExecutionService {
+  <T, R> List<R> mapInParallel(Collection<T> inputs, Function<T, R> mapper);
+  <T, R> List<R> mapInParallel(Collection<T> inputs, Function<T, R> mapper, int maxParallelism);
+  <T, R> Map<T, R> mapInParallelSkippingFailures(Collection<T> inputs, Function<T, R> mapper,
+    int maxParallelism, Duration timeout);
+  <T> CompletableFuture<T> supplyAsync(Supplier<T> task);
+  // detached tasks may outlive the incoming request, so they do not share its client call memo
+  <T> CompletableFuture<T> supplyDetached(Supplier<T> task);
+  <T> CompletableFuture<T> supplyDetached(Supplier<T> task, Executor executor);
+  // context and client call memo are captured when the executor is created rather than when a
+  // task is submitted, so that stages depending on other stages can run with them as well
+  Executor currentContextExecutor();
+}
@@ -0,0 +1,14 @@
+package org.folio.service;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.folio.domain.type.ReferenceDataType;
+
+public interface ReferenceDataCacheService {
+  <E> Collection<E> findByIds(ReferenceDataType type, Collection<String> ids,
+    Function<E, String> idExtractor, Function<Collection<String>, Collection<E>> loader);
+  <T> T find(ReferenceDataType type, Object key, Supplier<T> loader);
+  void evict(String cacheName);
+}
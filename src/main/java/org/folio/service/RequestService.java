@@ -3,6 +3,7 @@ package org.folio.service;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.folio.domain.RequestWrapper;
 import org.folio.domain.dto.CirculationItem;
@@ -33,7 +34,9 @@ public interface RequestService {
   Request getRequestFromStorage(String requestId);
   Collection<Request> getRequestsFromStorage(CqlQuery query, String idIndex, Collection<String> ids);
   Collection<Request> getRequestsFromStorage(CqlQuery query);
+  Stream<Request> streamRequestsFromStorage(CqlQuery query);
   Request updateRequestInStorage(Request request, String tenantId);
+  void updateRequestInCirculation(Request request, String tenantId);
   List<Request> getRequestsQueueByInstanceId(String instanceId, String tenantId);
   List<Request> getRequestsQueueByInstanceId(String instanceId);
   List<Request> getRequestsQueueByItemId(String itemId);
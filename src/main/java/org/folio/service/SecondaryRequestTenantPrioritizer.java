@@ -0,0 +1,15 @@
+package org.folio.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.folio.domain.dto.Request;
+
+/**
+ * Orders lending tenants in which a secondary request is attempted. Top-ranked tenants are
+ * checked for eligibility concurrently, tenants in which the request can not be placed are moved
+ * to the end, otherwise the ranking is kept. No request is created by the check.
+ */
+public interface SecondaryRequestTenantPrioritizer {
+  List<String> prioritize(Request request, String patronGroupId, Collection<String> tenantIds);
+}
@@ -0,0 +1,15 @@
+package org.folio.service;
+
+import java.util.Collection;
+
+import org.folio.domain.ServicePointLocations;
+
+/**
+ * Consortium-wide index of locations by their primary service point, so that staff slips only
+ * have to contact tenants which have locations of a service point. The index is built on first
+ * use and rebuilt once it expires or is invalidated.
+ */
+public interface ServicePointLocationIndex {
+  ServicePointLocations findLocations(Collection<String> servicePointIds);
+  void invalidate();
+}
@@ -1,9 +1,31 @@
 package org.folio.service;
 
 import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import org.folio.domain.StaffSlipsPage;
 import org.folio.domain.dto.StaffSlip;
 
 public interface StaffSlipsService {
-  Collection<StaffSlip> getStaffSlips(String servicePointId);
+  default Collection<StaffSlip> getStaffSlips(String servicePointId) {
+    return getStaffSlips(servicePointId, null);
+  }
+
+  /**
+   * Builds staff slips for requests which are relevant for the service point. When {@code since}
+   * is provided, only requests created or updated after it are considered.
+   */
+  Collection<StaffSlip> getStaffSlips(String servicePointId, Date since);
+  StaffSlipsPage getStaffSlipsPage(String servicePointId, Date since, Integer limit, String cursor);
+  void streamStaffSlips(String servicePointId, Date since,
+    Consumer<Collection<StaffSlip>> batchConsumer);
+
+  /**
+   * Builds staff slips for several service points at once. Locations, items, requests and data
+   * displayed on staff slips are only searched for once for all service points.
+   */
+  Map<String, Collection<StaffSlip>> getStaffSlipsByServicePoint(Collection<String> servicePointIds,
+    Date since);
 }
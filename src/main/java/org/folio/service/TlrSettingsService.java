@@ -2,9 +2,13 @@ package org.folio.service;
 
 import java.util.Optional;
 
+import org.folio.domain.CachedTlrSettings;
 import org.folio.domain.dto.TlrSettings;
 
 public interface TlrSettingsService {
   Optional<TlrSettings> getTlrSettings();
+  CachedTlrSettings getCachedTlrSettings();
   Optional<TlrSettings> updateTlrSettings(TlrSettings tlrSettings);
+  void evictCache(String tenantId);
+  void clearCache();
 }
@@ -1,6 +1,7 @@
 package org.folio.service;
 
 import java.util.Collection;
+import java.util.Set;
 
 import org.folio.domain.dto.User;
 
@@ -10,4 +11,5 @@ public interface UserService {
   User update(User user);
   Collection<User> find(Collection<String> userIds);
   boolean isInactiveInTenant(String userId, String tenantId);
+  Set<String> findInactiveInTenant(Collection<String> userIds, String tenantId);
 }
@@ -18,11 +18,12 @@ import lombok.extern.log4j.Log4j2;
 public class AddressTypeServiceImpl implements AddressTypeService {
 
   private final AddressTypeClient addressTypeClient;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public Collection<AddressType> findAddressTypes(Collection<String> ids) {
     log.info("findAddressTypes:: fetching address types by {} IDs", ids.size());
     log.debug("findAddressTypes:: ids={}", ids);
-    return BulkFetcher.fetch(addressTypeClient, ids, AddressTypes::getAddressTypes);
+    return bulkFetcher.fetch(addressTypeClient, ids, AddressTypes::getAddressTypes);
   }
 }
@@ -51,8 +51,15 @@ public class CheckOutServiceImpl implements CheckOutService {
       () -> retrieveLoanPolicy(checkOutRequest, headersFromContext));
     loanPolicyCloningService.clone(loanPolicy);
 
-    var checkOutResponse = checkOutClient.checkOut(checkOutRequest.forceLoanPolicyId(
-      UUID.fromString(loanPolicy.getId())));
+    CheckOutResponse checkOutResponse;
+    try {
+      checkOutResponse = checkOutClient.checkOut(checkOutRequest.forceLoanPolicyId(
+        UUID.fromString(loanPolicy.getId())));
+    } catch (RuntimeException e) {
+      // failure could be caused by a loan policy clone which no longer exists
+      loanPolicyCloningService.forget(loanPolicy);
+      throw e;
+    }
     log.info("checkOut:: item checked out");
 
     return checkOutResponse;
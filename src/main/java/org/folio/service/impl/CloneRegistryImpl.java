@@ -0,0 +1,129 @@
+package org.folio.service.impl;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.folio.config.CloneRegistryProperties;
+import org.folio.domain.entity.KnownCloneEntity;
+import org.folio.domain.entity.KnownCloneEntity.KnownCloneId;
+import org.folio.repository.KnownCloneRepository;
+import org.folio.service.CloneRegistry;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class CloneRegistryImpl implements CloneRegistry {
+
+  public static final String KNOWN_CLONES_CACHE = "known-clones";
+
+  private final FolioExecutionContext folioContext;
+  private final CacheManager cacheManager;
+  private final CloneRegistryProperties properties;
+  private final KnownCloneRepository knownCloneRepository;
+
+  @Override
+  public boolean isKnownToExist(String type, String id, String state) {
+    if (!properties.isEnabled() || id == null) {
+      return false;
+    }
+
+    KnownCloneKey key = buildKey(type, id);
+    String knownState = getCache().get(key, String.class);
+    if (knownState == null && properties.isPersistent()) {
+      knownState = findPersistedState(type, id);
+      if (knownState != null) {
+        getCache().put(key, knownState);
+      }
+    }
+
+    boolean isKnown = knownState != null && knownState.equals(normalize(state));
+    log.debug("isKnownToExist:: {}: {}", key, isKnown);
+    return isKnown;
+  }
+
+  @Override
+  public void registerExisting(String type, String id, String state) {
+    if (!properties.isEnabled() || id == null) {
+      return;
+    }
+
+    KnownCloneKey key = buildKey(type, id);
+    log.debug("registerExisting:: registering {}", key);
+    getCache().put(key, normalize(state));
+    if (properties.isPersistent()) {
+      try {
+        knownCloneRepository.save(new KnownCloneEntity(type, id, normalize(state), new Date()));
+      } catch (Exception e) {
+        log.warn("registerExisting:: failed to persist {}", key, e);
+      }
+    }
+  }
+
+  @Override
+  public void forget(String type, String id) {
+    if (!properties.isEnabled() || id == null) {
+      return;
+    }
+
+    KnownCloneKey key = buildKey(type, id);
+    log.info("forget:: forgetting {}", key);
+    getCache().evict(key);
+    if (properties.isPersistent()) {
+      try {
+        knownCloneRepository.deleteById(new KnownCloneId(type, id));
+      } catch (Exception e) {
+        log.warn("forget:: failed to delete persisted {}", key, e);
+      }
+    }
+  }
+
+  private String findPersistedState(String type, String id) {
+    try {
+      KnownCloneEntity persistedClone = knownCloneRepository.findById(new KnownCloneId(type, id))
+        .orElse(null);
+      if (persistedClone == null) {
+        return null;
+      }
+
+      // persisted clones expire just like the cached ones, the clone could have been deleted since
+      Date expirationDate = new Date(System.currentTimeMillis() - properties.getTtl().toMillis());
+      Date registeredDate = persistedClone.getRegisteredDate();
+      if (registeredDate == null || registeredDate.before(expirationDate)) {
+        int deletedCount = knownCloneRepository.deleteByRegisteredDateBefore(expirationDate);
+        log.info("findPersistedState:: {} {} has expired, deleted {} expired clones", type, id,
+          deletedCount);
+        return null;
+      }
+
+      return persistedClone.getState();
+    } catch (Exception e) {
+      log.warn("findPersistedState:: failed to look up {} {}", type, id, e);
+      return null;
+    }
+  }
+
+  private KnownCloneKey buildKey(String type, String id) {
+    return new KnownCloneKey(folioContext.getTenantId(), type, id);
+  }
+
+  private Cache getCache() {
+    Cache cache = cacheManager.getCache(KNOWN_CLONES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + KNOWN_CLONES_CACHE);
+    }
+    return cache;
+  }
+
+  private static String normalize(String state) {
+    return Objects.toString(state, "");
+  }
+
+  private record KnownCloneKey(String tenantId, String type, String id) { }
+}
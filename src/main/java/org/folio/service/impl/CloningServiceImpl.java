@@ -2,6 +2,7 @@ package org.folio.service.impl;
 
 import java.util.function.Function;
 
+import org.folio.service.CloneRegistry;
 import org.folio.service.CloningService;
 import org.springframework.stereotype.Service;
 
@@ -14,10 +15,16 @@ import lombok.extern.log4j.Log4j2;
 public abstract class CloningServiceImpl<T> implements CloningService<T> {
 
   private final Function<T, String> idExtractor;
+  private final CloneRegistry cloneRegistry;
 
   public T clone(T original) {
     final String id = idExtractor.apply(original);
     final String type = original.getClass().getSimpleName();
+    if (cloneRegistry.isKnownToExist(type, id, getState(original))) {
+      log.info("clone:: {} {} is known to exist, skipping lookup", type, id);
+      return buildClone(original);
+    }
+
     log.info("clone:: looking for {} {} ", type, id);
     T clone = find(id);
     if (clone != null) {
@@ -27,12 +34,24 @@ public abstract class CloningServiceImpl<T> implements CloningService<T> {
       clone = create(buildClone(original));
       log.info("clone:: {} {} created", type, id);
     }
+    if (clone != null) {
+      cloneRegistry.registerExisting(type, id, getState(clone));
+    }
     return clone;
   }
 
+  public void forget(T original) {
+    cloneRegistry.forget(original.getClass().getSimpleName(), idExtractor.apply(original));
+  }
+
   protected abstract T find(String objectId);
 
   protected abstract T create(T clone);
 
   protected abstract T buildClone(T original);
+
+  // properties of a clone which can get out of sync with the original
+  protected String getState(T object) {
+    return null;
+  }
 }
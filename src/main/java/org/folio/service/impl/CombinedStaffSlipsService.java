@@ -0,0 +1,85 @@
+package org.folio.service.impl;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.CombinedStaffSlips;
+import org.folio.domain.dto.StaffSlip;
+import org.folio.service.AddressTypeService;
+import org.folio.service.ConsortiaService;
+import org.folio.service.DepartmentService;
+import org.folio.service.InventoryService;
+import org.folio.service.LocationService;
+import org.folio.service.MaterializedStaffSlipsService;
+import org.folio.service.ParallelExecutionService;
+import org.folio.service.RequestService;
+import org.folio.service.ServicePointLocationIndex;
+import org.folio.service.ServicePointService;
+import org.folio.service.UserGroupService;
+import org.folio.service.UserService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Builds pick slips and search slips of a service point in one pass. Locations, items and
+ * requests are searched for with relevant statuses and types of both kinds of staff slips, and
+ * data displayed on staff slips is fetched once for all requests.
+ */
+@Service
+@Log4j2
+public class CombinedStaffSlipsService extends StaffSlipsServiceImpl {
+
+  private final PickSlipsService pickSlipsService;
+  private final SearchSlipsService searchSlipsService;
+
+  @Autowired
+  public CombinedStaffSlipsService(PickSlipsService pickSlipsService,
+    SearchSlipsService searchSlipsService, LocationService locationService,
+    InventoryService inventoryService, RequestService requestService,
+    ConsortiaService consortiaService, FolioExecutionContextService contextService,
+    FolioExecutionContext folioContext, UserService userService,
+    UserGroupService userGroupService, DepartmentService departmentService,
+    AddressTypeService addressTypeService, ServicePointService servicePointService,
+    ParallelExecutionService parallelExecutionService, StaffSlipsProperties staffSlipsProperties,
+    CacheManager cacheManager, MaterializedStaffSlipsService materializedStaffSlipsService,
+    ServicePointLocationIndex locationIndex) {
+
+    super(union(pickSlipsService.getRelevantItemStatuses(),
+        searchSlipsService.getRelevantItemStatuses()),
+      union(pickSlipsService.getRelevantRequestStatuses(),
+        searchSlipsService.getRelevantRequestStatuses()),
+      union(pickSlipsService.getRelevantRequestTypes(),
+        searchSlipsService.getRelevantRequestTypes()),
+      locationService, inventoryService, requestService, consortiaService, contextService,
+      folioContext, userService, userGroupService, departmentService, addressTypeService,
+      servicePointService, parallelExecutionService, staffSlipsProperties, cacheManager,
+      materializedStaffSlipsService, locationIndex);
+    this.pickSlipsService = pickSlipsService;
+    this.searchSlipsService = searchSlipsService;
+  }
+
+  public CombinedStaffSlips getCombinedStaffSlips(String servicePointId, Date since) {
+    log.info("getCombinedStaffSlips:: building pick slips and search slips for service point {}, " +
+      "since: {}", servicePointId, since);
+    Map<StaffSlipsServiceImpl, Collection<StaffSlip>> staffSlips = buildStaffSlipsOfTypes(
+      servicePointId, since, List.of(pickSlipsService, searchSlipsService));
+
+    return new CombinedStaffSlips(staffSlips.get(pickSlipsService),
+      staffSlips.get(searchSlipsService));
+  }
+
+  private static <E extends Enum<E>> EnumSet<E> union(EnumSet<E> first, EnumSet<E> second) {
+    EnumSet<E> union = EnumSet.copyOf(first);
+    union.addAll(second);
+    return union;
+  }
+}
@@ -2,12 +2,17 @@ package org.folio.service.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.folio.client.ConsortiaClient;
 import org.folio.client.ConsortiaConfigurationClient;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.domain.ConsortiumCacheState;
 import org.folio.domain.dto.ConsortiaConfiguration;
 import org.folio.domain.dto.SharingInstance;
 import org.folio.domain.dto.Status;
@@ -16,6 +21,9 @@ import org.folio.domain.dto.TenantCollection;
 import org.folio.service.ConsortiaService;
 import org.folio.service.ConsortiumService;
 import org.folio.service.UserTenantsService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -25,21 +33,33 @@ import lombok.extern.log4j.Log4j2;
 @Service
 @RequiredArgsConstructor
 public class ConsortiaServiceImpl implements ConsortiaService {
+  public static final String CONSORTIUM_TENANTS_CACHE = "consortium-tenants";
+  public static final String CENTRAL_TENANT_ID_CACHE = "central-tenant-id";
+
   private final ConsortiaClient consortiaClient;
   private final ConsortiaConfigurationClient consortiaConfigurationClient;
   private final UserTenantsService userTenantsService;
   private final ConsortiumService consortiumService;
+  private final FolioExecutionContext folioContext;
+  private final CacheManager cacheManager;
+  private final ConsortiumCacheProperties cacheProperties;
 
   @Override
   public TenantCollection getAllConsortiumTenants(String consortiumId) {
-    return consortiaClient.getConsortiaTenants(consortiumId);
+    // cached tenants are never handed out, so that callers can't modify them
+    List<Tenant> tenants = Optional.ofNullable(getCached(CONSORTIUM_TENANTS_CACHE, consortiumId,
+        () -> fetchConsortiumTenants(consortiumId)))
+      .orElseGet(Collections::emptyList);
+    return new TenantCollection()
+      .tenants(tenants.stream().map(ConsortiaServiceImpl::copy).toList())
+      .totalRecords(tenants.size());
   }
 
   @Override
   public Collection<Tenant> getAllConsortiumTenants() {
     log.info("getAllConsortiumTenants:: fetching consortium tenants");
     List<Tenant> tenants = Optional.ofNullable(consortiumService.getCurrentConsortiumId())
-      .map(consortiaClient::getConsortiaTenants)
+      .map(this::getAllConsortiumTenants)
       .map(TenantCollection::getTenants)
       .orElseGet(Collections::emptyList);
 
@@ -50,9 +70,17 @@ public class ConsortiaServiceImpl implements ConsortiaService {
   @Override
   public String getCentralTenantId() {
     log.info("getCentralTenantId:: resolving central tenant ID");
-    String centralTenantId = Optional.ofNullable(consortiaConfigurationClient.getConfiguration())
-      .map(ConsortiaConfiguration::getCentralTenantId)
-      .orElseThrow();
+    // tenant context of a consortium member already knows central tenant ID
+    String centralTenantIdFromContext = consortiumService.getCentralTenantId();
+    if (centralTenantIdFromContext != null) {
+      log.info("getCentralTenantId:: central tenant ID: {}", centralTenantIdFromContext);
+      return centralTenantIdFromContext;
+    }
+
+    String centralTenantId = getCached(CENTRAL_TENANT_ID_CACHE, folioContext.getTenantId(),
+      () -> Optional.ofNullable(consortiaConfigurationClient.getConfiguration())
+        .map(ConsortiaConfiguration::getCentralTenantId)
+        .orElseThrow());
     log.info("getCentralTenantId:: central tenant ID: {}", centralTenantId);
     return centralTenantId;
   }
@@ -79,4 +107,88 @@ public class ConsortiaServiceImpl implements ConsortiaService {
 
     return sharingResponse;
   }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ConsortiumCacheState getCacheState() {
+    Map<String, Collection<String>> tenantIdsByConsortiumId = new HashMap<>();
+    getCacheEntries(CONSORTIUM_TENANTS_CACHE).forEach((consortiumId, tenants) ->
+      tenantIdsByConsortiumId.put(String.valueOf(consortiumId),
+        ((List<Tenant>) tenants).stream()
+          .map(Tenant::getId)
+          .toList()));
+
+    Map<String, String> centralTenantIdByTenantId = new HashMap<>();
+    getCacheEntries(CENTRAL_TENANT_ID_CACHE).forEach((tenantId, centralTenantId) ->
+      centralTenantIdByTenantId.put(String.valueOf(tenantId), String.valueOf(centralTenantId)));
+
+    return new ConsortiumCacheState(tenantIdsByConsortiumId, centralTenantIdByTenantId);
+  }
+
+  @Override
+  public void refreshCache() {
+    log.info("refreshCache:: evicting cached consortium tenants and central tenant IDs");
+    getCache(CONSORTIUM_TENANTS_CACHE).clear();
+    getCache(CENTRAL_TENANT_ID_CACHE).clear();
+  }
+
+  private List<Tenant> fetchConsortiumTenants(String consortiumId) {
+    List<Tenant> tenants = Optional.ofNullable(consortiaClient.getConsortiaTenants(consortiumId))
+      .map(TenantCollection::getTenants)
+      .orElseGet(Collections::emptyList);
+
+    if (tenants.isEmpty()) {
+      // an empty result is most likely transient, it should not stick until the entry expires
+      log.warn("fetchConsortiumTenants:: no tenants found for consortium {}", consortiumId);
+      return null;
+    }
+    return tenants.stream()
+      .map(ConsortiaServiceImpl::copy)
+      .toList();
+  }
+
+  private static Tenant copy(Tenant tenant) {
+    return new Tenant()
+      .id(tenant.getId())
+      .code(tenant.getCode())
+      .name(tenant.getName())
+      .isCentral(tenant.getIsCentral())
+      .isDeleted(tenant.getIsDeleted());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T getCached(String cacheName, String key, Supplier<T> loader) {
+    if (!cacheProperties.isEnabled() || key == null) {
+      return loader.get();
+    }
+
+    Cache cache = getCache(cacheName);
+    Cache.ValueWrapper cachedValue = cache.get(key);
+    if (cachedValue != null) {
+      log.debug("getCached:: cache {} hit: {}", cacheName, key);
+      return (T) cachedValue.get();
+    }
+
+    log.info("getCached:: cache {} miss: {}", cacheName, key);
+    T value = loader.get();
+    if (value != null) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  private Map<Object, Object> getCacheEntries(String cacheName) {
+    return getCache(cacheName).getNativeCache()
+      instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache
+      ? Map.copyOf(nativeCache.asMap())
+      : Map.of();
+  }
+
+  private Cache getCache(String cacheName) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + cacheName);
+    }
+    return cache;
+  }
 }
@@ -3,14 +3,22 @@ package org.folio.service.impl;
 import static org.apache.commons.lang3.ObjectUtils.requireNonEmpty;
 import static org.apache.commons.lang3.StringUtils.isAnyBlank;
 
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.domain.TenantContext;
 import org.folio.domain.dto.UserTenant;
 import org.folio.service.ConsortiumService;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.UserTenantsService;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -21,10 +29,15 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ConsortiumServiceImpl implements ConsortiumService {
 
-  private static final Map<String, TenantContext> CACHE = new ConcurrentHashMap<>();
+  public static final String TENANT_CONTEXT_CACHE = "tenant-context";
 
   private final UserTenantsService userTenantsService;
   private final FolioExecutionContext folioContext;
+  private final CacheManager cacheManager;
+  private final TenantContextCacheProperties cacheProperties;
+  private final ParallelExecutionService parallelExecutionService;
+  private final Set<String> tenantsBeingRefreshed = ConcurrentHashMap.newKeySet();
+  private final AtomicLong cacheHits = new AtomicLong();
 
   @Override
   public String getCurrentTenantId() {
@@ -61,23 +74,71 @@ public class ConsortiumServiceImpl implements ConsortiumService {
 
   private TenantContext getTenantContext(String tenantId) {
     requireNonEmpty(tenantId, "tenantId can not be null or empty");
-    TenantContext cachedContext = CACHE.get(tenantId);
+    TenantContext cachedContext = getCache().get(tenantId, TenantContext.class);
     if (cachedContext != null) {
-      log.info("getTenantContext:: cache hit: {}", cachedContext);
+      logCacheHit(cachedContext);
+      if (isDueForRefresh(cachedContext)) {
+        refreshInBackground(tenantId);
+      }
       return cachedContext;
     }
 
     log.info("getTenantContext:: cache miss for tenant {}", tenantId);
+    return resolveTenantContext(tenantId);
+  }
+
+  private TenantContext resolveTenantContext(String tenantId) {
     UserTenant userTenant = userTenantsService.findFirstUserTenant();
+    TenantContext context;
     if (isValid(userTenant)) {
-      TenantContext newContext = new TenantContext(tenantId, userTenant.getConsortiumId(),
-        userTenant.getCentralTenantId());
-      addToCache(newContext);
-      return newContext;
+      context = new TenantContext(tenantId, userTenant.getConsortiumId(),
+        userTenant.getCentralTenantId(), Instant.now());
+    } else {
+      log.info("resolveTenantContext:: tenant {} is not a consortium member", tenantId);
+      context = TenantContext.nonMember(tenantId);
+    }
+
+    log.info("resolveTenantContext:: caching: {}", context);
+    getCache().put(tenantId, context);
+    return context;
+  }
+
+  // only positive results are refreshed, negative ones expire soon enough
+  private boolean isDueForRefresh(TenantContext context) {
+    return context.isConsortiumMember() && Duration.between(context.resolvedAt(), Instant.now())
+      .compareTo(cacheProperties.getRefreshAfter()) >= 0;
+  }
+
+  private void refreshInBackground(String tenantId) {
+    if (!tenantsBeingRefreshed.add(tenantId)) {
+      return;
     }
 
-    log.info("getTenantContext:: building temporary empty context for tenant {}", tenantId);
-    return new TenantContext(tenantId, null, null);
+    log.info("refreshInBackground:: refreshing tenant context of tenant {}", tenantId);
+    parallelExecutionService.supplyDetached(() -> resolveTenantContext(tenantId))
+      .whenComplete((context, throwable) -> {
+        tenantsBeingRefreshed.remove(tenantId);
+        if (throwable != null) {
+          log.warn("refreshInBackground:: failed to refresh tenant context of tenant {}, " +
+            "cached context will be used until it expires", tenantId, throwable);
+        }
+      });
+  }
+
+  private void logCacheHit(TenantContext context) {
+    long hits = cacheHits.incrementAndGet();
+    int sampleRate = Math.max(1, cacheProperties.getHitLogSampleRate());
+    if (hits % sampleRate == 0) {
+      log.debug("logCacheHit:: cache hit #{}: {}", hits, context);
+    }
+  }
+
+  private Cache getCache() {
+    Cache cache = cacheManager.getCache(TENANT_CONTEXT_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + TENANT_CONTEXT_CACHE);
+    }
+    return cache;
   }
 
   private static boolean isValid(UserTenant userTenant) {
@@ -92,17 +153,4 @@ public class ConsortiumServiceImpl implements ConsortiumService {
     return true;
   }
 
-  private static void addToCache(TenantContext context) {
-    log.info("addToCache:: caching: {}", context);
-    CACHE.put(context.tenantId(), context);
-    log.debug("addToCache:: cache: {}", CACHE);
-  }
-
-  public static void clearCache() {
-    log.info("clearCache:: clearing cache");
-    CACHE.clear();
-  }
-
-  private record TenantContext(String tenantId, String consortiumId, String centralTenantId) { }
-
 }
@@ -178,6 +178,27 @@ public class DcbServiceImpl implements DcbService {
     }
   }
 
+  // unlike updateTransactionStatus, failures are not swallowed, so that the caller can retry
+  @Override
+  public void cancelTransaction(UUID transactionId, String tenantId) {
+    log.info("cancelTransaction:: cancelling transaction {} in tenant {}", transactionId, tenantId);
+    TransactionStatusResponse transaction = getTransactionStatus(transactionId, tenantId);
+    if (transaction == null) {
+      log.warn("cancelTransaction:: transaction {} not found in tenant {}", transactionId,
+        tenantId);
+      return;
+    }
+    if (StatusEnum.fromValue(transaction.getStatus().getValue()) == CANCELLED) {
+      log.info("cancelTransaction:: transaction {} is already cancelled", transactionId);
+      return;
+    }
+
+    contextService.execute(tenantId, folioContext,
+      () -> dcbTransactionClient.changeDcbTransactionStatus(transactionId.toString(),
+        new TransactionStatus().status(CANCELLED)));
+    log.info("cancelTransaction:: transaction {} cancelled", transactionId);
+  }
+
   private boolean isTransactionStatusChangeAllowed(UUID transactionId, StatusEnum newStatus,
     String tenantId) {
 
@@ -18,12 +18,13 @@ import lombok.extern.log4j.Log4j2;
 public class DepartmentServiceImpl implements DepartmentService {
 
   private final DepartmentClient departmentClient;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public Collection<Department> findDepartments(Collection<String> ids) {
     log.info("findDepartments:: fetching departments by {} IDs", ids.size());
     log.debug("findDepartments:: ids={}", ids);
 
-    return BulkFetcher.fetch(departmentClient, ids, Departments::getDepartments);
+    return bulkFetcher.fetch(departmentClient, ids, Departments::getDepartments);
   }
 }
@@ -0,0 +1,231 @@
+package org.folio.service.impl;
+
+import static org.folio.exception.ExceptionFactory.conflict;
+import static org.folio.exception.ExceptionFactory.notFound;
+import static org.folio.exception.ExceptionFactory.validationError;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.folio.config.IdempotencyKeyProperties;
+import org.folio.domain.IdempotentEcsTlrCreation;
+import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.entity.EcsTlrIdempotencyKeyEntity;
+import org.folio.domain.type.ErrorCode;
+import org.folio.exception.ConflictException;
+import org.folio.repository.EcsTlrIdempotencyKeyRepository;
+import org.folio.service.EcsTlrIdempotencyService;
+import org.folio.service.EcsTlrService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class EcsTlrIdempotencyServiceImpl implements EcsTlrIdempotencyService {
+
+  private static final String IN_PROGRESS = "In progress";
+  private static final String COMPLETED = "Completed";
+  private static final String FAILED = "Failed";
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final EcsTlrIdempotencyKeyRepository idempotencyKeyRepository;
+  private final EcsTlrService ecsTlrService;
+  private final IdempotencyKeyProperties properties;
+  private final FolioExecutionContext folioContext;
+  private final ObjectMapper objectMapper;
+  private final Map<String, Instant> lastCleanupByTenant = new ConcurrentHashMap<>();
+
+  @Override
+  public IdempotentEcsTlrCreation create(String idempotencyKey, boolean async, EcsTlr ecsTlr,
+    Function<Runnable, EcsTlr> creation) {
+
+    log.info("create:: parameters idempotencyKey: {}, async: {}", idempotencyKey, async);
+    validateKey(idempotencyKey);
+    // the body is hashed before creation, which modifies it
+    String requestHash = hash(ecsTlr);
+
+    Instant deadline = Instant.now().plus(properties.getWaitTimeout());
+    while (!claim(idempotencyKey, async, requestHash)) {
+      Optional<EcsTlrIdempotencyKeyEntity> claimedKey =
+        idempotencyKeyRepository.findById(idempotencyKey);
+      if (claimedKey.isPresent()) {
+        EcsTlrIdempotencyKeyEntity key = claimedKey.get();
+        validateRequestHash(key, requestHash);
+        if (COMPLETED.equals(key.getStatus())) {
+          return replay(key);
+        }
+        if (FAILED.equals(key.getStatus())) {
+          throw buildKeyFailedError(idempotencyKey);
+        }
+      }
+      if (Instant.now().isAfter(deadline)) {
+        throw buildKeyInUseError(idempotencyKey);
+      }
+      // a key which disappeared was released by a failed creation and is claimed again
+      if (claimedKey.isPresent()) {
+        waitForCompletion(idempotencyKey);
+      }
+    }
+
+    return new IdempotentEcsTlrCreation(createAndComplete(idempotencyKey, creation), async,
+      false);
+  }
+
+  @Override
+  public void deleteExpiredKeys() {
+    String tenantId = folioContext.getTenantId();
+    Instant now = Instant.now();
+    Instant lastCleanup = lastCleanupByTenant.get(tenantId);
+    if (lastCleanup != null && now.isBefore(lastCleanup.plus(properties.getCleanupInterval()))) {
+      log.debug("deleteExpiredKeys:: last cleanup in tenant {} was at {}, skipping", tenantId,
+        lastCleanup);
+      return;
+    }
+
+    lastCleanupByTenant.put(tenantId, now);
+    int deletedKeys = idempotencyKeyRepository.deleteByCreatedDateBefore(
+      Date.from(now.minus(properties.getTtl())));
+    log.info("deleteExpiredKeys:: {} expired idempotency keys deleted in tenant {}", deletedKeys,
+      tenantId);
+  }
+
+  private boolean claim(String idempotencyKey, boolean async, String requestHash) {
+    boolean claimed = idempotencyKeyRepository.insertIfAbsent(idempotencyKey, IN_PROGRESS, async,
+      requestHash, new Date()) > 0;
+    log.debug("claim:: idempotency key {} claimed: {}", idempotencyKey, claimed);
+    return claimed;
+  }
+
+  // once a request has been placed, releasing the key would let a retry place it again. A key
+  // in progress is never taken over by another request, since its owner may still be placing
+  // requests, it stays in progress until it expires.
+  private EcsTlr createAndComplete(String idempotencyKey, Function<Runnable, EcsTlr> creation) {
+    AtomicBoolean placementStarted = new AtomicBoolean();
+    EcsTlr ecsTlr;
+    try {
+      ecsTlr = creation.apply(() -> placementStarted.set(true));
+    } catch (RuntimeException e) {
+      if (placementStarted.get()) {
+        log.warn("createAndComplete:: creation failed after placing requests, keeping " +
+          "idempotency key {}", idempotencyKey);
+        fail(idempotencyKey);
+      } else {
+        log.warn("createAndComplete:: creation failed, releasing idempotency key {}",
+          idempotencyKey);
+        release(idempotencyKey);
+      }
+      throw e;
+    }
+
+    try {
+      idempotencyKeyRepository.findById(idempotencyKey)
+        .ifPresent(key -> {
+          key.setStatus(COMPLETED);
+          key.setEcsTlrId(UUID.fromString(ecsTlr.getId()));
+          key.setCompletedDate(new Date());
+          idempotencyKeyRepository.save(key);
+        });
+    } catch (Exception e) {
+      // the ECS TLR exists but can not be replayed, so repeated requests must not create it
+      // again: they get 409 for the failed key, or, if that can not be saved either, for the
+      // key in progress until it expires
+      log.error("createAndComplete:: failed to complete idempotency key {} of ECS TLR {}",
+        idempotencyKey, ecsTlr.getId(), e);
+      fail(idempotencyKey);
+    }
+
+    return ecsTlr;
+  }
+
+  private void fail(String idempotencyKey) {
+    try {
+      idempotencyKeyRepository.findById(idempotencyKey)
+        .ifPresent(key -> {
+          key.setStatus(FAILED);
+          key.setCompletedDate(new Date());
+          idempotencyKeyRepository.save(key);
+        });
+    } catch (Exception e) {
+      log.error("fail:: failed to mark idempotency key {} as failed", idempotencyKey, e);
+    }
+  }
+
+  private void release(String idempotencyKey) {
+    try {
+      idempotencyKeyRepository.deleteById(idempotencyKey);
+    } catch (Exception e) {
+      log.error("release:: failed to release idempotency key {}", idempotencyKey, e);
+    }
+  }
+
+  private IdempotentEcsTlrCreation replay(EcsTlrIdempotencyKeyEntity key) {
+    log.info("replay:: idempotency key {} was used to create ECS TLR {}",
+      key.getIdempotencyKey(), key.getEcsTlrId());
+
+    return ecsTlrService.get(key.getEcsTlrId())
+      .map(ecsTlr -> new IdempotentEcsTlrCreation(ecsTlr, key.isAsync(), true))
+      .orElseThrow(() -> notFound("ECS TLR created with the Idempotency-Key no longer exists",
+        ErrorCode.ECS_TLR_NOT_FOUND, Map.of("idempotencyKey", key.getIdempotencyKey(),
+          "ecsTlrId", key.getEcsTlrId().toString())));
+  }
+
+  private void waitForCompletion(String idempotencyKey) {
+    try {
+      Thread.sleep(properties.getPollInterval().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw buildKeyInUseError(idempotencyKey);
+    }
+  }
+
+  private String hash(EcsTlr ecsTlr) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+        .digest(objectMapper.writeValueAsBytes(ecsTlr)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  // keys claimed before request hashes were stored are not validated
+  private static void validateRequestHash(EcsTlrIdempotencyKeyEntity key, String requestHash) {
+    if (key.getRequestHash() != null && !Objects.equals(key.getRequestHash(), requestHash)) {
+      log.warn("validateRequestHash:: idempotency key {} was used with a different request",
+        key.getIdempotencyKey());
+      throw validationError("Idempotency-Key was already used with a different request",
+        ErrorCode.IDEMPOTENCY_KEY_REUSED, Map.of("idempotencyKey", key.getIdempotencyKey()));
+    }
+  }
+
+  private static void validateKey(String idempotencyKey) {
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      throw validationError("Idempotency-Key must be between 1 and 255 characters long",
+        ErrorCode.INVALID_IDEMPOTENCY_KEY, Map.of("idempotencyKey", idempotencyKey));
+    }
+  }
+
+  private static ConflictException buildKeyInUseError(String idempotencyKey) {
+    return conflict("Creation of ECS TLR with the same Idempotency-Key is still in progress",
+      ErrorCode.IDEMPOTENCY_KEY_IN_USE, Map.of("idempotencyKey", idempotencyKey));
+  }
+
+  private static ConflictException buildKeyFailedError(String idempotencyKey) {
+    return conflict("Creation of ECS TLR with the same Idempotency-Key failed after requests " +
+      "were placed", ErrorCode.IDEMPOTENCY_KEY_FAILED, Map.of("idempotencyKey", idempotencyKey));
+  }
+}
@@ -1,34 +1,68 @@
 package org.folio.service.impl;
 
 import static java.util.Optional.of;
+import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.domain.dto.Request.EcsRequestPhaseEnum.INTERMEDIATE;
 import static org.folio.domain.dto.Request.EcsRequestPhaseEnum.PRIMARY;
+import static org.folio.domain.dto.Request.StatusEnum.CLOSED_CANCELLED;
+import static org.folio.domain.type.EcsTlrCreationStep.ACCEPTED;
+import static org.folio.domain.type.EcsTlrCreationStep.COMPENSATING;
+import static org.folio.domain.type.EcsTlrCreationStep.COMPLETED;
+import static org.folio.domain.type.EcsTlrCreationStep.FAILED;
+import static org.folio.domain.type.EcsTlrCreationStep.PRIMARY_REQUEST_CREATED;
+import static org.folio.domain.type.EcsTlrCreationStep.REQUESTS_CREATED;
+import static org.folio.domain.type.EcsTlrCreationStep.SECONDARY_REQUEST_CREATED;
 import static org.folio.domain.type.ErrorCode.ECS_REQUEST_CANNOT_BE_PLACED_FOR_INACTIVE_PATRON;
+import static org.folio.domain.type.ErrorCode.ECS_TLR_BATCH_TOO_LARGE;
 import static org.folio.domain.type.ErrorCode.PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE;
 import static org.folio.exception.ExceptionFactory.validationError;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.apache.commons.lang3.StringUtils;
+import org.folio.config.EcsTlrCreationProperties;
+import org.folio.domain.CachedTlrSettings;
 import org.folio.domain.RequestWrapper;
 import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.dto.EcsTlrBatchResult;
+import org.folio.domain.dto.EcsTlrCreationStatus;
+import org.folio.domain.dto.Error;
+import org.folio.domain.dto.Parameter;
 import org.folio.domain.dto.Request;
 import org.folio.domain.dto.Request.EcsRequestPhaseEnum;
-import org.folio.domain.dto.TlrSettings;
 import org.folio.domain.entity.EcsTlrEntity;
 import org.folio.domain.mapper.EcsTlrMapper;
+import org.folio.domain.type.EcsTlrCreationStep;
+import org.folio.domain.type.ErrorCode;
+import org.folio.exception.ApiException;
+import org.folio.exception.RequestCreatingException;
 import org.folio.exception.TenantPickingException;
+import org.folio.exception.ValidationException;
 import org.folio.repository.EcsTlrRepository;
 import org.folio.service.ConsortiumService;
 import org.folio.service.DcbService;
 import org.folio.service.EcsTlrService;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.RequestService;
 import org.folio.service.TenantService;
 import org.folio.service.TlrSettingsService;
@@ -36,7 +70,9 @@ import org.folio.service.UserService;
 import org.folio.service.UserTenantsService;
 import org.springframework.stereotype.Service;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 @Service
@@ -44,6 +80,14 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class EcsTlrServiceImpl implements EcsTlrService {
 
+  private static final String PRIMARY_TRANSACTION_CANCELLED = "primary-transaction-cancelled";
+  private static final String INTERMEDIATE_TRANSACTION_CANCELLED =
+    "intermediate-transaction-cancelled";
+  private static final String SECONDARY_TRANSACTION_CANCELLED = "secondary-transaction-cancelled";
+  private static final String INTERMEDIATE_REQUEST_CANCELLED = "intermediate-request-cancelled";
+  private static final String PRIMARY_REQUEST_CANCELLED = "primary-request-cancelled";
+  private static final String SECONDARY_REQUEST_CANCELLED = "secondary-request-cancelled";
+
   private final EcsTlrRepository ecsTlrRepository;
   private final EcsTlrMapper requestsMapper;
   private final TenantService tenantService;
@@ -53,6 +97,9 @@ public class EcsTlrServiceImpl implements EcsTlrService {
   private final UserService userService;
   private final TlrSettingsService tlrSettingsService;
   private final ConsortiumService consortiumService;
+  private final ParallelExecutionService parallelExecutionService;
+  private final ExecutorService ecsTlrCreationExecutor;
+  private final EcsTlrCreationProperties creationProperties;
 
   @Override
   public Optional<EcsTlr> get(UUID id) {
@@ -64,6 +111,11 @@ public class EcsTlrServiceImpl implements EcsTlrService {
 
   @Override
   public EcsTlr create(EcsTlr ecsTlrDto) {
+    return create(ecsTlrDto, () -> {});
+  }
+
+  @Override
+  public EcsTlr create(EcsTlr ecsTlrDto, Runnable onPlacement) {
     log.info("create:: creating ECS TLR for instance {}, item {}, requester {}",
       ecsTlrDto.getInstanceId(), ecsTlrDto.getItemId(), ecsTlrDto.getRequesterId());
 
@@ -72,12 +124,72 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     ecsTlr.setPrimaryRequestStatus(Request.StatusEnum.OPEN_NOT_YET_FILLED.getValue());
     String primaryRequestTenantId = getPrimaryRequestTenant(ecsTlr);
 
-    validateRequester(ecsTlrDto, primaryRequestTenantId);
-    validateIfNoOpenEcsTlrForTheSameTitleExist(ecsTlr);
+    Collection<String> secondaryRequestsTenantIds = excludePrimaryRequestTenant(
+      validateAndGetSecondaryRequestTenants(ecsTlrDto, ecsTlr, primaryRequestTenantId),
+      primaryRequestTenantId);
+
+    onPlacement.run();
+    return createRequests(ecsTlrDto, ecsTlr, primaryRequestTenantId, secondaryRequestsTenantIds);
+  }
+
+  @Override
+  public List<EcsTlrBatchResult> createBatch(List<EcsTlr> ecsTlrDtos) {
+    log.info("createBatch:: creating batch of {} ECS TLRs", ecsTlrDtos::size);
+    if (ecsTlrDtos.size() > creationProperties.getBatchMaxSize()) {
+      String message = "Batch of %d ECS TLRs exceeds max size %d"
+        .formatted(ecsTlrDtos.size(), creationProperties.getBatchMaxSize());
+      log.warn("createBatch:: {}", message);
+      throw validationError(message, ECS_TLR_BATCH_TOO_LARGE,
+        Map.of("maxSize", String.valueOf(creationProperties.getBatchMaxSize())));
+    }
+
+    List<EcsTlrEntity> ecsTlrs = ecsTlrDtos.stream()
+      .map(ecsTlrDto -> {
+        ecsTlrDto.setId(null);
+        EcsTlrEntity ecsTlr = requestsMapper.mapDtoToEntity(ecsTlrDto);
+        ecsTlr.setPrimaryRequestStatus(Request.StatusEnum.OPEN_NOT_YET_FILLED.getValue());
+        return ecsTlr;
+      })
+      .toList();
+    // lookups and placement share a single deadline
+    Instant deadline = Instant.now().plus(creationProperties.getBatchTimeout());
+    BatchLookups lookups = prefetchBatchLookups(ecsTlrs, deadline);
+
+    Map<Integer, EcsTlrBatchResult> results = new HashMap<>();
+    List<Integer> indexesToCreate = new ArrayList<>();
+    Set<List<UUID>> requestedTitles = new HashSet<>();
+    for (int index = 0; index < ecsTlrs.size(); index++) {
+      EcsTlrEntity ecsTlr = ecsTlrs.get(index);
+      // open ECS TLRs of other items of the batch are not in the database yet
+      if (isTitleLevel(ecsTlr) && !requestedTitles.add(
+        Arrays.asList(ecsTlr.getRequesterId(), ecsTlr.getInstanceId()))) {
+
+        results.put(index, buildFailedBatchResult(index, buildOpenEcsTlrError(ecsTlr)));
+      } else {
+        indexesToCreate.add(index);
+      }
+    }
+
+    // items are not interrupted, an item whose placement has started is always waited for, so
+    // that it is either created or compensated before it is reported
+    parallelExecutionService.mapInParallel(indexesToCreate,
+        index -> createBatchItem(index, ecsTlrDtos.get(index), ecsTlrs.get(index), lookups,
+          deadline), creationProperties.getBatchParallelism())
+      .forEach(result -> results.put(result.getIndex(), result));
+
+    List<EcsTlrBatchResult> orderedResults = IntStream.range(0, ecsTlrs.size())
+      .mapToObj(results::get)
+      .toList();
+    log.info("createBatch:: {} of {} ECS TLRs created", () -> orderedResults.stream()
+      .filter(result -> result.getStatus() == EcsTlrBatchResult.StatusEnum.CREATED)
+      .count(), ecsTlrs::size);
+
+    return orderedResults;
+  }
+
+  private EcsTlr createRequests(EcsTlr ecsTlrDto, EcsTlrEntity ecsTlr,
+    String primaryRequestTenantId, Collection<String> secondaryRequestsTenantIds) {
 
-    Collection<String> secondaryRequestsTenantIds = getSecondaryRequestTenants(ecsTlr).stream()
-      .filter(tenantId -> !tenantId.equals(primaryRequestTenantId))
-      .collect(Collectors.toList());
     log.info("create:: Creating secondary request for ECS TLR (ILR), instance {}, item {}, requester {}",
       ecsTlrDto.getInstanceId(), ecsTlrDto.getItemId(), ecsTlrDto.getRequesterId());
     RequestWrapper secondaryRequestWrapper = requestService.createSecondaryRequest(
@@ -106,6 +218,57 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     return requestsMapper.mapEntityToDto(save(ecsTlr));
   }
 
+  @Override
+  public EcsTlr createAsync(EcsTlr ecsTlrDto) {
+    log.info("createAsync:: creating ECS TLR asynchronously for instance {}, item {}, requester {}",
+      ecsTlrDto.getInstanceId(), ecsTlrDto.getItemId(), ecsTlrDto.getRequesterId());
+
+    ecsTlrDto.setId(null); // remove client-provided id, it will be generated when entity is persisted
+    final EcsTlrEntity ecsTlr = requestsMapper.mapDtoToEntity(ecsTlrDto);
+    ecsTlr.setPrimaryRequestStatus(Request.StatusEnum.OPEN_NOT_YET_FILLED.getValue());
+    String primaryRequestTenantId = getPrimaryRequestTenant(ecsTlr);
+
+    Collection<String> secondaryRequestsTenantIds = excludePrimaryRequestTenant(
+      validateAndGetSecondaryRequestTenants(ecsTlrDto, ecsTlr, primaryRequestTenantId),
+      primaryRequestTenantId);
+
+    // requests get the ID of the ECS TLR, so that a request created right before an
+    // interruption, or by another worker, is found instead of being created again
+    ecsTlr.setPrimaryRequestTenantId(primaryRequestTenantId);
+    completeCreationStep(ecsTlr, ACCEPTED);
+    log.info("createAsync:: ECS TLR {} accepted, creating its requests", ecsTlr::getId);
+    submitCreation(new CreationRun(ecsTlr.getId(), secondaryRequestsTenantIds));
+
+    return requestsMapper.mapEntityToDto(ecsTlr);
+  }
+
+  @Override
+  public Optional<EcsTlrCreationStatus> getCreationStatus(UUID requestId) {
+    log.debug("getCreationStatus:: parameters requestId: {}", requestId);
+
+    return ecsTlrRepository.findById(requestId)
+      .map(EcsTlrServiceImpl::buildCreationStatus);
+  }
+
+  @Override
+  public void resumeInterruptedCreations() {
+    Date notUpdatedSince = Date.from(Instant.now().minus(creationProperties.getResumeAfter()));
+    List<String> unfinishedSteps = Arrays.stream(EcsTlrCreationStep.values())
+      .filter(not(EcsTlrCreationStep::isLast))
+      .map(Enum::name)
+      .toList();
+
+    List<UUID> interruptedIds = ecsTlrRepository
+      .findByCreationStepInAndCreationStepDateBefore(unfinishedSteps, notUpdatedSince)
+      .stream()
+      .map(EcsTlrEntity::getId)
+      .toList();
+    log.info("resumeInterruptedCreations:: resuming creation of {} ECS TLRs: {}",
+      interruptedIds.size(), interruptedIds);
+
+    interruptedIds.forEach(id -> submitCreation(new CreationRun(id, null)));
+  }
+
   @Override
   public boolean update(UUID requestId, EcsTlr ecsTlr) {
     log.debug("update:: parameters requestId: {}, ecsTlr: {}", () -> requestId, () -> ecsTlr);
@@ -128,11 +291,440 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     return false;
   }
 
+  // validations and lookups of secondary request tenants do not depend on each other, so they
+  // are executed concurrently, but their failures are reported in the order in which they used
+  // to be executed, so that an inactive requester is always reported first. Once one of them
+  // fails, the ones still running are interrupted.
+  private Collection<String> validateAndGetSecondaryRequestTenants(EcsTlr ecsTlrDto,
+    EcsTlrEntity ecsTlr, String primaryRequestTenantId) {
+
+    log.info("validateAndGetSecondaryRequestTenants:: validating ECS TLR and looking for " +
+      "secondary request tenants concurrently");
+    AtomicReference<List<String>> secondaryRequestTenants = new AtomicReference<>();
+    AtomicReference<CachedTlrSettings> tlrSettings = new AtomicReference<>();
+    List<Runnable> tasks = List.of(
+      () -> validateRequester(ecsTlrDto, primaryRequestTenantId),
+      () -> validateIfNoOpenEcsTlrForTheSameTitleExist(ecsTlr),
+      () -> secondaryRequestTenants.set(findSecondaryRequestTenants(ecsTlr)),
+      () -> tlrSettings.set(tlrSettingsService.getCachedTlrSettings()));
+
+    parallelExecutionService.mapInParallel(tasks, task -> {
+      task.run();
+      return null;
+    }, tasks.size());
+
+    return excludeTenants(secondaryRequestTenants.get(), tlrSettings.get());
+  }
+
+  private static List<String> excludePrimaryRequestTenant(Collection<String> tenantIds,
+    String primaryRequestTenantId) {
+
+    return tenantIds.stream()
+      .filter(tenantId -> !tenantId.equals(primaryRequestTenantId))
+      .collect(Collectors.toList());
+  }
+
+  private void submitCreation(CreationRun run) {
+    try {
+      parallelExecutionService.supplyDetached(() -> {
+        runCreationSteps(run);
+        return null;
+      }, ecsTlrCreationExecutor);
+    } catch (RejectedExecutionException e) {
+      log.warn("submitCreation:: no worker is available for ECS TLR {}, creation will be " +
+        "resumed later", run.getEcsTlrId());
+    }
+  }
+
+  // every step is persisted once completed, a step which fails moves creation to compensation
+  private void runCreationSteps(CreationRun run) {
+    UUID ecsTlrId = run.getEcsTlrId();
+    try {
+      EcsTlrEntity ecsTlr = ecsTlrRepository.findById(ecsTlrId).orElse(null);
+      if (ecsTlr == null) {
+        log.warn("runCreationSteps:: ECS TLR {} not found, it was probably deleted", ecsTlrId);
+        return;
+      }
+      if (!claimCreation(ecsTlr)) {
+        log.info("runCreationSteps:: creation of ECS TLR {} is already in progress", ecsTlrId);
+        return;
+      }
+
+      EcsTlrCreationStep step = EcsTlrCreationStep.valueOf(ecsTlr.getCreationStep());
+      while (!step.isLast()) {
+        log.info("runCreationSteps:: ECS TLR {}, last completed step: {}", ecsTlrId, step);
+        step = step == COMPENSATING ? compensate(ecsTlr) : runCreationStep(run, ecsTlr, step);
+        completeCreationStep(ecsTlr, step);
+      }
+      log.info("runCreationSteps:: creation of ECS TLR {} finished: {}", ecsTlrId, step);
+    } catch (Exception e) {
+      log.error("runCreationSteps:: creation of ECS TLR {} was interrupted, it will be " +
+        "resumed later", ecsTlrId, e);
+    }
+  }
+
+  // the persisted step date is moved forward only if nobody else has done so since the ECS TLR
+  // was read, a claimed creation is not resumed until it makes no progress for a while
+  private boolean claimCreation(EcsTlrEntity ecsTlr) {
+    if (EcsTlrCreationStep.valueOf(ecsTlr.getCreationStep()).isLast()) {
+      return false;
+    }
+
+    Date claimedDate = new Date();
+    if (ecsTlrRepository.claimCreation(ecsTlr.getId(), ecsTlr.getCreationStep(),
+      ecsTlr.getCreationStepDate(), claimedDate) == 0) {
+
+      return false;
+    }
+    ecsTlr.setCreationStepDate(claimedDate);
+    return true;
+  }
+
+  private EcsTlrCreationStep runCreationStep(CreationRun run, EcsTlrEntity ecsTlr,
+    EcsTlrCreationStep lastCompletedStep) {
+
+    try {
+      return switch (lastCompletedStep) {
+        case ACCEPTED -> createSecondaryRequest(run, ecsTlr);
+        case SECONDARY_REQUEST_CREATED -> createPrimaryRequest(run, ecsTlr);
+        case PRIMARY_REQUEST_CREATED -> createIntermediateRequest(run, ecsTlr);
+        case REQUESTS_CREATED -> createTransactions(run, ecsTlr);
+        default -> throw new IllegalStateException("Unexpected creation step: " +
+          lastCompletedStep);
+      };
+    } catch (Exception e) {
+      log.error("runCreationStep:: step after {} failed for ECS TLR {}, compensating",
+        lastCompletedStep, ecsTlr.getId(), e);
+      ecsTlr.setCreationError(e.getMessage());
+      return COMPENSATING;
+    }
+  }
+
+  private EcsTlrCreationStep createSecondaryRequest(CreationRun run, EcsTlrEntity ecsTlr) {
+    String primaryRequestTenantId = ecsTlr.getPrimaryRequestTenantId();
+    Collection<String> tenantIds = Optional.ofNullable(run.getSecondaryRequestTenantIds())
+      .orElseGet(() -> excludePrimaryRequestTenant(excludeTenants(
+        findSecondaryRequestTenants(ecsTlr), tlrSettingsService.getCachedTlrSettings()),
+        primaryRequestTenantId));
+
+    RequestWrapper secondaryRequest = tenantIds.stream()
+      .map(tenantId -> findCreatedRequest(run, tenantId))
+      .flatMap(Optional::stream)
+      .findFirst()
+      .orElseGet(() -> requestService.createSecondaryRequest(buildSecondaryRequest(ecsTlr),
+        primaryRequestTenantId, tenantIds));
+
+    run.setSecondaryRequest(secondaryRequest.request());
+    ecsTlr.setSecondaryRequestTenantId(secondaryRequest.tenantId());
+    ecsTlr.setSecondaryRequestId(UUID.fromString(secondaryRequest.request().getId()));
+    return SECONDARY_REQUEST_CREATED;
+  }
+
+  private EcsTlrCreationStep createPrimaryRequest(CreationRun run, EcsTlrEntity ecsTlr) {
+    String primaryRequestTenantId = ecsTlr.getPrimaryRequestTenantId();
+    String secondaryRequestTenantId = ecsTlr.getSecondaryRequestTenantId();
+    Request secondaryRequest = getSecondaryRequest(run, ecsTlr);
+
+    RequestWrapper primaryRequest = findCreatedRequest(run, primaryRequestTenantId)
+      .orElseGet(() -> requestService.createPrimaryRequest(buildPrimaryRequest(secondaryRequest),
+        primaryRequestTenantId, secondaryRequestTenantId));
+
+    updateEcsTlr(ecsTlr, primaryRequest,
+      new RequestWrapper(secondaryRequest, secondaryRequestTenantId));
+    return PRIMARY_REQUEST_CREATED;
+  }
+
+  private EcsTlrCreationStep createIntermediateRequest(CreationRun run, EcsTlrEntity ecsTlr) {
+    String primaryRequestTenantId = ecsTlr.getPrimaryRequestTenantId();
+    String centralTenantId = consortiumService.getCentralTenantId();
+    if (primaryRequestTenantId.equals(centralTenantId)) {
+      log.info("createIntermediateRequest:: primary request tenant is central, doing nothing");
+      return REQUESTS_CREATED;
+    }
+
+    Request secondaryRequest = getSecondaryRequest(run, ecsTlr);
+    RequestWrapper intermediateRequest = findCreatedRequest(run, centralTenantId)
+      .orElseGet(() -> requestService.createIntermediateRequest(
+        buildIntermediateRequest(secondaryRequest), primaryRequestTenantId, centralTenantId,
+        ecsTlr.getSecondaryRequestTenantId()));
+
+    updateEcsTlrWithIntermediateRequest(ecsTlr, intermediateRequest);
+    return REQUESTS_CREATED;
+  }
+
+  // transactions are created one by one and persisted right away, so that only missing
+  // transactions are created when creation is resumed
+  private EcsTlrCreationStep createTransactions(CreationRun run, EcsTlrEntity ecsTlr) {
+    Request secondaryRequest = getSecondaryRequest(run, ecsTlr);
+    if (secondaryRequest.getItemId() == null) {
+      log.info("createTransactions:: secondary request has no item ID");
+      return COMPLETED;
+    }
+
+    if (ecsTlr.getSecondaryRequestDcbTransactionId() == null) {
+      dcbService.createLendingTransaction(ecsTlr);
+      save(ecsTlr);
+    }
+    if (ecsTlr.getIntermediateRequestId() != null
+      && ecsTlr.getIntermediateRequestDcbTransactionId() == null) {
+
+      dcbService.createBorrowerTransaction(ecsTlr, secondaryRequest);
+      save(ecsTlr);
+    }
+    if (ecsTlr.getPrimaryRequestDcbTransactionId() == null) {
+      if (ecsTlr.getIntermediateRequestId() == null) {
+        dcbService.createBorrowingPickupTransaction(ecsTlr, secondaryRequest);
+      } else {
+        dcbService.createPickupTransaction(ecsTlr, secondaryRequest);
+      }
+      save(ecsTlr);
+    }
+    return COMPLETED;
+  }
+
+  // DCB transactions and requests created so far are cancelled in reverse order, cancelled
+  // ones are recorded and not cancelled again when compensation is resumed
+  private EcsTlrCreationStep compensate(EcsTlrEntity ecsTlr) {
+    log.info("compensate:: cancelling transactions and requests of ECS TLR {}", ecsTlr::getId);
+    String primaryRequestTenantId = ecsTlr.getPrimaryRequestTenantId();
+    cancelTransaction(ecsTlr, ecsTlr.getPrimaryRequestDcbTransactionId(), primaryRequestTenantId,
+      PRIMARY_TRANSACTION_CANCELLED);
+    cancelTransaction(ecsTlr, ecsTlr.getIntermediateRequestDcbTransactionId(),
+      ecsTlr.getIntermediateRequestTenantId(), INTERMEDIATE_TRANSACTION_CANCELLED);
+    cancelTransaction(ecsTlr, ecsTlr.getSecondaryRequestDcbTransactionId(),
+      ecsTlr.getSecondaryRequestTenantId(), SECONDARY_TRANSACTION_CANCELLED);
+
+    String centralTenantId = consortiumService.getCentralTenantId();
+    if (!primaryRequestTenantId.equals(centralTenantId)) {
+      cancelRequest(ecsTlr, centralTenantId, INTERMEDIATE_REQUEST_CANCELLED);
+    }
+    cancelRequest(ecsTlr, primaryRequestTenantId, PRIMARY_REQUEST_CANCELLED);
+    cancelRequest(ecsTlr, ecsTlr.getSecondaryRequestTenantId(), SECONDARY_REQUEST_CANCELLED);
+    ecsTlr.setPrimaryRequestStatus(CLOSED_CANCELLED.getValue());
+
+    return FAILED;
+  }
+
+  private void cancelTransaction(EcsTlrEntity ecsTlr, UUID transactionId, String tenantId,
+    String compensation) {
+
+    if (transactionId == null || tenantId == null
+      || getCompensations(ecsTlr).contains(compensation)) {
+
+      return;
+    }
+
+    dcbService.cancelTransaction(transactionId, tenantId);
+    recordCompensation(ecsTlr, compensation);
+  }
+
+  // requests are cancelled through circulation, so that the request queue and the item are
+  // updated as they are when a request is cancelled by a user
+  private void cancelRequest(EcsTlrEntity ecsTlr, String tenantId, String compensation) {
+    if (tenantId == null || getCompensations(ecsTlr).contains(compensation)) {
+      return;
+    }
+
+    // requests of an asynchronously created ECS TLR have the same ID as the ECS TLR itself
+    Request request = requestService.getRequestFromStorage(ecsTlr.getId().toString(), tenantId);
+    if (request == null || request.getStatus() == CLOSED_CANCELLED) {
+      log.info("cancelRequest:: no request to cancel in tenant {}", tenantId);
+      return;
+    }
+
+    log.info("cancelRequest:: cancelling request {} in tenant {}", request.getId(), tenantId);
+    request.setStatus(CLOSED_CANCELLED);
+    request.setCancelledDate(new Date());
+    request.setCancellationReasonId(RequestEventHandler.DCB_CANCELLATION_REASON_ID);
+    request.setCancellationAdditionalInformation("ECS TLR could not be created: " +
+      ecsTlr.getCreationError());
+    requestService.updateRequestInCirculation(request, tenantId);
+    recordCompensation(ecsTlr, compensation);
+  }
+
+  private void recordCompensation(EcsTlrEntity ecsTlr, String compensation) {
+    List<String> compensations = new ArrayList<>(getCompensations(ecsTlr));
+    compensations.add(compensation);
+    ecsTlr.setCreationCompensations(String.join(",", compensations));
+    save(ecsTlr);
+  }
+
+  private Optional<RequestWrapper> findCreatedRequest(CreationRun run, String tenantId) {
+    return Optional.ofNullable(requestService.getRequestFromStorage(run.getEcsTlrId().toString(),
+        tenantId))
+      .map(request -> {
+        log.info("findCreatedRequest:: request {} was already created in tenant {}",
+          request.getId(), tenantId);
+        return new RequestWrapper(request, tenantId);
+      });
+  }
+
+  private Request getSecondaryRequest(CreationRun run, EcsTlrEntity ecsTlr) {
+    if (run.getSecondaryRequest() == null) {
+      run.setSecondaryRequest(requestService.getRequestFromStorage(
+        ecsTlr.getSecondaryRequestId().toString(), ecsTlr.getSecondaryRequestTenantId()));
+    }
+    return run.getSecondaryRequest();
+  }
+
+  private void completeCreationStep(EcsTlrEntity ecsTlr, EcsTlrCreationStep step) {
+    ecsTlr.setCreationStep(step.name());
+    ecsTlr.setCreationStepDate(new Date());
+    save(ecsTlr);
+  }
+
+  private static EcsTlrCreationStatus buildCreationStatus(EcsTlrEntity ecsTlr) {
+    String step = ecsTlr.getCreationStep();
+    EcsTlrCreationStatus.StatusEnum status;
+    if (step == null || COMPLETED.name().equals(step)) {
+      status = EcsTlrCreationStatus.StatusEnum.COMPLETED;
+    } else if (FAILED.name().equals(step)) {
+      status = EcsTlrCreationStatus.StatusEnum.FAILED;
+    } else {
+      status = EcsTlrCreationStatus.StatusEnum.IN_PROGRESS;
+    }
+
+    return new EcsTlrCreationStatus()
+      .id(ecsTlr.getId().toString())
+      .status(status)
+      .step(step)
+      .error(ecsTlr.getCreationError())
+      .compensations(getCompensations(ecsTlr));
+  }
+
+  private static List<String> getCompensations(EcsTlrEntity ecsTlr) {
+    return Optional.ofNullable(ecsTlr.getCreationCompensations())
+      .filter(not(String::isBlank))
+      .map(compensations -> List.of(compensations.split(",")))
+      .orElseGet(List::of);
+  }
+
+  // lookups which ECS TLRs of a batch have in common are made once for the whole batch, an
+  // ECS TLR whose lookup failed makes it again on its own
+  private BatchLookups prefetchBatchLookups(List<EcsTlrEntity> ecsTlrs, Instant deadline) {
+    int parallelism = creationProperties.getBatchParallelism();
+
+    Map<UUID, EcsTlrEntity> ecsTlrsByInstanceId = ecsTlrs.stream()
+      .filter(ecsTlr -> ecsTlr.getInstanceId() != null)
+      .collect(toMap(EcsTlrEntity::getInstanceId, identity(), (first, second) -> first,
+        LinkedHashMap::new));
+    log.info("prefetchBatchLookups:: looking for secondary request tenants of {} instances",
+      ecsTlrsByInstanceId::size);
+    Map<UUID, List<String>> secondaryRequestTenantsByInstanceId =
+      parallelExecutionService.mapInParallelSkippingFailures(ecsTlrsByInstanceId.keySet(),
+        instanceId -> tenantService.getSecondaryRequestTenants(
+          ecsTlrsByInstanceId.get(instanceId)), parallelism, getRemainingTime(deadline));
+
+    List<String> primaryRequestTenantIds = new ArrayList<>();
+    Map<String, Set<String>> requesterIdsByTenantId = new HashMap<>();
+    for (EcsTlrEntity ecsTlr : ecsTlrs) {
+      String tenantId = findPrimaryRequestTenant(ecsTlr);
+      primaryRequestTenantIds.add(tenantId);
+      if (tenantId != null) {
+        requesterIdsByTenantId.computeIfAbsent(tenantId, id -> new HashSet<>())
+          .add(ecsTlr.getRequesterId().toString());
+      }
+    }
+    log.info("prefetchBatchLookups:: looking up requesters in tenants {}",
+      requesterIdsByTenantId::keySet);
+    Map<String, Set<String>> inactiveRequesterIdsByTenantId =
+      parallelExecutionService.mapInParallelSkippingFailures(requesterIdsByTenantId.keySet(),
+        tenantId -> userService.findInactiveInTenant(requesterIdsByTenantId.get(tenantId),
+          tenantId), parallelism, getRemainingTime(deadline));
+
+    return new BatchLookups(tlrSettingsService.getCachedTlrSettings(), primaryRequestTenantIds,
+      secondaryRequestTenantsByInstanceId, inactiveRequesterIdsByTenantId);
+  }
+
+  private String findPrimaryRequestTenant(EcsTlrEntity ecsTlr) {
+    if (ecsTlr.getRequesterId() == null) {
+      return null;
+    }
+    try {
+      return tenantService.getPrimaryRequestTenantId(ecsTlr);
+    } catch (Exception e) {
+      log.warn("findPrimaryRequestTenant:: failed to get primary request tenant of requester {}",
+        ecsTlr.getRequesterId(), e);
+      return null;
+    }
+  }
+
+  private static Duration getRemainingTime(Instant deadline) {
+    Duration remainingTime = Duration.between(Instant.now(), deadline);
+    return remainingTime.isNegative() ? Duration.ZERO : remainingTime;
+  }
+
+  private EcsTlrBatchResult createBatchItem(int index, EcsTlr ecsTlrDto, EcsTlrEntity ecsTlr,
+    BatchLookups lookups, Instant deadline) {
+
+    try {
+      String primaryRequestTenantId = Optional.ofNullable(
+          lookups.primaryRequestTenantIds().get(index))
+        .orElseGet(() -> getPrimaryRequestTenant(ecsTlr));
+      Set<String> inactiveRequesterIds = lookups.inactiveRequesterIdsByTenantId()
+        .get(primaryRequestTenantId);
+      if (inactiveRequesterIds == null) {
+        validateRequester(ecsTlrDto, primaryRequestTenantId);
+      } else {
+        validateRequester(ecsTlrDto, primaryRequestTenantId,
+          inactiveRequesterIds.contains(ecsTlrDto.getRequesterId()));
+      }
+      validateIfNoOpenEcsTlrForTheSameTitleExist(ecsTlr);
+
+      List<String> secondaryRequestTenantIds = Optional.ofNullable(
+          lookups.secondaryRequestTenantsByInstanceId().get(ecsTlr.getInstanceId()))
+        .map(tenantIds -> requireSecondaryRequestTenants(ecsTlr, tenantIds))
+        .orElseGet(() -> findSecondaryRequestTenants(ecsTlr));
+      if (!Instant.now().isBefore(deadline)) {
+        throw new RequestCreatingException("Creation of ECS TLR did not start in " +
+          creationProperties.getBatchTimeout());
+      }
+      EcsTlr createdEcsTlr = createRequests(ecsTlrDto, ecsTlr, primaryRequestTenantId,
+        excludePrimaryRequestTenant(excludeTenants(secondaryRequestTenantIds,
+          lookups.tlrSettings()), primaryRequestTenantId));
+
+      return new EcsTlrBatchResult()
+        .index(index)
+        .status(EcsTlrBatchResult.StatusEnum.CREATED)
+        .ecsTlr(createdEcsTlr);
+    } catch (Exception e) {
+      log.error("createBatchItem:: failed to create ECS TLR {} of the batch", index, e);
+      return buildFailedBatchResult(index, e);
+    }
+  }
+
+  private static EcsTlrBatchResult buildFailedBatchResult(int index, Exception e) {
+    Error error = new Error(e.getMessage())
+      .type(e.getClass().getSimpleName())
+      .code(ErrorCode.INTERNAL_SERVER_ERROR.getValue());
+    if (e instanceof ApiException apiException) {
+      error.code(apiException.getCode().getValue())
+        .parameters(Optional.ofNullable(apiException.getParameters())
+          .map(parameters -> parameters.entrySet()
+            .stream()
+            .map(entry -> new Parameter().key(entry.getKey()).value(entry.getValue()))
+            .toList())
+          .orElse(null));
+    }
+
+    return new EcsTlrBatchResult()
+      .index(index)
+      .status(EcsTlrBatchResult.StatusEnum.FAILED)
+      .error(error);
+  }
+
   private void validateRequester(EcsTlr ecsTlrDto, String primaryRequestTenantId) {
     log.info("validateRequester:: validating requester {} in the primary request tenant {}",
       ecsTlrDto::getRequesterId, () -> primaryRequestTenantId);
 
-    if (userService.isInactiveInTenant(ecsTlrDto.getRequesterId(), primaryRequestTenantId)) {
+    validateRequester(ecsTlrDto, primaryRequestTenantId,
+      userService.isInactiveInTenant(ecsTlrDto.getRequesterId(), primaryRequestTenantId));
+  }
+
+  private static void validateRequester(EcsTlr ecsTlrDto, String primaryRequestTenantId,
+    boolean inactive) {
+
+    if (inactive) {
       String message = "ECS request cannot be placed for inactive requester %s"
         .formatted(ecsTlrDto.getRequesterId());
       log.warn("create:: {}", message);
@@ -149,9 +741,7 @@ public class EcsTlrServiceImpl implements EcsTlrService {
         "level: {}, instanceId: {}, requesterId: {}", ecsTlrEntity::getRequestLevel,
       ecsTlrEntity::getInstanceId, ecsTlrEntity::getRequesterId);
 
-    if (ecsTlrEntity.getRequestLevel() == null
-      || !ecsTlrEntity.getRequestLevel().equals(EcsTlr.RequestLevelEnum.TITLE.getValue())
-      || ecsTlrEntity.getInstanceId() == null || ecsTlrEntity.getRequesterId() == null) {
+    if (!isTitleLevel(ecsTlrEntity)) {
 
       log.info("validateIfNoOpenEcsTlrForTheSameTitleExist:: Skipping validation");
       return;
@@ -166,15 +756,25 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     }
 
     if (!openRequests.isEmpty()) {
-      String message = "Patron %s has an open ECS TLR for the same title %s"
-        .formatted(ecsTlrEntity.getRequesterId(), ecsTlrEntity.getInstanceId());
-      log.warn("validateIfNoOpenEcsTlrForTheSameTitleExist:: {}", message);
-      throw validationError(message, PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE,
-        Map.of("requesterId", ecsTlrEntity.getRequesterId().toString(),
-          "instanceId", ecsTlrEntity.getInstanceId().toString()));
+      ValidationException error = buildOpenEcsTlrError(ecsTlrEntity);
+      log.warn("validateIfNoOpenEcsTlrForTheSameTitleExist:: {}", error.getMessage());
+      throw error;
     }
   }
 
+  private static boolean isTitleLevel(EcsTlrEntity ecsTlrEntity) {
+    return EcsTlr.RequestLevelEnum.TITLE.getValue().equals(ecsTlrEntity.getRequestLevel())
+      && ecsTlrEntity.getInstanceId() != null && ecsTlrEntity.getRequesterId() != null;
+  }
+
+  private static ValidationException buildOpenEcsTlrError(EcsTlrEntity ecsTlrEntity) {
+    String message = "Patron %s has an open ECS TLR for the same title %s"
+      .formatted(ecsTlrEntity.getRequesterId(), ecsTlrEntity.getInstanceId());
+    return validationError(message, PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE,
+      Map.of("requesterId", ecsTlrEntity.getRequesterId().toString(),
+        "instanceId", ecsTlrEntity.getInstanceId().toString()));
+  }
+
   private String getPrimaryRequestTenant(EcsTlrEntity ecsTlr) {
     log.info("getPrimaryRequestTenant:: getting primary request tenant");
     final String primaryRequestTenantId = tenantService.getPrimaryRequestTenantId(ecsTlr);
@@ -187,46 +787,42 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     return primaryRequestTenantId;
   }
 
-  private Collection<String> getSecondaryRequestTenants(EcsTlrEntity ecsTlr) {
+  private List<String> findSecondaryRequestTenants(EcsTlrEntity ecsTlr) {
     final String instanceId = ecsTlr.getInstanceId().toString();
-    log.info("getSecondaryRequestTenants:: looking for secondary request tenants for instance {}", instanceId);
+    log.info("findSecondaryRequestTenants:: looking for secondary request tenants for instance {}", instanceId);
     List<String> tenantIds = tenantService.getSecondaryRequestTenants(ecsTlr);
+
+    return requireSecondaryRequestTenants(ecsTlr, tenantIds);
+  }
+
+  private static List<String> requireSecondaryRequestTenants(EcsTlrEntity ecsTlr,
+    List<String> tenantIds) {
+
+    final String instanceId = ecsTlr.getInstanceId().toString();
     if (tenantIds.isEmpty()) {
-      log.error("getSecondaryRequestTenants:: failed to find lending tenants for instance: {}", instanceId);
+      log.error("findSecondaryRequestTenants:: failed to find lending tenants for instance: {}", instanceId);
       throw new TenantPickingException("Failed to find secondary request tenants for instance " + instanceId);
     }
-    log.info("getSecondaryRequestTenants:: secondary request tenants found: {}", tenantIds);
+    log.info("findSecondaryRequestTenants:: secondary request tenants found: {}", tenantIds);
+    return tenantIds;
+  }
 
-    List<String> excludedTenants = getExcludedTenants();
-    log.info("getSecondaryRequestTenants:: excluded tenants: {}", excludedTenants);
+  private static Collection<String> excludeTenants(List<String> tenantIds,
+    CachedTlrSettings tlrSettings) {
 
-    List<String> eligibleTenants = filterExcludedTenants(tenantIds, excludedTenants);
+    log.info("excludeTenants:: excluded tenants: {}", tlrSettings.excludedTenants());
+    List<String> eligibleTenants = tenantIds.stream()
+      .filter(Objects::nonNull)
+      .filter(not(tlrSettings::isExcluded))
+      .toList();
     if (eligibleTenants.isEmpty()) {
-      log.warn("getSecondaryRequestTenants:: No eligible tenants found");
+      log.warn("excludeTenants:: No eligible tenants found");
       throw new TenantPickingException("No eligible tenants found");
     }
-    log.info("getSecondaryRequestTenants:: eligible tenants: {}", eligibleTenants);
+    log.info("excludeTenants:: eligible tenants: {}", eligibleTenants);
     return eligibleTenants;
   }
 
-  private List<String> getExcludedTenants() {
-    return tlrSettingsService.getTlrSettings()
-      .map(TlrSettings::getExcludeFromEcsRequestLendingTenantSearch)
-      .map(list -> list.stream()
-        .filter(StringUtils::isNotBlank)
-        .map(String::trim)
-        .toList())
-      .orElseGet(Collections::emptyList);
-  }
-
-  private List<String> filterExcludedTenants(List<String> tenantIds, List<String> excludedTenants) {
-    return tenantIds.stream()
-      .filter(Objects::nonNull)
-      .filter(tenantId -> excludedTenants.stream()
-        .noneMatch(excluded -> excluded.equalsIgnoreCase(tenantId)))
-      .toList();
-  }
-
   private EcsTlrEntity save(EcsTlrEntity ecsTlr) {
     log.info("save:: saving ECS TLR {}", ecsTlr.getId());
     EcsTlrEntity savedEcsTlr = ecsTlrRepository.save(ecsTlr);
@@ -295,4 +891,23 @@ public class EcsTlrServiceImpl implements EcsTlrService {
     log.debug("updateEcsTlrWithIntermediateRequest:: ECS TLR: {}", () -> ecsTlr);
   }
 
+  /**
+   * Single execution of creation steps of an ECS TLR. Secondary request tenants are only known
+   * when creation has just been accepted, a resumed run looks them up again. Every run looks
+   * up requests created by an earlier run before creating them.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  private static final class CreationRun {
+    private final UUID ecsTlrId;
+    private final Collection<String> secondaryRequestTenantIds;
+    @Setter
+    private Request secondaryRequest;
+  }
+
+  // primary request tenants are listed in the order of ECS TLRs of the batch, a tenant which
+  // could not be found is null
+  private record BatchLookups(CachedTlrSettings tlrSettings, List<String> primaryRequestTenantIds,
+    Map<UUID, List<String>> secondaryRequestTenantsByInstanceId,
+    Map<String, Set<String>> inactiveRequesterIdsByTenantId) { }
 }
@@ -1,5 +1,11 @@
 package org.folio.service.impl;
 
+import static org.folio.domain.type.ReferenceDataType.CAMPUSES;
+import static org.folio.domain.type.ReferenceDataType.INSTITUTIONS;
+import static org.folio.domain.type.ReferenceDataType.LIBRARIES;
+import static org.folio.domain.type.ReferenceDataType.LOAN_TYPES;
+import static org.folio.domain.type.ReferenceDataType.MATERIAL_TYPES;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -28,6 +34,8 @@ import org.folio.domain.dto.LoanTypes;
 import org.folio.domain.dto.MaterialType;
 import org.folio.domain.dto.MaterialTypes;
 import org.folio.service.InventoryService;
+import org.folio.service.ParallelExecutionService;
+import org.folio.service.ReferenceDataCacheService;
 import org.folio.support.BulkFetcher;
 import org.folio.support.CqlQuery;
 import org.springframework.stereotype.Service;
@@ -47,13 +55,17 @@ public class InventoryServiceImpl implements InventoryService {
   private final LocationLibraryClient libraryClient;
   private final LocationInstitutionClient institutionClient;
   private final LocationCampusClient campusClient;
+  private final ParallelExecutionService parallelExecutionService;
+  private final ReferenceDataCacheService referenceDataCacheService;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public Collection<Item> findItems(CqlQuery query, String idIndex, Collection<String> ids) {
     log.info("findItems:: searching items by query and index: query={}, index={}, ids={}",
       query, idIndex, ids.size());
     log.debug("findItems:: ids={}", ids);
-    return BulkFetcher.fetch(itemClient, query, idIndex, ids, Items::getItems);
+    return bulkFetcher.fetchInParallel(itemClient, query, idIndex, ids, Items::getItems,
+      Item::getId, parallelExecutionService);
   }
 
   @Override
@@ -61,13 +73,15 @@ public class InventoryServiceImpl implements InventoryService {
     log.info("findHoldings:: searching holdings by query and index: query={}, index={}, ids={}",
       query, idIndex, ids.size());
     log.debug("findHoldings:: ids={}", ids);
-    return BulkFetcher.fetch(holdingClient, query, idIndex, ids, HoldingsRecords::getHoldingsRecords);
+    return bulkFetcher.fetchInParallel(holdingClient, query, idIndex, ids,
+      HoldingsRecords::getHoldingsRecords, HoldingsRecord::getId, parallelExecutionService);
   }
 
   @Override
   public Collection<HoldingsRecord> findHoldings(Collection<String> ids) {
     log.info("findHoldings:: searching holdings by {} IDs", ids::size);
-    return BulkFetcher.fetch(holdingClient, ids, HoldingsRecords::getHoldingsRecords);
+    return bulkFetcher.fetchInParallel(holdingClient, ids, HoldingsRecords::getHoldingsRecords,
+      parallelExecutionService);
   }
 
 
@@ -75,7 +89,8 @@ public class InventoryServiceImpl implements InventoryService {
   public Collection<Instance> findInstances(Collection<String> ids) {
     log.info("findInstances:: searching instances by {} IDs", ids::size);
     log.debug("findInstances:: ids={}", ids);
-    return BulkFetcher.fetch(instanceClient, ids, Instances::getInstances);
+    return bulkFetcher.fetchInParallel(instanceClient, ids, Instances::getInstances,
+      parallelExecutionService);
   }
 
   @Override
@@ -94,35 +109,40 @@ public class InventoryServiceImpl implements InventoryService {
   public Collection<MaterialType> findMaterialTypes(Collection<String> ids) {
     log.info("findMaterialTypes:: searching material types by {} IDs", ids::size);
     log.debug("findMaterialTypes:: ids={}", ids);
-    return BulkFetcher.fetch(materialTypeClient, ids, MaterialTypes::getMtypes);
+    return referenceDataCacheService.findByIds(MATERIAL_TYPES, ids, MaterialType::getId,
+      missingIds -> bulkFetcher.fetch(materialTypeClient, missingIds, MaterialTypes::getMtypes));
   }
 
   @Override
   public Collection<LoanType> findLoanTypes(Collection<String> ids) {
     log.info("findLoanTypes:: searching loan types by {} IDs", ids::size);
     log.debug("findLoanTypes:: ids={}", ids);
-    return BulkFetcher.fetch(loanTypeClient, ids, LoanTypes::getLoantypes);
+    return referenceDataCacheService.findByIds(LOAN_TYPES, ids, LoanType::getId,
+      missingIds -> bulkFetcher.fetch(loanTypeClient, missingIds, LoanTypes::getLoantypes));
   }
 
   @Override
   public Collection<Library> findLibraries(Collection<String> ids) {
     log.info("findLibraries:: searching libraries by {} IDs", ids::size);
     log.debug("findLibraries:: ids={}", ids);
-    return BulkFetcher.fetch(libraryClient, ids, Libraries::getLoclibs);
+    return referenceDataCacheService.findByIds(LIBRARIES, ids, Library::getId,
+      missingIds -> bulkFetcher.fetch(libraryClient, missingIds, Libraries::getLoclibs));
   }
 
   @Override
   public Collection<Campus> findCampuses(Collection<String> ids) {
     log.info("findCampuses:: searching campuses by {} IDs", ids::size);
     log.debug("findCampuses:: ids={}", ids);
-    return BulkFetcher.fetch(campusClient, ids, Campuses::getLoccamps);
+    return referenceDataCacheService.findByIds(CAMPUSES, ids, Campus::getId,
+      missingIds -> bulkFetcher.fetch(campusClient, missingIds, Campuses::getLoccamps));
   }
 
   @Override
   public Collection<Institution> findInstitutions(Collection<String> ids) {
     log.info("findInstitutions:: searching institutions by {} IDs", ids::size);
     log.debug("findInstitutions:: ids={}", ids);
-    return BulkFetcher.fetch(institutionClient, ids, Institutions::getLocinsts);
+    return referenceDataCacheService.findByIds(INSTITUTIONS, ids, Institution::getId,
+      missingIds -> bulkFetcher.fetch(institutionClient, missingIds, Institutions::getLocinsts));
   }
 
 }
@@ -1,6 +1,7 @@
 package org.folio.service.impl;
 
 import org.folio.domain.dto.LoanPolicy;
+import org.folio.service.CloneRegistry;
 import org.folio.service.LoanPolicyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -13,9 +14,10 @@ public class LoanPolicyCloningServiceImpl extends CloningServiceImpl<LoanPolicy>
   private static final String COPY_LOAN_POLICY_PREFIX = "COPY_OF_%s";
   private final LoanPolicyService loanPolicyService;
 
-  public LoanPolicyCloningServiceImpl(@Autowired LoanPolicyService loanPolicyService) {
+  public LoanPolicyCloningServiceImpl(@Autowired LoanPolicyService loanPolicyService,
+    @Autowired CloneRegistry cloneRegistry) {
 
-    super(LoanPolicy::getId);
+    super(LoanPolicy::getId, cloneRegistry);
     this.loanPolicyService = loanPolicyService;
   }
 
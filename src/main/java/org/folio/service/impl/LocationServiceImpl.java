@@ -1,10 +1,13 @@
 package org.folio.service.impl;
 
+import static org.folio.domain.type.ReferenceDataType.LOCATIONS;
+
 import java.util.Collection;
 import java.util.List;
 
 import org.folio.client.LocationClient;
 import org.folio.domain.dto.Location;
+import org.folio.service.ReferenceDataCacheService;
 import org.folio.support.CqlQuery;
 import org.springframework.stereotype.Service;
 
@@ -17,11 +20,13 @@ import lombok.extern.log4j.Log4j2;
 public class LocationServiceImpl implements org.folio.service.LocationService {
 
   private final LocationClient locationClient;
+  private final ReferenceDataCacheService referenceDataCacheService;
 
   @Override
   public Collection<Location> findLocations(CqlQuery query) {
     log.info("findLocations:: searching locations by query: {}", query);
-    List<Location> locations = locationClient.getByQuery(query).getLocations();
+    List<Location> locations = referenceDataCacheService.find(LOCATIONS, query,
+      () -> locationClient.getByQuery(query).getLocations());
     log.info("findLocations:: found {} locations", locations::size);
     return locations;
   }
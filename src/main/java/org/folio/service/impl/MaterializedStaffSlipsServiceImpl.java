@@ -0,0 +1,197 @@
+package org.folio.service.impl;
+
+import static org.folio.support.kafka.EventType.DELETE;
+import static org.folio.support.kafka.EventType.DELETE_ALL;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.MaterializedStaffSlips;
+import org.folio.domain.dto.Item;
+import org.folio.domain.dto.Request;
+import org.folio.service.MaterializedStaffSlipsService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.support.kafka.EventType;
+import org.folio.support.kafka.KafkaEvent;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MaterializedStaffSlipsServiceImpl implements MaterializedStaffSlipsService {
+
+  private final FolioExecutionContext folioContext;
+  private final StaffSlipsProperties properties;
+  private final Map<StaffSlipsKey, MaterializedStaffSlips> staffSlipsByKey =
+    new ConcurrentHashMap<>();
+  private final Map<StaffSlipsKey, EventBuffer> eventBuffersByKey = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean isEnabled() {
+    return properties.isMaterializedEnabled();
+  }
+
+  @Override
+  public Optional<MaterializedStaffSlips> find(String servicePointId, String slipsType) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    StaffSlipsKey key = new StaffSlipsKey(folioContext.getTenantId(), servicePointId, slipsType);
+    MaterializedStaffSlips staffSlips = staffSlipsByKey.get(key);
+    if (staffSlips == null) {
+      log.info("find:: no materialized staff slips found: {}", key);
+      return Optional.empty();
+    }
+    if (staffSlips.isStale()) {
+      log.info("find:: materialized staff slips are stale: {}", key);
+      return Optional.empty();
+    }
+    if (isExpired(staffSlips)) {
+      log.info("find:: materialized staff slips were built at {} and are due for rebuild: {}",
+        staffSlips.getBuiltAt(), key);
+      return Optional.empty();
+    }
+
+    log.info("find:: using materialized staff slips built at {}: {}", staffSlips.getBuiltAt(), key);
+    return Optional.of(staffSlips);
+  }
+
+  @Override
+  public void startRebuild(String servicePointId, String slipsType) {
+    StaffSlipsKey key = new StaffSlipsKey(folioContext.getTenantId(), servicePointId, slipsType);
+    log.info("startRebuild:: buffering events until staff slips are rebuilt: {}", key);
+    eventBuffersByKey.compute(key, (k, buffer) -> {
+      EventBuffer startedBuffer = buffer == null ? new EventBuffer() : buffer;
+      startedBuffer.rebuilds++;
+      return startedBuffer;
+    });
+  }
+
+  @Override
+  public void save(MaterializedStaffSlips staffSlips) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    StaffSlipsKey key = new StaffSlipsKey(staffSlips.getTenantId(),
+      staffSlips.getServicePointId(), staffSlips.getSlipsType());
+    EventBuffer buffer = eventBuffersByKey.get(key);
+    if (buffer == null) {
+      log.info("save:: saving materialized staff slips of {} requests: {}",
+        staffSlips.getRequestsCount(), key);
+      staffSlipsByKey.put(key, staffSlips);
+      return;
+    }
+
+    // events are buffered under the same lock, so every event is either replayed here or
+    // applied to the saved staff slips by its handler
+    synchronized (buffer) {
+      log.info("save:: replaying {} events consumed during rebuild: {}", buffer.events.size(),
+        key);
+      buffer.events.forEach(event -> event.accept(staffSlips));
+      log.info("save:: saving materialized staff slips of {} requests: {}",
+        staffSlips.getRequestsCount(), key);
+      staffSlipsByKey.put(key, staffSlips);
+    }
+  }
+
+  @Override
+  public void finishRebuild(String servicePointId, String slipsType) {
+    StaffSlipsKey key = new StaffSlipsKey(folioContext.getTenantId(), servicePointId, slipsType);
+    log.info("finishRebuild:: no longer buffering events: {}", key);
+    eventBuffersByKey.computeIfPresent(key, (k, buffer) -> --buffer.rebuilds > 0 ? buffer : null);
+  }
+
+  @Override
+  public void handleRequestEvent(KafkaEvent<Request> event) {
+    String tenantId = event.getTenant();
+    log.debug("handleRequestEvent:: applying request event {} of tenant {}", event::getId,
+      () -> tenantId);
+
+    if (event.getGenericType() == DELETE || event.getNewVersion() == null) {
+      Optional.ofNullable(event.getOldVersion())
+        .map(Request::getId)
+        .ifPresent(requestId -> applyToTenant(tenantId,
+          staffSlips -> staffSlips.removeRequest(requestId)));
+      return;
+    }
+
+    Request request = event.getNewVersion();
+    applyToTenant(tenantId, staffSlips -> staffSlips.applyRequest(request));
+  }
+
+  @Override
+  public void handleItemEvent(KafkaEvent<Item> event) {
+    String tenantId = event.getTenant();
+    log.debug("handleItemEvent:: applying item event {} of tenant {}", event::getId,
+      () -> tenantId);
+
+    EventType eventType = event.getGenericType();
+    if (eventType == DELETE_ALL) {
+      applyToLendingTenant(tenantId, MaterializedStaffSlips::markStale);
+      return;
+    }
+
+    if (eventType == DELETE || event.getNewVersion() == null) {
+      Optional.ofNullable(event.getOldVersion())
+        .map(Item::getId)
+        .ifPresent(itemId -> applyToLendingTenant(tenantId,
+          staffSlips -> staffSlips.removeItem(tenantId, itemId)));
+      return;
+    }
+
+    Item item = event.getNewVersion();
+    applyToLendingTenant(tenantId, staffSlips -> staffSlips.applyItem(tenantId, item));
+  }
+
+  private void applyToTenant(String tenantId, Consumer<MaterializedStaffSlips> action) {
+    apply(staffSlips -> {
+      if (staffSlips.getTenantId().equals(tenantId)) {
+        action.accept(staffSlips);
+      }
+    });
+  }
+
+  private void applyToLendingTenant(String tenantId, Consumer<MaterializedStaffSlips> action) {
+    apply(staffSlips -> {
+      if (staffSlips.getLocationsByTenant().containsKey(tenantId)) {
+        action.accept(staffSlips);
+      }
+    });
+  }
+
+  // an event is buffered before it is applied, so that staff slips saved in the meantime
+  // get it either way
+  private void apply(Consumer<MaterializedStaffSlips> event) {
+    eventBuffersByKey.values().forEach(buffer -> {
+      synchronized (buffer) {
+        buffer.events.add(event);
+      }
+    });
+    staffSlipsByKey.values().forEach(event);
+  }
+
+  private boolean isExpired(MaterializedStaffSlips staffSlips) {
+    return Duration.between(staffSlips.getBuiltAt(), Instant.now())
+      .compareTo(properties.getMaterializedMaxAge()) >= 0;
+  }
+
+  private record StaffSlipsKey(String tenantId, String servicePointId, String slipsType) { }
+
+  // events consumed while staff slips are rebuilt by one or more full searches
+  private static class EventBuffer {
+    private final List<Consumer<MaterializedStaffSlips>> events = new ArrayList<>();
+    private int rebuilds;
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.service.impl;
 
+import org.folio.service.EcsTlrIdempotencyService;
+import org.folio.service.EcsTlrService;
 import org.folio.service.OpenRequestsProcessingService;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +13,14 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class OpenRequestsProcessingServiceImpl implements OpenRequestsProcessingService {
 
+  private final EcsTlrService ecsTlrService;
+  private final EcsTlrIdempotencyService idempotencyService;
+
   @Override
   public void processOpenRequests() {
     log.debug("processOpenRequests:: start");
+    ecsTlrService.resumeInterruptedCreations();
+    idempotencyService.deleteExpiredKeys();
   }
 
 }
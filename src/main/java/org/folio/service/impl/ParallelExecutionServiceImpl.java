@@ -0,0 +1,211 @@
+package org.folio.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.folio.client.memo.ClientCallMemo;
+import org.folio.config.ParallelExecutionProperties;
+import org.folio.service.ParallelExecutionService;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ParallelExecutionServiceImpl implements ParallelExecutionService {
+
+  private final FolioExecutionContext folioContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final ParallelExecutionProperties properties;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @Override
+  public <T, R> List<R> mapInParallel(Collection<T> inputs, Function<T, R> mapper) {
+    return mapInParallel(inputs, mapper, properties.getMaxParallelism());
+  }
+
+  @Override
+  public <T, R> List<R> mapInParallel(Collection<T> inputs, Function<T, R> mapper,
+    int maxParallelism) {
+
+    if (inputs.size() < 2 || maxParallelism < 2) {
+      log.debug("mapInParallel:: executing {} task(s) sequentially", inputs::size);
+      return inputs.stream()
+        .map(mapper)
+        .toList();
+    }
+
+    log.debug("mapInParallel:: executing {} tasks, max parallelism: {}", inputs.size(), maxParallelism);
+    FolioExecutionContext contextSnapshot = copyCurrentContext();
+    ClientCallMemo memo = ClientCallMemo.current().orElse(null);
+    Semaphore permits = new Semaphore(maxParallelism);
+    List<Future<R>> futures = inputs.stream()
+      .map(input -> executor.submit(() -> {
+        permits.acquire();
+        try (var ignored = new FolioExecutionContextSetter(contextSnapshot);
+             var ignoredMemoScope = ClientCallMemo.activate(memo)) {
+          return mapper.apply(input);
+        } finally {
+          permits.release();
+        }
+      }))
+      .toList();
+
+    return collectResults(futures);
+  }
+
+  @Override
+  public <T, R> Map<T, R> mapInParallelSkippingFailures(Collection<T> inputs,
+    Function<T, R> mapper, int maxParallelism, Duration timeout) {
+
+    log.debug("mapInParallelSkippingFailures:: executing {} tasks, max parallelism: {}, " +
+      "timeout: {}", inputs.size(), maxParallelism, timeout);
+    FolioExecutionContext contextSnapshot = copyCurrentContext();
+    ClientCallMemo memo = ClientCallMemo.current().orElse(null);
+    Semaphore permits = new Semaphore(Math.max(1, maxParallelism));
+    Map<T, Future<R>> futures = new LinkedHashMap<>();
+    inputs.forEach(input -> futures.put(input, executor.submit(() -> {
+      permits.acquire();
+      try (var ignored = new FolioExecutionContextSetter(contextSnapshot);
+           var ignoredMemoScope = ClientCallMemo.activate(memo)) {
+        return mapper.apply(input);
+      } finally {
+        permits.release();
+      }
+    })));
+
+    long deadline = System.nanoTime() + timeout.toNanos();
+    Map<T, R> results = new LinkedHashMap<>();
+    for (Map.Entry<T, Future<R>> entry : futures.entrySet()) {
+      T input = entry.getKey();
+      Future<R> future = entry.getValue();
+      try {
+        long remainingNanos = Math.max(0, deadline - System.nanoTime());
+        results.put(input, future.get(remainingNanos, TimeUnit.NANOSECONDS));
+      } catch (ExecutionException e) {
+        log.error("mapInParallelSkippingFailures:: task for {} failed, skipping it", input,
+          e.getCause());
+      } catch (TimeoutException e) {
+        log.error("mapInParallelSkippingFailures:: task for {} did not complete in {}, " +
+          "skipping it", input, timeout);
+        future.cancel(true);
+      } catch (InterruptedException e) {
+        log.warn("mapInParallelSkippingFailures:: interrupted while waiting for tasks, " +
+          "cancelling remaining tasks");
+        futures.values().forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+      }
+    }
+
+    return results;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+    return supplyAsync(task, executor, ClientCallMemo.current().orElse(null));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> supplyDetached(Supplier<T> task) {
+    return supplyDetached(task, executor);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> supplyDetached(Supplier<T> task, Executor taskExecutor) {
+    return supplyAsync(task, taskExecutor, null);
+  }
+
+  @Override
+  public Executor currentContextExecutor() {
+    FolioExecutionContext contextSnapshot = copyCurrentContext();
+    ClientCallMemo memo = ClientCallMemo.current().orElse(null);
+    return task -> executor.execute(() -> {
+      try (var ignored = new FolioExecutionContextSetter(contextSnapshot);
+           var ignoredMemoScope = ClientCallMemo.activate(memo)) {
+        task.run();
+      }
+    });
+  }
+
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Executor taskExecutor,
+    ClientCallMemo memo) {
+
+    FolioExecutionContext contextSnapshot = copyCurrentContext();
+    return CompletableFuture.supplyAsync(() -> {
+      try (var ignored = new FolioExecutionContextSetter(contextSnapshot);
+           var ignoredMemoScope = ClientCallMemo.activate(memo)) {
+        return task.get();
+      }
+    }, taskExecutor);
+  }
+
+  private FolioExecutionContext copyCurrentContext() {
+    var headers = new HashMap<>(Optional.ofNullable(folioContext.getAllHeaders())
+      .orElseGet(HashMap::new));
+
+    return new DefaultFolioExecutionContext(folioModuleMetadata, headers);
+  }
+
+  // results are collected in the order of inputs, so the first failure is the same one
+  // sequential execution would have run into
+  private static <R> List<R> collectResults(List<Future<R>> futures) {
+    List<R> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<R> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (ExecutionException e) {
+      log.warn("collectResults:: task failed, cancelling remaining tasks");
+      futures.forEach(future -> future.cancel(true));
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      log.warn("collectResults:: interrupted while waiting for tasks, cancelling remaining tasks");
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+    }
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    log.info("shutdown:: shutting down parallel execution executor");
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,162 @@
+package org.folio.service.impl;
+
+import static java.util.stream.Collectors.toCollection;
+import static org.folio.domain.type.ErrorCode.UNKNOWN_CACHE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.domain.type.ReferenceDataType;
+import org.folio.exception.ExceptionFactory;
+import org.folio.service.ReferenceDataCacheService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Caches reference data (material types, loan types, location units etc.) which rarely changes.
+ * Entries are partitioned by tenant, since the same ID can be resolved differently in different
+ * tenants. Callers get copies of cached values, so that they are free to modify them.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService {
+
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext folioContext;
+  private final ReferenceDataCacheProperties properties;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E> Collection<E> findByIds(ReferenceDataType type, Collection<String> ids,
+    Function<E, String> idExtractor, Function<Collection<String>, Collection<E>> loader) {
+
+    if (!properties.isEnabled()) {
+      return loader.apply(ids);
+    }
+
+    String tenantId = folioContext.getTenantId();
+    Cache cache = getCache(type);
+    List<E> result = new ArrayList<>();
+    Set<String> missingIds = new LinkedHashSet<>();
+    for (String id : new LinkedHashSet<>(ids)) {
+      Cache.ValueWrapper cachedValue = cache.get(new TenantScopedKey(tenantId, id));
+      if (cachedValue == null) {
+        missingIds.add(id);
+      } else {
+        result.add(copy((E) cachedValue.get()));
+      }
+    }
+
+    log.info("findByIds:: {} of {} {} found in cache of tenant {}", result::size, ids::size,
+      type::getValue, () -> tenantId);
+
+    if (!missingIds.isEmpty()) {
+      Collection<E> loadedValues = loader.apply(missingIds);
+      loadedValues.forEach(value -> cache.put(new TenantScopedKey(tenantId,
+        idExtractor.apply(value)), copy(value)));
+      result.addAll(loadedValues);
+    }
+
+    return result;
+  }
+
+  @Override
+  public <T> T find(ReferenceDataType type, Object key, Supplier<T> loader) {
+    if (!properties.isEnabled()) {
+      return loader.get();
+    }
+
+    try {
+      return copy(getCache(type).get(new TenantScopedKey(folioContext.getTenantId(), key),
+        loader::get));
+    } catch (Cache.ValueRetrievalException e) {
+      // let failures of the loader propagate as if there was no cache
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void evict(String cacheName) {
+    String targetTenantId = folioContext.getTenantId();
+    log.info("evict:: evicting cache {} for tenant {}", cacheName == null ? "all" : cacheName,
+      targetTenantId);
+
+    Collection<ReferenceDataType> types = cacheName == null
+      ? Arrays.asList(ReferenceDataType.values())
+      : List.of(ReferenceDataType.fromValue(cacheName)
+        .orElseThrow(() -> ExceptionFactory.badRequest("Unknown cache: " + cacheName,
+          UNKNOWN_CACHE, Map.of("cacheName", cacheName))));
+
+    types.forEach(type -> evict(targetTenantId, type));
+  }
+
+  private void evict(String tenantId, ReferenceDataType type) {
+    if (!(getCache(type).getNativeCache()
+      instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+
+      log.warn("evict:: cache {} does not support eviction by tenant, clearing it", type::getValue);
+      getCache(type).clear();
+      return;
+    }
+
+    AtomicInteger evictedCount = new AtomicInteger();
+    nativeCache.asMap().keySet().removeIf(key -> {
+      boolean belongsToTenant = key instanceof TenantScopedKey scopedKey
+        && scopedKey.tenantId().equals(tenantId);
+      if (belongsToTenant) {
+        evictedCount.incrementAndGet();
+      }
+      return belongsToTenant;
+    });
+
+    log.info("evict:: {} entries evicted from cache {}", evictedCount::get, type::getValue);
+    Metrics.counter("tlr.reference-data-cache.manual-evictions", "cache", type.getValue())
+      .increment(evictedCount.get());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T copy(T value) {
+    if (value == null || value instanceof String || value instanceof Number
+      || value instanceof Boolean) {
+
+      return value;
+    }
+    if (value instanceof Collection<?> values) {
+      return (T) values.stream()
+        .map(this::copy)
+        .collect(toCollection(ArrayList::new));
+    }
+    return (T) objectMapper.readValue(objectMapper.writeValueAsBytes(value), value.getClass());
+  }
+
+  private Cache getCache(ReferenceDataType type) {
+    Cache cache = cacheManager.getCache(type.getValue());
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + type.getValue());
+    }
+    return cache;
+  }
+
+  record TenantScopedKey(String tenantId, Object key) { }
+}
@@ -42,7 +42,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class RequestEventHandler implements KafkaEventHandler<Request> {
   // the id used by DCB when canceling a request
-  private static final String DCB_CANCELLATION_REASON_ID = "50ed35b2-1397-4e83-a76b-642adf91ca2a";
+  static final String DCB_CANCELLATION_REASON_ID = "50ed35b2-1397-4e83-a76b-642adf91ca2a";
 
   private final DcbService dcbService;
   private final EcsTlrRepository ecsTlrRepository;
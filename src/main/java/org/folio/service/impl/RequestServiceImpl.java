@@ -14,6 +14,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.folio.client.CirculationClient;
 import org.folio.client.CirculationItemClient;
@@ -38,7 +40,9 @@ import org.folio.service.CloningService;
 import org.folio.service.ConsortiaService;
 import org.folio.service.ConsortiumService;
 import org.folio.service.InventoryService;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.RequestService;
+import org.folio.service.SecondaryRequestTenantPrioritizer;
 import org.folio.service.ServicePointService;
 import org.folio.service.UserService;
 import org.folio.spring.FolioExecutionContext;
@@ -46,6 +50,7 @@ import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.support.BulkFetcher;
 import org.folio.support.CqlQuery;
 import org.folio.support.DateTimeUtils;
+import org.folio.support.PagedFetcher;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -71,6 +76,9 @@ public class RequestServiceImpl implements RequestService {
   private final ConsortiaService consortiaService;
   private final ConsortiumService consortiumService;
   private final InventoryService inventoryService;
+  private final ParallelExecutionService parallelExecutionService;
+  private final SecondaryRequestTenantPrioritizer secondaryRequestTenantPrioritizer;
+  private final BulkFetcher bulkFetcher;
 
   private static final String HOLDINGS_RECORD_ID = "10cd3a5a-d36f-4c7a-bc4f-e1ae3cf820c9";
 
@@ -128,8 +136,10 @@ public class RequestServiceImpl implements RequestService {
       folioContext, () -> userService.find(requesterId));
     ServicePoint primaryRequestPickupServicePoint = contextService.execute(
       primaryRequestTenantId, folioContext, () -> servicePointService.find(pickupServicePointId));
+    List<String> prioritizedTenantIds = secondaryRequestTenantPrioritizer.prioritize(request,
+      primaryRequestRequester.getPatronGroup(), secondaryRequestTenantIds);
 
-    for (String secondaryRequestTenantId : secondaryRequestTenantIds) {
+    for (String secondaryRequestTenantId : prioritizedTenantIds) {
       try {
         return contextService.execute(secondaryRequestTenantId, folioContext, () -> {
           log.info("createSecondaryRequest:: creating requester {} in tenant {}",
@@ -142,7 +152,8 @@ public class RequestServiceImpl implements RequestService {
 
           log.info("createSecondaryRequest:: creating secondary request {} in tenant {}",
             requestId, secondaryRequestTenantId);
-          Request secondaryRequest = circulationClient.createRequest(request);
+          Request secondaryRequest = forgetClonesOnFailure(primaryRequestRequester,
+            primaryRequestPickupServicePoint, () -> circulationClient.createRequest(request));
           log.info("createSecondaryRequest:: secondary request {} created in tenant {}",
             secondaryRequest.getId(), secondaryRequestTenantId);
           log.debug("createSecondaryRequest:: secondary request: {}", () -> secondaryRequest);
@@ -171,13 +182,15 @@ public class RequestServiceImpl implements RequestService {
         " item {}, requester {}", intermediateRequestTenantId, intermediateRequest.getInstanceId(),
       intermediateRequest.getItemId(), intermediateRequest.getRequesterId());
 
+    User primaryRequestRequester = null;
+    ServicePoint primaryRequestPickupServicePoint = null;
     try {
       final String requesterId = intermediateRequest.getRequesterId();
       final String pickupServicePointId = intermediateRequest.getPickupServicePointId();
 
-      User primaryRequestRequester = contextService.execute(primaryRequestTenantId,
+      primaryRequestRequester = contextService.execute(primaryRequestTenantId,
         folioContext, () -> userService.find(requesterId));
-      ServicePoint primaryRequestPickupServicePoint = contextService.execute(
+      primaryRequestPickupServicePoint = contextService.execute(
         primaryRequestTenantId, folioContext, () -> servicePointService.find(pickupServicePointId));
 
       log.info("createIntermediateRequest:: creating requester {} in tenant {}",
@@ -203,6 +216,7 @@ public class RequestServiceImpl implements RequestService {
       log.error("createIntermediateRequest:: failed to create intermediate request in tenant {}: {}",
         intermediateRequestTenantId, e.getMessage());
       log.debug("createIntermediateRequest:: ", e);
+      forgetClones(primaryRequestRequester, primaryRequestPickupServicePoint);
     }
 
     String errorMessage = format(
@@ -344,17 +358,24 @@ public class RequestServiceImpl implements RequestService {
     log.info("getRequestsFromStorage:: searching requests by query and index: query={}, index={}, ids={}",
      query, idIndex, ids.size());
     log.debug("getRequestsFromStorage:: ids={}", ids);
-    return BulkFetcher.fetch(requestStorageClient, query, idIndex, ids, Requests::getRequests);
+    return bulkFetcher.fetchInParallel(requestStorageClient, query, idIndex, ids,
+      Requests::getRequests, Request::getId, parallelExecutionService);
   }
 
   @Override
   public Collection<Request> getRequestsFromStorage(CqlQuery query) {
     log.info("getRequestsFromStorage:: searching requests by query: {}", query);
-    Collection<Request> requests = requestStorageClient.getByQuery(query).getRequests();
+    Collection<Request> requests = streamRequestsFromStorage(query).toList();
     log.info("getRequestsFromStorage:: found {} requests", requests::size);
     return requests;
   }
 
+  @Override
+  public Stream<Request> streamRequestsFromStorage(CqlQuery query) {
+    log.info("streamRequestsFromStorage:: streaming requests by query: {}", query);
+    return PagedFetcher.stream(requestStorageClient, query, Requests::getRequests, Request::getId);
+  }
+
   @Override
   public Request updateRequestInStorage(Request request, String tenantId) {
     log.info("updateRequestInStorage:: updating request {} in storage in tenant {}", request::getId,
@@ -365,6 +386,18 @@ public class RequestServiceImpl implements RequestService {
       () -> requestStorageClient.updateRequest(request.getId(), request));
   }
 
+  @Override
+  public void updateRequestInCirculation(Request request, String tenantId) {
+    log.info("updateRequestInCirculation:: updating request {} in tenant {}", request::getId,
+      () -> tenantId);
+    log.debug("updateRequestInCirculation:: {}", request);
+
+    contextService.execute(tenantId, folioContext, () -> {
+      requestCirculationClient.updateRequest(request.getId(), request);
+      return null;
+    });
+  }
+
   @Override
   public List<Request> getRequestsQueueByInstanceId(String instanceId, String tenantId) {
     log.info("getRequestsQueueByInstanceId:: parameters instanceId: {}, tenantId: {}",
@@ -433,11 +466,31 @@ public class RequestServiceImpl implements RequestService {
       .and(greaterThen("metadata.updatedDate", DateTimeUtils.toString(ecsRequestMinUpdateDate)))
       .and(lessThen("metadata.updatedDate", DateTimeUtils.toString(loanCreationDateTime)));
 
-    return getRequestsFromStorage(query)
-      .stream()
+    return streamRequestsFromStorage(query)
       .findFirst();
   }
 
+  private <T> T forgetClonesOnFailure(User requester, ServicePoint pickupServicePoint,
+    Supplier<T> action) {
+
+    try {
+      return action.get();
+    } catch (RuntimeException e) {
+      forgetClones(requester, pickupServicePoint);
+      throw e;
+    }
+  }
+
+  // failure could be caused by a clone which no longer exists, so make sure it is looked up again
+  private void forgetClones(User requester, ServicePoint pickupServicePoint) {
+    if (requester != null) {
+      userCloningService.forget(requester);
+    }
+    if (pickupServicePoint != null) {
+      servicePointCloningService.forget(pickupServicePoint);
+    }
+  }
+
   private void cloneRequester(User primaryRequestRequester) {
     User requesterClone = userCloningService.clone(primaryRequestRequester);
     String patronGroup = primaryRequestRequester.getPatronGroup();
@@ -28,6 +28,7 @@ public class SearchServiceImpl implements SearchService {
 
   private final SearchInstanceClient searchInstanceClient;
   private final ConsortiumSearchClient consortiumSearchClient;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public Collection<SearchInstance> searchInstances(CqlQuery commonQuery, String idIndex,
@@ -36,7 +37,7 @@ public class SearchServiceImpl implements SearchService {
     log.info("searchInstances:: searching instances by query and index: query={}, index={}, ids={}",
       commonQuery, idIndex, ids);
     log.debug("searchInstances:: ids={}", ids);
-    Collection<SearchInstance> instances = BulkFetcher.fetch(searchInstanceClient, commonQuery,
+    Collection<SearchInstance> instances = bulkFetcher.fetch(searchInstanceClient, commonQuery,
       idIndex, ids, SearchInstancesResponse::getInstances);
     log.info("searchInstances:: found {} instances", instances::size);
     return instances;
@@ -14,18 +14,23 @@ import static org.folio.domain.dto.Request.StatusEnum.OPEN_NOT_YET_FILLED;
 import java.util.EnumSet;
 
 import org.folio.domain.dto.ItemStatus;
+import org.folio.config.StaffSlipsProperties;
 import org.folio.service.AddressTypeService;
 import org.folio.service.ConsortiaService;
 import org.folio.service.DepartmentService;
 import org.folio.service.InventoryService;
 import org.folio.service.LocationService;
+import org.folio.service.MaterializedStaffSlipsService;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.RequestService;
+import org.folio.service.ServicePointLocationIndex;
 import org.folio.service.ServicePointService;
 import org.folio.service.UserGroupService;
 import org.folio.service.UserService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.log4j.Log4j2;
@@ -43,11 +48,15 @@ public class SearchSlipsService extends StaffSlipsServiceImpl {
     FolioExecutionContextService contextService,
     FolioExecutionContext folioContext, UserService userService,
     UserGroupService userGroupService, DepartmentService departmentService,
-    AddressTypeService addressTypeService, ServicePointService servicePointService) {
+    AddressTypeService addressTypeService, ServicePointService servicePointService,
+    ParallelExecutionService parallelExecutionService, StaffSlipsProperties staffSlipsProperties,
+    CacheManager cacheManager, MaterializedStaffSlipsService materializedStaffSlipsService,
+    ServicePointLocationIndex locationIndex) {
 
     super(ITEM_STATUSES, EnumSet.of(OPEN_NOT_YET_FILLED), EnumSet.of(HOLD), locationService,
       inventoryService, requestService, consortiaService, contextService,
       folioContext, userService, userGroupService, departmentService, addressTypeService,
-      servicePointService);
+      servicePointService, parallelExecutionService, staffSlipsProperties, cacheManager,
+      materializedStaffSlipsService, locationIndex);
   }
 }
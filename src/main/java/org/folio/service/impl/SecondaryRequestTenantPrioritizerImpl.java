@@ -0,0 +1,89 @@
+package org.folio.service.impl;
+
+import static org.folio.domain.dto.RequestOperation.CREATE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.client.CirculationClient;
+import org.folio.config.SecondaryRequestProperties;
+import org.folio.domain.dto.AllowedServicePointsInner;
+import org.folio.domain.dto.AllowedServicePointsResponse;
+import org.folio.domain.dto.Request;
+import org.folio.service.ParallelExecutionService;
+import org.folio.service.SecondaryRequestTenantPrioritizer;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SecondaryRequestTenantPrioritizerImpl implements SecondaryRequestTenantPrioritizer {
+
+  private final FolioExecutionContextService contextService;
+  private final FolioExecutionContext folioContext;
+  private final CirculationClient circulationClient;
+  private final ParallelExecutionService parallelExecutionService;
+  private final SecondaryRequestProperties properties;
+
+  @Override
+  public List<String> prioritize(Request request, String patronGroupId,
+    Collection<String> tenantIds) {
+
+    List<String> rankedTenantIds = List.copyOf(tenantIds);
+    if (!properties.isHedgingEnabled() || rankedTenantIds.size() < 2 || patronGroupId == null) {
+      return rankedTenantIds;
+    }
+
+    List<String> checkedTenantIds = rankedTenantIds.subList(0,
+      Math.min(Math.max(1, properties.getHedgingTenants()), rankedTenantIds.size()));
+    log.info("prioritize:: checking eligibility of tenants {} for request {}", checkedTenantIds,
+      request.getId());
+    Map<String, Boolean> eligibility = parallelExecutionService.mapInParallelSkippingFailures(
+      checkedTenantIds, tenantId -> isEligible(request, patronGroupId, tenantId),
+      checkedTenantIds.size(), properties.getHedgingTimeout());
+
+    // tenants which could not be checked keep their position
+    List<String> ineligibleTenantIds = checkedTenantIds.stream()
+      .filter(tenantId -> Boolean.FALSE.equals(eligibility.get(tenantId)))
+      .toList();
+    List<String> prioritizedTenantIds = new ArrayList<>(rankedTenantIds);
+    prioritizedTenantIds.removeAll(ineligibleTenantIds);
+    prioritizedTenantIds.addAll(ineligibleTenantIds);
+    log.info("prioritize:: tenants {} are not eligible, tenants will be tried in order: {}",
+      ineligibleTenantIds, prioritizedTenantIds);
+
+    return prioritizedTenantIds;
+  }
+
+  private boolean isEligible(Request request, String patronGroupId, String tenantId) {
+    AllowedServicePointsResponse allowedServicePoints = contextService.execute(tenantId,
+      folioContext, () -> request.getItemId() == null
+        ? circulationClient.allowedServicePointsByInstance(patronGroupId, CREATE.getValue(),
+          request.getInstanceId())
+        : circulationClient.allowedServicePointsByItem(patronGroupId, CREATE.getValue(),
+          request.getItemId()));
+
+    if (allowedServicePoints == null || request.getRequestType() == null) {
+      return true;
+    }
+    Set<AllowedServicePointsInner> servicePoints = switch (request.getRequestType()) {
+      case PAGE -> allowedServicePoints.getPage();
+      case HOLD -> allowedServicePoints.getHold();
+      case RECALL -> allowedServicePoints.getRecall();
+    };
+    boolean eligible = !CollectionUtils.isEmpty(servicePoints);
+    log.info("isEligible:: {} request can {}be placed in tenant {}", request.getRequestType(),
+      eligible ? "" : "not ", tenantId);
+
+    return eligible;
+  }
+}
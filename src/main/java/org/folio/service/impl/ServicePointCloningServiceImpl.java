@@ -1,6 +1,7 @@
 package org.folio.service.impl;
 
 import org.folio.domain.dto.ServicePoint;
+import org.folio.service.CloneRegistry;
 import org.folio.service.ServicePointService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,8 +16,10 @@ public class ServicePointCloningServiceImpl extends CloningServiceImpl<ServicePo
 
   private final ServicePointService servicePointService;
 
-  public ServicePointCloningServiceImpl(@Autowired ServicePointService servicePointService) {
-    super(ServicePoint::getId);
+  public ServicePointCloningServiceImpl(@Autowired ServicePointService servicePointService,
+    @Autowired CloneRegistry cloneRegistry) {
+
+    super(ServicePoint::getId, cloneRegistry);
     this.servicePointService = servicePointService;
   }
 
@@ -0,0 +1,146 @@
+package org.folio.service.impl;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.client.GetByQueryClient;
+import org.folio.client.LocationClient;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.ServicePointLocations;
+import org.folio.domain.dto.Location;
+import org.folio.domain.dto.Locations;
+import org.folio.domain.dto.Tenant;
+import org.folio.service.ConsortiaService;
+import org.folio.service.ParallelExecutionService;
+import org.folio.service.ServicePointLocationIndex;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.folio.support.CqlQuery;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ServicePointLocationIndexImpl implements ServicePointLocationIndex {
+
+  public static final String STAFF_SLIPS_LOCATION_INDEX_CACHE = "staff-slips-location-index";
+  private static final CqlQuery LOCATIONS_WITH_SERVICE_POINT_QUERY =
+    CqlQuery.hasValue("primaryServicePoint");
+
+  private final ConsortiaService consortiaService;
+  private final LocationClient locationClient;
+  private final FolioExecutionContextService contextService;
+  private final FolioExecutionContext folioContext;
+  private final ParallelExecutionService parallelExecutionService;
+  private final StaffSlipsProperties properties;
+  private final CacheManager cacheManager;
+
+  @Override
+  public ServicePointLocations findLocations(Collection<String> servicePointIds) {
+    if (!properties.isLocationIndexEnabled()) {
+      return ServicePointLocations.notIndexed();
+    }
+
+    LocationIndex index;
+    try {
+      index = getCache().get(folioContext.getTenantId(), this::buildIndex);
+    } catch (Cache.ValueRetrievalException e) {
+      // staff slips can still be built by searching every tenant
+      log.warn("findLocations:: failed to build location index, searching all tenants",
+        e.getCause());
+      return ServicePointLocations.notIndexed();
+    }
+
+    Map<String, Collection<Location>> locationsByTenant = new HashMap<>();
+    servicePointIds.stream()
+      .map(servicePointId -> index.locationsByServicePoint().getOrDefault(servicePointId, Map.of()))
+      .forEach(tenantLocations -> tenantLocations.forEach((tenantId, locations) ->
+        locationsByTenant.computeIfAbsent(tenantId, id -> new ArrayList<>()).addAll(locations)));
+
+    log.info("findLocations:: {} of {} indexed tenants have locations of service points {}",
+      locationsByTenant::size, () -> index.indexedTenantIds().size(), () -> servicePointIds);
+    return new ServicePointLocations(locationsByTenant, index.indexedTenantIds());
+  }
+
+  @Override
+  public void invalidate() {
+    log.info("invalidate:: invalidating location index of all tenants");
+    getCache().clear();
+  }
+
+  // A tenant which fails to respond, or has more locations than are fetched at once, is left
+  // out of the index and is searched for locations directly. Locations are fetched bypassing
+  // the reference data cache, so that they are not cached both there and in the index
+  private LocationIndex buildIndex() {
+    Set<String> tenantIds = consortiaService.getAllConsortiumTenants()
+      .stream()
+      .map(Tenant::getId)
+      .collect(toSet());
+    log.info("buildIndex:: building location index of {} tenants", tenantIds.size());
+
+    Map<String, Locations> locationsByTenant =
+      parallelExecutionService.mapInParallelSkippingFailures(tenantIds,
+        tenantId -> contextService.execute(tenantId, folioContext,
+          () -> locationClient.getByQuery(LOCATIONS_WITH_SERVICE_POINT_QUERY)),
+        properties.getTenantParallelism(), properties.getTenantTimeout());
+
+    Map<String, Map<String, List<Location>>> locationsByServicePoint = new HashMap<>();
+    Set<String> indexedTenantIds = new HashSet<>();
+    locationsByTenant.forEach((tenantId, response) -> {
+      List<Location> locations = response.getLocations();
+      if (isIncomplete(response)) {
+        log.warn("buildIndex:: tenant {} has too many locations to be indexed: {}",
+          tenantId, response.getTotalRecords());
+        return;
+      }
+      indexedTenantIds.add(tenantId);
+      locations.stream()
+        .filter(location -> location.getPrimaryServicePoint() != null)
+        .forEach(location -> locationsByServicePoint
+          .computeIfAbsent(location.getPrimaryServicePoint().toString(), id -> new HashMap<>())
+          .computeIfAbsent(tenantId, id -> new ArrayList<>())
+          .add(location));
+    });
+
+    log.info("buildIndex:: indexed locations of {} service points in {} of {} tenants",
+      locationsByServicePoint.size(), indexedTenantIds.size(), tenantIds.size());
+    Set<String> notIndexedTenantIds = new HashSet<>(tenantIds);
+    notIndexedTenantIds.removeAll(indexedTenantIds);
+    if (!notIndexedTenantIds.isEmpty()) {
+      log.warn("buildIndex:: tenants {} are not indexed and are searched for locations directly",
+        notIndexedTenantIds);
+    }
+    return new LocationIndex(locationsByServicePoint, indexedTenantIds);
+  }
+
+  private static boolean isIncomplete(Locations response) {
+    int fetched = response.getLocations().size();
+    Integer totalRecords = response.getTotalRecords();
+    return fetched >= GetByQueryClient.DEFAULT_LIMIT
+      || (totalRecords != null && totalRecords > fetched);
+  }
+
+  private Cache getCache() {
+    Cache cache = cacheManager.getCache(STAFF_SLIPS_LOCATION_INDEX_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: "
+        + STAFF_SLIPS_LOCATION_INDEX_CACHE);
+    }
+    return cache;
+  }
+
+  private record LocationIndex(Map<String, Map<String, List<Location>>> locationsByServicePoint,
+    Set<String> indexedTenantIds) { }
+}
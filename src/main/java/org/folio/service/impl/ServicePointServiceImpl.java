@@ -1,13 +1,18 @@
 package org.folio.service.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.Collection;
+import java.util.Optional;
 
 import org.folio.client.ServicePointClient;
 import org.folio.domain.dto.ServicePoint;
 import org.folio.domain.dto.ServicePoints;
 import org.folio.service.ServicePointService;
 import org.folio.support.BulkFetcher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -18,6 +23,7 @@ import lombok.extern.log4j.Log4j2;
 public class ServicePointServiceImpl implements ServicePointService {
 
   private final ServicePointClient servicePointClient;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public ServicePoint find(String servicePointId) {
@@ -29,7 +35,7 @@ public class ServicePointServiceImpl implements ServicePointService {
   public Collection<ServicePoint> find(Collection<String> servicePointIds) {
     log.info("find:: searching service points by {} IDs", servicePointIds::size);
     log.debug("find:: ids={}", servicePointIds);
-    Collection<ServicePoint> servicePoints = BulkFetcher.fetch(servicePointClient, servicePointIds,
+    Collection<ServicePoint> servicePoints = bulkFetcher.fetch(servicePointClient, servicePointIds,
       ServicePoints::getServicepoints);
     log.info("find:: found {} service points", servicePoints::size);
     return servicePoints;
@@ -38,6 +44,26 @@ public class ServicePointServiceImpl implements ServicePointService {
   @Override
   public ServicePoint create(ServicePoint servicePoint) {
     log.info("create:: creating service point {}", servicePoint.getId());
-    return servicePointClient.postServicePoint(servicePoint);
+    try {
+      return servicePointClient.postServicePoint(servicePoint);
+    } catch (HttpStatusCodeException e) {
+      // the same service point may have been created concurrently by another request
+      if (isServicePointAlreadyExistsError(e)) {
+        log.info("create:: service point {} already exists, repeating find()",
+          servicePoint.getId());
+        return Optional.ofNullable(find(servicePoint.getId()))
+          .orElseThrow(() -> e);
+      }
+      throw e;
+    }
+  }
+
+  private boolean isServicePointAlreadyExistsError(HttpStatusCodeException e) {
+    if (e.getStatusCode().value() != HttpStatus.UNPROCESSABLE_CONTENT.value()) {
+      log.info("isServicePointAlreadyExistsError:: status: {}, not a duplicate service point " +
+        "error", e.getStatusCode().value());
+      return false;
+    }
+    return e.getResponseBodyAsString(UTF_8).contains("value already exists");
   }
 }
@@ -1,8 +1,13 @@
 package org.folio.service.impl;
 
 import static java.lang.Boolean.TRUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
 import static java.util.Locale.getISOCountries;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
@@ -10,18 +15,23 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
-import static org.apache.commons.lang3.StringUtils.firstNonBlank;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.domain.dto.Request.RequestLevelEnum.TITLE;
 import static org.folio.domain.dto.Request.RequestTypeEnum.HOLD;
+import static org.folio.domain.type.ErrorCode.INVALID_CURSOR;
+import static org.folio.support.DateTimeUtils.toZonedDateTime;
+import static org.folio.support.StaffSlipsMetrics.ALL_TENANTS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,23 +39,29 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collector;
-
+import java.util.stream.Stream;
+
+import org.folio.client.GetByQueryClient;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.MaterializedStaffSlips;
+import org.folio.domain.ServicePointLocations;
+import org.folio.domain.StaffSlipItemProjection;
+import org.folio.domain.StaffSlipsPage;
 import org.folio.domain.dto.AddressType;
-import org.folio.domain.dto.Campus;
 import org.folio.domain.dto.Department;
 import org.folio.domain.dto.HoldingsRecord;
 import org.folio.domain.dto.Instance;
 import org.folio.domain.dto.InstanceContributorsInner;
-import org.folio.domain.dto.Institution;
-import org.folio.domain.dto.Item;
-import org.folio.domain.dto.ItemEffectiveCallNumberComponents;
 import org.folio.domain.dto.ItemStatus;
-import org.folio.domain.dto.Library;
-import org.folio.domain.dto.LoanType;
 import org.folio.domain.dto.Location;
-import org.folio.domain.dto.MaterialType;
+import org.folio.domain.dto.Metadata;
 import org.folio.domain.dto.Request;
 import org.folio.domain.dto.ServicePoint;
 import org.folio.domain.dto.StaffSlip;
@@ -57,12 +73,16 @@ import org.folio.domain.dto.User;
 import org.folio.domain.dto.UserGroup;
 import org.folio.domain.dto.UserPersonal;
 import org.folio.domain.dto.UserPersonalAddressesInner;
+import org.folio.exception.ExceptionFactory;
 import org.folio.service.AddressTypeService;
 import org.folio.service.ConsortiaService;
 import org.folio.service.DepartmentService;
 import org.folio.service.InventoryService;
 import org.folio.service.LocationService;
+import org.folio.service.MaterializedStaffSlipsService;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.RequestService;
+import org.folio.service.ServicePointLocationIndex;
 import org.folio.service.ServicePointService;
 import org.folio.service.StaffSlipsService;
 import org.folio.service.UserGroupService;
@@ -70,6 +90,10 @@ import org.folio.service.UserService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.support.CqlQuery;
+import org.folio.support.DateTimeUtils;
+import org.folio.support.StaffSlipsMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -80,6 +104,10 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class StaffSlipsServiceImpl implements StaffSlipsService {
 
+  public static final String STAFF_SLIPS_SNAPSHOTS_CACHE = "staff-slips-snapshots";
+  private static final String MULTIPLE_SERVICE_POINTS = "multiple";
+  private static final int HOLDS_PAGE_SIZE = GetByQueryClient.DEFAULT_LIMIT;
+
   private final EnumSet<ItemStatus.NameEnum> relevantItemStatuses;
   private final EnumSet<Request.StatusEnum> relevantRequestStatuses;
   private final EnumSet<Request.RequestTypeEnum> relevantRequestTypes;
@@ -95,81 +123,588 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
   private final DepartmentService departmentService;
   private final AddressTypeService addressTypeService;
   private final ServicePointService servicePointService;
+  private final ParallelExecutionService parallelExecutionService;
+  private final StaffSlipsProperties staffSlipsProperties;
+  private final CacheManager cacheManager;
+  private final MaterializedStaffSlipsService materializedStaffSlipsService;
+  private final ServicePointLocationIndex locationIndex;
 
   @Override
-  public Collection<StaffSlip> getStaffSlips(String servicePointId) {
-    log.info("getStaffSlips:: building staff slips for service point {}", servicePointId);
-    StaffSlipsContext context = new StaffSlipsContext();
-    findLocationsAndItems(servicePointId, context);
-    if (context.getLocationsByTenant().isEmpty()) {
-      log.info("getStaffSlips:: found no location for service point {}, doing nothing", servicePointId);
-      return emptyList();
+  public Collection<StaffSlip> getStaffSlips(String servicePointId, Date since) {
+    Collection<StaffSlip> staffSlips = new ArrayList<>();
+    buildStaffSlips(servicePointId, since, Integer.MAX_VALUE, staffSlips::addAll);
+    log.info("getStaffSlips:: successfully built {} staff slips", staffSlips::size);
+    return staffSlips;
+  }
+
+  @Override
+  public void streamStaffSlips(String servicePointId, Date since,
+    Consumer<Collection<StaffSlip>> batchConsumer) {
+
+    buildStaffSlips(servicePointId, since, staffSlipsProperties.getStreamBatchSize(), batchConsumer);
+  }
+
+  @Override
+  public Map<String, Collection<StaffSlip>> getStaffSlipsByServicePoint(
+    Collection<String> servicePointIds, Date since) {
+
+    log.info("getStaffSlipsByServicePoint:: building staff slips for service points {}, since: {}",
+      servicePointIds, since);
+    StaffSlipsMetrics metrics = new StaffSlipsMetrics(getSlipsType(), MULTIPLE_SERVICE_POINTS);
+    try {
+      StaffSlipsContext context = searchForRequests(servicePointIds, since, metrics);
+      Map<String, Collection<StaffSlip>> staffSlipsByServicePoint = new LinkedHashMap<>();
+      servicePointIds.forEach(id -> staffSlipsByServicePoint.put(id, new ArrayList<>()));
+      if (context.getRequests().isEmpty()) {
+        log.info("getStaffSlipsByServicePoint:: found no requests to build staff slips for");
+        return staffSlipsByServicePoint;
+      }
+
+      discardNonRequestedItems(context);
+      Map<String, Set<String>> servicePointIdsByRequestId = findServicePointIdsByRequestId(context);
+      buildStaffSlipsInBatches(context, Integer.MAX_VALUE, metrics, staffSlips ->
+        staffSlips.forEach(staffSlip -> servicePointIdsByRequestId
+          .getOrDefault(staffSlip.getRequest().getRequestID().toString(), emptySet())
+          .stream()
+          .filter(staffSlipsByServicePoint::containsKey)
+          .forEach(servicePointId -> staffSlipsByServicePoint.get(servicePointId).add(staffSlip))));
+
+      return staffSlipsByServicePoint;
+    } finally {
+      metrics.report();
+    }
+  }
+
+  // Relevant statuses and types of this service are expected to cover those of every service
+  // in slipsServices, so that requests of all of them are found by a single search. Every request
+  // is then assigned to services it is relevant for.
+  protected Map<StaffSlipsServiceImpl, Collection<StaffSlip>> buildStaffSlipsOfTypes(
+    String servicePointId, Date since, Collection<StaffSlipsServiceImpl> slipsServices) {
+
+    StaffSlipsMetrics metrics = new StaffSlipsMetrics(getSlipsType(), servicePointId);
+    try {
+      Map<StaffSlipsServiceImpl, Collection<StaffSlip>> staffSlipsByService = new LinkedHashMap<>();
+      slipsServices.forEach(service -> staffSlipsByService.put(service, new ArrayList<>()));
+      StaffSlipsContext context = findRequestsToBuildStaffSlipsFor(servicePointId, since, metrics);
+
+      Map<String, StaffSlipItemProjection> itemsById = context.getItemContextsByTenant()
+        .values()
+        .stream()
+        .flatMap(Collection::stream)
+        .collect(toMap(ItemContext::getItemId, ItemContext::getItem, (a, b) -> a));
+      Map<String, List<StaffSlipsServiceImpl>> servicesByRequestId = context.getRequests()
+        .stream()
+        .collect(toMap(Request::getId, request -> slipsServices.stream()
+          .filter(service -> service.isRelevant(request, itemsById.get(request.getItemId())))
+          .toList(), (a, b) -> a));
+
+      buildStaffSlipsInBatches(context, Integer.MAX_VALUE, metrics, staffSlips ->
+        staffSlips.forEach(staffSlip -> servicesByRequestId
+          .getOrDefault(staffSlip.getRequest().getRequestID().toString(), emptyList())
+          .forEach(service -> staffSlipsByService.get(service).add(staffSlip))));
+
+      log.info("buildStaffSlipsOfTypes:: built staff slips for service point {}: {}",
+        () -> servicePointId, () -> staffSlipsByService.entrySet()
+          .stream()
+          .map(entry -> entry.getKey().getSlipsType() + "=" + entry.getValue().size())
+          .collect(joining(", ")));
+      return staffSlipsByService;
+    } finally {
+      metrics.report();
+    }
+  }
+
+  // a title level hold without an item is only found when holds are relevant, its instance
+  // has already been checked for holdings at locations of the service point
+  boolean isRelevant(Request request, StaffSlipItemProjection item) {
+    if (!relevantRequestStatuses.contains(request.getStatus())
+      || !relevantRequestTypes.contains(request.getRequestType())) {
+
+      return false;
+    }
+    if (request.getItemId() == null) {
+      return true;
+    }
+
+    return item != null && relevantItemStatuses.contains(item.status());
+  }
+
+  EnumSet<ItemStatus.NameEnum> getRelevantItemStatuses() {
+    return EnumSet.copyOf(relevantItemStatuses);
+  }
+
+  EnumSet<Request.StatusEnum> getRelevantRequestStatuses() {
+    return EnumSet.copyOf(relevantRequestStatuses);
+  }
+
+  EnumSet<Request.RequestTypeEnum> getRelevantRequestTypes() {
+    return EnumSet.copyOf(relevantRequestTypes);
+  }
+
+  @Override
+  public StaffSlipsPage getStaffSlipsPage(String servicePointId, Date since, Integer limit,
+    String cursor) {
+
+    StaffSlipsMetrics metrics = new StaffSlipsMetrics(getSlipsType(), servicePointId);
+    try {
+      return getStaffSlipsPage(servicePointId, since, limit, cursor, metrics);
+    } finally {
+      metrics.report();
     }
-    findRequests(context);
+  }
+
+  private StaffSlipsPage getStaffSlipsPage(String servicePointId, Date since, Integer limit,
+    String cursor, StaffSlipsMetrics metrics) {
+
+    int pageSize = Optional.ofNullable(limit).orElse(staffSlipsProperties.getDefaultPageSize());
+    StaffSlipsCursor position = Optional.ofNullable(cursor)
+      .map(StaffSlipsCursor::decode)
+      .orElseGet(StaffSlipsCursor::start);
+
+    StaffSlipsSnapshot snapshot = findSnapshot(position.snapshotId(), servicePointId, since)
+      .orElseGet(() -> createSnapshot(servicePointId, since, position.snapshotId() != null,
+        metrics));
+
+    List<Request> requests = snapshot.requests();
+    int from = Math.min(position.offset(), requests.size());
+    int to = Math.min(from + pageSize, requests.size());
+    log.info("getStaffSlipsPage:: building staff slips {}-{} of {}", from, to, requests.size());
+    Collection<StaffSlip> staffSlips = from == to
+      ? emptyList()
+      : buildStaffSlipsBatch(buildPageContext(snapshot, requests.subList(from, to), metrics));
+
+    if (to == requests.size()) {
+      return new StaffSlipsPage(staffSlips, requests.size(), null);
+    }
+    getSnapshotsCache().putIfAbsent(snapshot.id(), snapshot);
+    return new StaffSlipsPage(staffSlips, requests.size(),
+      new StaffSlipsCursor(snapshot.id(), to).encode());
+  }
+
+  private void buildStaffSlips(String servicePointId, Date since, int batchSize,
+    Consumer<Collection<StaffSlip>> batchConsumer) {
+
+    StaffSlipsMetrics metrics = new StaffSlipsMetrics(getSlipsType(), servicePointId);
+    try {
+      buildStaffSlips(servicePointId, since, batchSize, batchConsumer, metrics);
+    } finally {
+      metrics.report();
+    }
+  }
+
+  private void buildStaffSlips(String servicePointId, Date since, int batchSize,
+    Consumer<Collection<StaffSlip>> batchConsumer, StaffSlipsMetrics metrics) {
+
+    StaffSlipsContext context = findRequestsToBuildStaffSlipsFor(servicePointId, since, metrics);
+    buildStaffSlipsInBatches(context, batchSize, metrics, batchConsumer);
+  }
+
+  private void buildStaffSlipsInBatches(StaffSlipsContext context, int batchSize,
+    StaffSlipsMetrics metrics, Consumer<Collection<StaffSlip>> batchConsumer) {
+
+    List<Request> requests = context.getRequests();
+    if (requests.isEmpty()) {
+      return;
+    }
+    if (requests.size() <= batchSize) {
+      batchConsumer.accept(buildStaffSlipsBatch(context));
+      return;
+    }
+
+    // data which is only needed for a batch of slips is fetched right before the batch is built
+    // and dropped once it is handed over, so that memory usage does not grow with the number
+    // of requests
+    int batchesCount = (requests.size() + batchSize - 1) / batchSize;
+    log.info("getStaffSlips:: building {} staff slips in {} batches", requests.size(), batchesCount);
+    for (int from = 0; from < requests.size(); from += batchSize) {
+      List<Request> batch = requests.subList(from, Math.min(from + batchSize, requests.size()));
+      batchConsumer.accept(buildStaffSlipsBatch(context.forBatch(batch, metrics)));
+    }
+  }
+
+  private StaffSlipsContext findRequestsToBuildStaffSlipsFor(String servicePointId, Date since,
+    StaffSlipsMetrics metrics) {
+
+    log.info("getStaffSlips:: building staff slips for service point {}, since: {}",
+      servicePointId, since);
+    StaffSlipsContext context = materializedStaffSlipsService.find(servicePointId, getSlipsType())
+      .map(staffSlips -> buildContext(staffSlips, since, metrics))
+      .orElseGet(() -> searchForRequests(servicePointId, since, metrics));
+
     if (context.getRequests().isEmpty()) {
       log.info("getStaffSlips:: found no requests to build staff slips for, doing nothing");
-      return emptyList();
+      return context;
     }
     discardNonRequestedItems(context);
-    findInstances(context);
-    findRequesters(context);
-    findUserGroups(context);
-    findDepartments(context);
-    findAddressTypes(context);
-    findPickupServicePoints(context);
-    fetchDataFromLendingTenants(context);
-
-    Collection<StaffSlip> staffSlips = buildStaffSlips(context);
-    log.info("getStaffSlips:: successfully built {} staff slips", staffSlips::size);
+    return context;
+  }
+
+  private StaffSlipsContext searchForRequests(String servicePointId, Date since,
+    StaffSlipsMetrics metrics) {
+
+    // only the full set of requests can be kept up to date by events
+    if (since != null || !materializedStaffSlipsService.isEnabled()) {
+      return searchForRequests(List.of(servicePointId), since, metrics);
+    }
+
+    // events consumed during the search are applied to its result when it is saved
+    materializedStaffSlipsService.startRebuild(servicePointId, getSlipsType());
+    try {
+      StaffSlipsContext context = searchForRequests(List.of(servicePointId), since, metrics);
+      if (!context.getLocationsByTenant().isEmpty()) {
+        materializedStaffSlipsService.save(materialize(servicePointId, context));
+      }
+      return context;
+    } finally {
+      materializedStaffSlipsService.finishRebuild(servicePointId, getSlipsType());
+    }
+  }
+
+  private StaffSlipsContext searchForRequests(Collection<String> servicePointIds, Date since,
+    StaffSlipsMetrics metrics) {
+
+    StaffSlipsContext context = new StaffSlipsContext(metrics);
+    metrics.measure("findLocationsAndItems", () -> findLocationsAndItems(servicePointIds, context));
+    if (context.getLocationsByTenant().isEmpty()) {
+      log.info("getStaffSlips:: found no location for service points {}, doing nothing",
+        servicePointIds);
+      return context;
+    }
+    metrics.measure("findRequests", () -> findRequests(context, since));
+    return context;
+  }
+
+  // A request belongs to the service point of location of its item. A title level hold without
+  // an item belongs to service points of all locations which have holdings of its instance.
+  private static Map<String, Set<String>> findServicePointIdsByRequestId(
+    StaffSlipsContext context) {
+
+    Map<String, String> servicePointIdByItemId = new HashMap<>();
+    context.getItemContextsByTenant()
+      .values()
+      .stream()
+      .flatMap(Collection::stream)
+      .filter(itemContext -> itemContext.getLocation() != null)
+      .forEach(itemContext -> servicePointIdByItemId.put(itemContext.getItemId(),
+        itemContext.getLocation().getPrimaryServicePoint().toString()));
+
+    Map<String, Set<String>> servicePointIdsByInstanceId = new HashMap<>();
+    context.getHoldingsByIdCache().forEach((tenantId, holdings) -> {
+      Map<String, Location> locationsById = toMapById(
+        context.getLocationsByTenant().getOrDefault(tenantId, emptyList()), Location::getId);
+      holdings.forEach(holding -> Optional.ofNullable(holding.effectiveLocationId())
+        .map(locationsById::get)
+        .map(Location::getPrimaryServicePoint)
+        .ifPresent(servicePointId -> servicePointIdsByInstanceId
+          .computeIfAbsent(holding.instanceId(), id -> new HashSet<>())
+          .add(servicePointId.toString())));
+    });
+
+    return context.getRequests()
+      .stream()
+      .collect(toMap(Request::getId, request -> request.getItemId() == null
+        ? servicePointIdsByInstanceId.getOrDefault(request.getInstanceId(), emptySet())
+        : Optional.ofNullable(servicePointIdByItemId.get(request.getItemId()))
+          .map(Set::of)
+          .orElseGet(Set::of), (a, b) -> a));
+  }
+
+  // Requests and items are taken from materialized staff slips, only data which is displayed
+  // on staff slips is fetched
+  private StaffSlipsContext buildContext(MaterializedStaffSlips staffSlips, Date since,
+    StaffSlipsMetrics metrics) {
+
+    StaffSlipsContext context = new StaffSlipsContext(metrics);
+    context.getLocationsByTenant().putAll(staffSlips.getLocationsByTenant());
+    staffSlips.copyItemsByTenant().forEach((tenantId, items) -> {
+      Collection<Location> locations = staffSlips.getLocationsByTenant()
+        .getOrDefault(tenantId, emptyList());
+      context.getItemContextsByTenant().put(tenantId, toItemContexts(items, locations));
+    });
+    staffSlips.copyRequests()
+      .stream()
+      .filter(request -> isUpdatedAfter(request, since))
+      .forEach(context.getRequests()::add);
+
+    log.info("buildContext:: found {} requests in materialized staff slips",
+      context.getRequests().size());
+    return context;
+  }
+
+  private MaterializedStaffSlips materialize(String servicePointId, StaffSlipsContext context) {
+    Map<String, Collection<StaffSlipItemProjection>> itemsByTenant = new HashMap<>();
+    context.getItemContextsByTenant().forEach((tenantId, itemContexts) ->
+      itemsByTenant.put(tenantId, itemContexts.stream().map(ItemContext::getItem).toList()));
+
+    return new MaterializedStaffSlips(folioContext.getTenantId(), servicePointId, getSlipsType(),
+      relevantItemStatuses.stream().map(ItemStatus.NameEnum::getValue).collect(toSet()),
+      relevantRequestStatuses.stream().map(Request.StatusEnum::getValue).collect(toSet()),
+      relevantRequestTypes.stream().map(Request.RequestTypeEnum::getValue).collect(toSet()),
+      context.getLocationsByTenant(), itemsByTenant, context.getRequests());
+  }
+
+  private String getSlipsType() {
+    return getClass().getSimpleName();
+  }
+
+  private Optional<StaffSlipsSnapshot> findSnapshot(String snapshotId, String servicePointId,
+    Date since) {
+
+    if (snapshotId == null) {
+      return Optional.empty();
+    }
+
+    StaffSlipsSnapshot snapshot = getSnapshotsCache().get(snapshotId, StaffSlipsSnapshot.class);
+    if (snapshot == null) {
+      log.info("findSnapshot:: snapshot {} has expired or was created by another instance", snapshotId);
+      return Optional.empty();
+    }
+    if (!snapshot.tenantId().equals(folioContext.getTenantId())
+      || !snapshot.servicePointId().equals(servicePointId)
+      || !snapshot.slipsType().equals(getSlipsType())
+      || !Objects.equals(snapshot.since(), since)) {
+
+      log.warn("findSnapshot:: snapshot {} was created for another tenant, service point, " +
+        "type of staff slips or since", snapshotId);
+      throw ExceptionFactory.badRequest("Cursor does not match the request", INVALID_CURSOR,
+        Map.of("cursor", snapshotId));
+    }
+    log.info("findSnapshot:: reusing snapshot {}", snapshotId);
+    return Optional.of(snapshot);
+  }
+
+  // Requests are sorted by request date and ID, so that a page points to the same requests even
+  // when the snapshot has to be re-created. Only requests created or closed in the meantime
+  // can shift pages in that case.
+  private StaffSlipsSnapshot createSnapshot(String servicePointId, Date since,
+    boolean isRecreated, StaffSlipsMetrics metrics) {
+
+    StaffSlipsContext context = findRequestsToBuildStaffSlipsFor(servicePointId, since, metrics);
+    context.getRequests().sort(comparing(Request::getRequestDate, nullsLast(naturalOrder()))
+      .thenComparing(Request::getId, nullsLast(naturalOrder())));
+
+    Map<String, List<StaffSlipItemProjection>> itemsByTenant = new HashMap<>();
+    context.getItemContextsByTenant().forEach((tenantId, itemContexts) ->
+      itemsByTenant.put(tenantId, itemContexts.stream().map(ItemContext::getItem).toList()));
+    Map<String, List<Location>> locationsByTenant = new HashMap<>();
+    context.getLocationsByTenant().forEach((tenantId, locations) ->
+      locationsByTenant.put(tenantId, List.copyOf(locations)));
+    Map<String, List<HoldingProjection>> holdingsByTenant = new HashMap<>();
+    context.getHoldingsByIdCache().forEach((tenantId, holdings) ->
+      holdingsByTenant.put(tenantId, List.copyOf(holdings)));
+
+    StaffSlipsSnapshot snapshot = new StaffSlipsSnapshot(UUID.randomUUID().toString(),
+      folioContext.getTenantId(), servicePointId, getSlipsType(), since,
+      List.copyOf(context.getRequests()), Map.copyOf(locationsByTenant),
+      Map.copyOf(itemsByTenant), Map.copyOf(holdingsByTenant),
+      List.copyOf(context.getInstanceCache()));
+    log.info("createSnapshot:: {} snapshot {} of {} requests", isRecreated ? "re-created" : "created",
+      snapshot.id(), snapshot.requests().size());
+    return snapshot;
+  }
+
+  // Pages of the same snapshot can be built at the same time, so every page gets its own
+  // context with its own item contexts, the snapshot itself is only read
+  private static StaffSlipsContext buildPageContext(StaffSlipsSnapshot snapshot,
+    Collection<Request> pageRequests, StaffSlipsMetrics metrics) {
+
+    Set<String> requestedItemIds = pageRequests.stream()
+      .map(Request::getItemId)
+      .filter(Objects::nonNull)
+      .collect(toSet());
+    Set<String> requestedInstanceIds = pageRequests.stream()
+      .map(Request::getInstanceId)
+      .collect(toSet());
+
+    StaffSlipsContext pageContext = new StaffSlipsContext(metrics);
+    pageContext.getRequests().addAll(pageRequests);
+    pageContext.getLocationsByTenant().putAll(snapshot.locationsByTenant());
+    pageContext.getHoldingsByIdCache().putAll(snapshot.holdingsByTenant());
+    snapshot.instances()
+      .stream()
+      .filter(instance -> requestedInstanceIds.contains(instance.id()))
+      .forEach(pageContext.getInstanceCache()::add);
+    snapshot.itemsByTenant().forEach((tenantId, items) -> {
+      List<StaffSlipItemProjection> pageItems = items.stream()
+        .filter(item -> requestedItemIds.contains(item.id()))
+        .toList();
+      if (!pageItems.isEmpty()) {
+        pageContext.getItemContextsByTenant().put(tenantId, toItemContexts(pageItems,
+          snapshot.locationsByTenant().getOrDefault(tenantId, emptyList())));
+      }
+    });
+
+    return pageContext;
+  }
+
+  private Cache getSnapshotsCache() {
+    Cache cache = cacheManager.getCache(STAFF_SLIPS_SNAPSHOTS_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + STAFF_SLIPS_SNAPSHOTS_CACHE);
+    }
+    return cache;
+  }
+
+  // Every stage waits only for stages whose results it uses, so a batch takes as long as its
+  // longest chain of stages. Each stage populates its own part of the context.
+  private Collection<StaffSlip> buildStaffSlipsBatch(StaffSlipsContext context) {
+    StaffSlipsMetrics metrics = context.getMetrics();
+    var instances = runStage(context, "findInstances", () -> findInstances(context));
+    var requesters = runStage(context, "findRequesters", () -> findRequesters(context));
+    var userGroups = runStage(context, "findUserGroups", () -> findUserGroups(context),
+      requesters);
+    var departments = runStage(context, "findDepartments", () -> findDepartments(context),
+      requesters);
+    var addressTypes = runStage(context, "findAddressTypes", () -> findAddressTypes(context),
+      requesters);
+    var pickupServicePoints = runStage(context, "findPickupServicePoints",
+      () -> findPickupServicePoints(context));
+    var lendingTenantsData = runStage(context, "fetchDataFromLendingTenants",
+      () -> fetchDataFromLendingTenants(context));
+    awaitStages(instances, userGroups, departments, addressTypes, pickupServicePoints,
+      lendingTenantsData);
+
+    Collection<StaffSlip> staffSlips;
+    try (var ignored = metrics.startStage("buildStaffSlips", ALL_TENANTS)) {
+      staffSlips = buildStaffSlips(context);
+    }
+    metrics.recordBatch(staffSlips.size());
     return staffSlips;
   }
 
-  private void findHoldRequestsWithoutItems(StaffSlipsContext context) {
+  // The executor is obtained in the calling thread: a stage which depends on other stages is
+  // started by the thread which completed the last of them, and that thread's context is gone
+  private CompletableFuture<Void> runStage(StaffSlipsContext context, String stage,
+    Runnable action, CompletableFuture<?>... inputs) {
+
+    return CompletableFuture.allOf(inputs)
+      .thenRunAsync(() -> context.getMetrics().measure(stage, action),
+        parallelExecutionService.currentContextExecutor());
+  }
+
+  private static void awaitStages(CompletableFuture<?>... stages) {
+    try {
+      CompletableFuture.allOf(stages).join();
+    } catch (CompletionException e) {
+      log.error("awaitStages:: failed to build staff slips", e.getCause());
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private void findHoldRequestsWithoutItems(StaffSlipsContext context, Date since) {
     if (!relevantRequestTypes.contains(HOLD)) {
       log.info("findHoldRequestsWithoutItems:: 'Hold' is not a relevant request type, doing nothing");
       return;
     }
 
-    Collection<Request> holdRequestsWithoutItems = findTitleLevelHoldsWithoutItems();
-    Collection<Instance> instances = findInstancesForRequests(holdRequestsWithoutItems);
-    Map<String, Collection<HoldingsRecord>> holdings = findHoldingsForHolds(instances, context);
+    // requests are filtered page by page, so that only requests for relevant instances are kept
+    List<Request> page = new ArrayList<>(HOLDS_PAGE_SIZE);
+    Iterator<Request> holdRequestsWithoutItems = streamTitleLevelHoldsWithoutItems(since)
+      .iterator();
+    while (holdRequestsWithoutItems.hasNext()) {
+      page.add(holdRequestsWithoutItems.next());
+      if (page.size() == HOLDS_PAGE_SIZE || !holdRequestsWithoutItems.hasNext()) {
+        findHoldRequestsForRelevantInstances(context, page);
+        page = new ArrayList<>(HOLDS_PAGE_SIZE);
+      }
+    }
+  }
+
+  private void findHoldRequestsForRelevantInstances(StaffSlipsContext context,
+    Collection<Request> holdRequestsWithoutItems) {
+
+    Collection<InstanceProjection> instances = findInstancesForRequests(holdRequestsWithoutItems);
+    context.getMetrics().recordFetched("requests", ALL_TENANTS, holdRequestsWithoutItems.size());
+    context.getMetrics().recordFetched("instances", ALL_TENANTS, instances.size());
+    Map<String, Collection<HoldingProjection>> holdings = findHoldingsForHolds(instances, context);
 
     Set<String> relevantInstanceIds = holdings.values()
       .stream()
       .flatMap(Collection::stream)
-      .map(HoldingsRecord::getInstanceId)
+      .map(HoldingProjection::instanceId)
       .collect(toSet());
 
     List<Request> requestsForRelevantInstances = holdRequestsWithoutItems.stream()
       .filter(request -> relevantInstanceIds.contains(request.getInstanceId()))
       .toList();
 
-    log.info("getStaffSlips:: {} of {} hold requests are placed on relevant instances",
-      requestsForRelevantInstances::size, holdRequestsWithoutItems::size);
+    log.info("findHoldRequestsForRelevantInstances:: {} of {} hold requests are placed on " +
+      "relevant instances", requestsForRelevantInstances::size, holdRequestsWithoutItems::size);
 
     context.getRequests().addAll(requestsForRelevantInstances);
-    context.getInstanceCache().addAll(instances);
+    instances.stream()
+      .filter(instance -> relevantInstanceIds.contains(instance.id()))
+      .forEach(context.getInstanceCache()::add);
   }
 
-  private void findLocationsAndItems(String servicePointId, StaffSlipsContext staffSlipsContext) {
-    CqlQuery locationsQuery = CqlQuery.exactMatch("primaryServicePoint", servicePointId);
+  private void findLocationsAndItems(Collection<String> servicePointIds,
+    StaffSlipsContext staffSlipsContext) {
 
-    getAllConsortiumTenants()
-      .forEach(tenantId -> contextService.execute(tenantId, folioContext, () -> {
-        log.info("getStaffSlips:: searching for relevant locations and items in tenant {}", tenantId);
-        Collection<Location> locations = locationService.findLocations(locationsQuery);
-        Map<String, Location> locationsById = toMapById(locations, Location::getId);
+    CqlQuery locationsQuery = servicePointIds.size() == 1
+      ? CqlQuery.exactMatch("primaryServicePoint", servicePointIds.iterator().next())
+      : CqlQuery.exactMatchAny("primaryServicePoint", servicePointIds);
 
-        Collection<Item> items = findItems(locations);
-        Collection<ItemContext> itemContexts = items.stream()
-          .map(item -> new ItemContext(item.getId(), item,
-            locationsById.get(item.getEffectiveLocationId())))
-          .collect(toList());
+    // tenants which are known to have no locations of the service points are not contacted
+    ServicePointLocations indexedLocations = locationIndex.findLocations(servicePointIds);
+    Collection<String> allTenantIds = getAllConsortiumTenants();
+    Collection<String> tenantIds = allTenantIds.stream()
+      .filter(indexedLocations::mayHaveLocations)
+      .collect(toSet());
+    log.info("findLocationsAndItems:: searching {} of {} tenants, {} tenants have no locations " +
+      "of service points {}", tenantIds.size(), allTenantIds.size(),
+      allTenantIds.size() - tenantIds.size(), servicePointIds);
+
+    StaffSlipsMetrics metrics = staffSlipsContext.getMetrics();
+    executeInTenants("findLocationsAndItems", tenantIds, metrics, tenantId -> {
+      log.info("getStaffSlips:: searching for relevant locations and items in tenant {}", tenantId);
+      Collection<Location> locations = indexedLocations.isIndexed(tenantId)
+        ? indexedLocations.locationsByTenant().get(tenantId)
+        : locationService.findLocations(locationsQuery);
+      Collection<StaffSlipItemProjection> items = findItems(locations);
+      metrics.recordFetched("locations", tenantId, locations.size());
+      metrics.recordFetched("items", tenantId, items.size());
+
+      return new TenantLocationsAndItems(locations, toItemContexts(items, locations));
+    }).forEach((tenantId, locationsAndItems) -> {
+      staffSlipsContext.getLocationsByTenant().put(tenantId, locationsAndItems.locations());
+      staffSlipsContext.getItemContextsByTenant().put(tenantId, locationsAndItems.itemContexts());
+    });
+  }
 
-        staffSlipsContext.getLocationsByTenant().put(tenantId, locations);
-        staffSlipsContext.getItemContextsByTenant().put(tenantId, itemContexts);
-        return null;
-      }));
+  private static Collection<ItemContext> toItemContexts(Collection<StaffSlipItemProjection> items,
+    Collection<Location> locations) {
+
+    Map<String, Location> locationsById = toMapById(locations, Location::getId);
+    return items.stream()
+      .map(item -> new ItemContext(item, locationsById.get(item.effectiveLocationId())))
+      .collect(toList());
+  }
+
+  // Results of tenants are returned rather than written to the context by the tenants
+  // themselves, so that a tenant which timed out can not modify the context later.
+  // Tenants which failed or timed out are missing from the result.
+  private <T> Map<String, T> executeInTenants(String stage, Collection<String> tenantIds,
+    StaffSlipsMetrics metrics, Function<String, T> action) {
+
+    Map<String, T> results = parallelExecutionService.mapInParallelSkippingFailures(tenantIds,
+      tenantId -> contextService.execute(tenantId, folioContext, () -> {
+        try (var ignored = metrics.startStage(stage, tenantId)) {
+          return action.apply(tenantId);
+        }
+      }),
+      staffSlipsProperties.getTenantParallelism(), staffSlipsProperties.getTenantTimeout());
+
+    Set<String> skippedTenantIds = new HashSet<>(tenantIds);
+    skippedTenantIds.removeAll(results.keySet());
+    if (!skippedTenantIds.isEmpty()) {
+      log.warn("executeInTenants:: stage {} failed or timed out in tenants {}, staff slips " +
+        "will lack their data", stage, skippedTenantIds);
+      metrics.recordSkippedTenants(stage, skippedTenantIds);
+    }
+    return results;
   }
 
   private Collection<String> getAllConsortiumTenants() {
@@ -179,7 +714,9 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .collect(toSet());
   }
 
-  private Collection<Item> findItems(Collection<Location> locations) {
+  // items are projected right away, so that only fields displayed on staff slips are kept for
+  // items which turn out not to be requested
+  private Collection<StaffSlipItemProjection> findItems(Collection<Location> locations) {
     if (locations.isEmpty()) {
       log.info("findItems:: no locations to search items for, doing nothing");
       return emptyList();
@@ -195,18 +732,20 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     CqlQuery query = CqlQuery.exactMatchAny("status.name", itemStatuses);
 
-    return inventoryService.findItems(query, "effectiveLocationId", locationIds);
+    return inventoryService.findItems(query, "effectiveLocationId", locationIds)
+      .stream()
+      .map(StaffSlipItemProjection::from)
+      .toList();
   }
 
-  private void findRequests(StaffSlipsContext context) {
+  private void findRequests(StaffSlipsContext context, Date since) {
     log.info("findRequestsForItems:: searching for requests for relevant items");
 
     List<String > itemIds = context.getItemContextsByTenant()
       .values()
       .stream()
       .flatMap(Collection::stream)
-      .map(ItemContext::getItem)
-      .map(Item::getId)
+      .map(ItemContext::getItemId)
       .toList();
 
     if (itemIds.isEmpty()) {
@@ -223,14 +762,16 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .collect(toList());
 
     CqlQuery query = CqlQuery.exactMatchAny("requestType", requestTypes)
-      .and(CqlQuery.exactMatchAny("status", requestStatuses));
+      .and(CqlQuery.exactMatchAny("status", requestStatuses))
+      .and(updatedAfter(since));
 
     Collection<Request> requests = requestService.getRequestsFromStorage(query, "itemId", itemIds);
+    context.getMetrics().recordFetched("requests", ALL_TENANTS, requests.size());
     context.getRequests().addAll(requests);
-    findHoldRequestsWithoutItems(context);
+    findHoldRequestsWithoutItems(context, since);
   }
 
-  private Collection<Request> findTitleLevelHoldsWithoutItems() {
+  private Stream<Request> streamTitleLevelHoldsWithoutItems(Date since) {
     log.info("findHoldRequestsWithoutItem:: searching for open hold requests without itemId");
     List<String> requestStatuses = relevantRequestStatuses.stream()
       .map(Request.StatusEnum::getValue)
@@ -239,13 +780,32 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     CqlQuery query = CqlQuery.exactMatch("requestType", HOLD.getValue())
       .and(CqlQuery.exactMatch("requestLevel", TITLE.getValue()))
       .and(CqlQuery.exactMatchAny("status", requestStatuses))
+      .and(updatedAfter(since))
       .not(CqlQuery.match("itemId", ""));
 
-    return requestService.getRequestsFromStorage(query);
+    return requestService.streamRequestsFromStorage(query);
   }
 
-  private Map<String, Collection<HoldingsRecord>> findHoldingsForHolds(Collection<Instance> instances,
-    StaffSlipsContext context) {
+  // requests are created with metadata.updatedDate set, so new requests are found too
+  private static CqlQuery updatedAfter(Date since) {
+    return since == null
+      ? null
+      : CqlQuery.greaterThen("metadata.updatedDate", DateTimeUtils.toString(toZonedDateTime(since)));
+  }
+
+  private static boolean isUpdatedAfter(Request request, Date since) {
+    if (since == null) {
+      return true;
+    }
+
+    return Optional.ofNullable(request.getMetadata())
+      .map(Metadata::getUpdatedDate)
+      .map(updatedDate -> updatedDate.after(since))
+      .orElse(false);
+  }
+
+  private Map<String, Collection<HoldingProjection>> findHoldingsForHolds(
+    Collection<InstanceProjection> instances, StaffSlipsContext context) {
 
     log.info("findHoldingsForHolds:: searching holdings for instances");
 
@@ -255,17 +815,22 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     }
 
     Set<String> instanceIds = instances.stream()
-      .map(Instance::getId)
+      .map(InstanceProjection::id)
       .collect(toSet());
 
-    return context.getLocationsByTenant()
-      .keySet()
-      .stream()
-      .collect(toMap(identity(), tenantId -> contextService.execute(tenantId, folioContext,
-        () -> findHoldingsForHolds(instanceIds, context, tenantId))));
+    Map<String, Collection<HoldingProjection>> holdingsInRelevantLocations = new HashMap<>();
+    executeInTenants("findHoldingsForHolds", context.getLocationsByTenant().keySet(),
+      context.getMetrics(), tenantId -> findHoldingsForHolds(instanceIds, context, tenantId))
+      .forEach((tenantId, holdings) -> {
+        context.getHoldingsByIdCache().merge(tenantId, holdings.all(),
+          (cached, fetched) -> Stream.concat(cached.stream(), fetched.stream()).toList());
+        holdingsInRelevantLocations.put(tenantId, holdings.inRelevantLocations());
+      });
+
+    return holdingsInRelevantLocations;
   }
 
-  private Collection<HoldingsRecord> findHoldingsForHolds(Collection<String> instanceIds,
+  private TenantHoldings findHoldingsForHolds(Collection<String> instanceIds,
     StaffSlipsContext context, String tenantId) {
 
     log.info("findHoldings:: searching holdings for relevant locations and instances");
@@ -278,43 +843,46 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     if (relevantLocationIds.isEmpty()) {
       log.info("findHoldings:: no location to search holdings for, doing nothing");
-      return emptyList();
+      return new TenantHoldings(emptyList(), emptyList());
     }
 
     if (instanceIds.isEmpty()) {
       log.info("findHoldings:: no instances to search holdings for, doing nothing");
-      return emptyList();
+      return new TenantHoldings(emptyList(), emptyList());
     }
 
-    Collection<HoldingsRecord> holdingsForInstances = inventoryService.findHoldings(CqlQuery.empty(),
-      "instanceId", instanceIds);
+    Collection<HoldingProjection> holdingsForInstances = inventoryService.findHoldings(
+        CqlQuery.empty(), "instanceId", instanceIds)
+      .stream()
+      .map(HoldingProjection::from)
+      .toList();
 
-    log.info("findHoldingsForHolds:: caching {} holdings", holdingsForInstances::size);
-    context.getHoldingsByIdCache().put(tenantId, holdingsForInstances);
+    log.info("findHoldingsForHolds:: found {} holdings", holdingsForInstances::size);
+    context.getMetrics().recordFetched("holdings", tenantId, holdingsForInstances.size());
 
-    List<HoldingsRecord> holdingsInRelevantLocations = holdingsForInstances.stream()
-      .filter(holding -> relevantLocationIds.contains(holding.getEffectiveLocationId()))
+    List<HoldingProjection> holdingsInRelevantLocations = holdingsForInstances.stream()
+      .filter(holding -> relevantLocationIds.contains(holding.effectiveLocationId()))
       .collect(toList());
 
     log.info("findHoldings:: {} of {} holdings are in relevant locations",
       holdingsInRelevantLocations::size, holdingsForInstances::size);
 
-    return holdingsInRelevantLocations;
+    return new TenantHoldings(holdingsForInstances, holdingsInRelevantLocations);
   }
 
-  private void findHoldings(StaffSlipsContext context, String tenantId) {
-    log.info("findHoldings:: searching holdings");
+  private void findHoldings(StaffSlipsContext context, String tenantId,
+    Collection<ItemContext> itemContexts) {
 
-    Collection<ItemContext> itemContexts = context.getItemContextsByTenant().get(tenantId);
+    log.info("findHoldings:: searching holdings");
     Set<String> requestedHoldingIds = itemContexts.stream()
       .map(ItemContext::getItem)
-      .map(Item::getHoldingsRecordId)
+      .map(StaffSlipItemProjection::holdingsRecordId)
       .collect(toSet());
 
-    Map<String, HoldingsRecord> cachedHoldingsById = context.getHoldingsByIdCache()
+    Map<String, HoldingProjection> cachedHoldingsById = context.getHoldingsByIdCache()
       .getOrDefault(tenantId, new ArrayList<>())
       .stream()
-      .collect(mapById(HoldingsRecord::getId));
+      .collect(mapById(HoldingProjection::id));
 
     Set<String> missingHoldingIds = new HashSet<>(requestedHoldingIds);
     missingHoldingIds.removeAll(cachedHoldingsById.keySet());
@@ -322,21 +890,25 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     log.info("findHoldings:: cache hit for {} of {} requested holdings",
       requestedHoldingIds.size() - missingHoldingIds.size(), requestedHoldingIds.size());
 
-    Map<String, HoldingsRecord> fetchedHoldingsById = inventoryService.findHoldings(missingHoldingIds)
+    Map<String, HoldingProjection> fetchedHoldingsById = inventoryService.findHoldings(
+        missingHoldingIds)
       .stream()
-      .collect(mapById(HoldingsRecord::getId));
+      .map(HoldingProjection::from)
+      .collect(mapById(HoldingProjection::id));
+    context.getMetrics().recordCacheLookups("holdings",
+      requestedHoldingIds.size() - missingHoldingIds.size(), requestedHoldingIds.size());
+    context.getMetrics().recordFetched("holdings", tenantId, fetchedHoldingsById.size());
 
     itemContexts.forEach(itemContext -> {
-      String holdingsRecordId = itemContext.getItem().getHoldingsRecordId();
+      String holdingsRecordId = itemContext.getItem().holdingsRecordId();
       Optional.ofNullable(cachedHoldingsById.get(holdingsRecordId))
         .or(() -> Optional.ofNullable(fetchedHoldingsById.get(holdingsRecordId)))
-        .ifPresent(itemContext::setHolding);
+        .map(HoldingProjection::copyNumber)
+        .ifPresent(itemContext::setHoldingCopyNumber);
     });
-
-    context.getInstanceCache().clear();
   }
 
-  private Collection<Instance> findInstancesForRequests(Collection<Request> requests) {
+  private Collection<InstanceProjection> findInstancesForRequests(Collection<Request> requests) {
     log.info("findInstances:: searching instances for requests");
     if (requests.isEmpty()) {
       log.info("findInstances:: no requests to search instances for, doing nothing");
@@ -347,7 +919,10 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .map(Request::getInstanceId)
       .collect(toSet());
 
-    return inventoryService.findInstances(instanceIds);
+    return inventoryService.findInstances(instanceIds)
+      .stream()
+      .map(InstanceProjection::from)
+      .toList();
   }
 
   private void findInstances(StaffSlipsContext context) {
@@ -357,10 +932,10 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .map(Request::getInstanceId)
       .collect(toSet());
 
-    Map<String, Instance> cachedRequestedInstancesById = context.getInstanceCache()
+    Map<String, InstanceProjection> cachedRequestedInstancesById = context.getInstanceCache()
       .stream()
-      .filter(instance -> requestedInstanceIds.contains(instance.getId()))
-      .collect(mapById(Instance::getId));
+      .filter(instance -> requestedInstanceIds.contains(instance.id()))
+      .collect(mapById(InstanceProjection::id));
 
     Set<String> missingInstanceIds = new HashSet<>(requestedInstanceIds);
     missingInstanceIds.removeAll(cachedRequestedInstancesById.keySet());
@@ -368,33 +943,48 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     log.info("findInstances:: cache hit for {} of {} requested instances",
       requestedInstanceIds.size() - missingInstanceIds.size(), requestedInstanceIds.size());
 
-    Map<String, Instance> fetchedInstancesById = inventoryService.findInstances(missingInstanceIds)
+    Map<String, InstanceProjection> fetchedInstancesById = inventoryService.findInstances(
+        missingInstanceIds)
       .stream()
-      .collect(mapById(Instance::getId));
+      .map(InstanceProjection::from)
+      .collect(mapById(InstanceProjection::id));
+    context.getMetrics().recordCacheLookups("instances",
+      requestedInstanceIds.size() - missingInstanceIds.size(), requestedInstanceIds.size());
+    context.getMetrics().recordFetched("instances", ALL_TENANTS, fetchedInstancesById.size());
 
-    context.getInstancesById().putAll(fetchedInstancesById);
-    context.getInstancesById().putAll(cachedRequestedInstancesById);
+    fetchedInstancesById.forEach((id, instance) -> putById(context.getInstancesById(), id,
+      instance));
+    cachedRequestedInstancesById.forEach((id, instance) -> putById(context.getInstancesById(), id,
+      instance));
     context.getInstanceCache().clear();
   }
 
   private void fetchDataFromLendingTenants(StaffSlipsContext context) {
-    context.getItemContextsByTenant()
-      .keySet()
-      .forEach(tenantId -> contextService.execute(tenantId, folioContext,
-        () -> fetchDataFromLendingTenant(context, tenantId)));
+    // every tenant populates its own copies of item contexts, items of a tenant which failed
+    // are still included in staff slips, just with less details
+    Set<String> tenantIds = Set.copyOf(context.getItemContextsByTenant().keySet());
+    executeInTenants("fetchDataFromLendingTenant", tenantIds, context.getMetrics(),
+        tenantId -> fetchDataFromLendingTenant(context, tenantId))
+      .forEach(context.getItemContextsByTenant()::put);
   }
 
-  private StaffSlipsContext fetchDataFromLendingTenant(StaffSlipsContext context, String tenantId) {
+  private Collection<ItemContext> fetchDataFromLendingTenant(StaffSlipsContext context,
+    String tenantId) {
+
     log.info("fetchDataFromLendingTenant:: fetching item-related data from tenant {}", tenantId);
-    Collection<ItemContext> itemContexts = context.getItemContextsByTenant().get(tenantId);
-    findHoldings(context, tenantId);
+    Collection<ItemContext> itemContexts = context.getItemContextsByTenant()
+      .get(tenantId)
+      .stream()
+      .map(ItemContext::copy)
+      .collect(toList());
+    findHoldings(context, tenantId, itemContexts);
     findMaterialTypes(itemContexts);
     findLoanTypes(itemContexts);
     findLibraries(itemContexts);
     findCampuses(itemContexts);
     findInstitutions(itemContexts);
     findPrimaryServicePoints(itemContexts);
-    return context;
+    return itemContexts;
   }
 
   private void findRequesters(StaffSlipsContext context) {
@@ -408,7 +998,9 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .collect(toSet());
 
     Collection<User> users = userService.find(requesterIds);
-    context.getRequestersById().putAll(toMapById(users, User::getId));
+    context.getMetrics().recordFetched("users", ALL_TENANTS, users.size());
+    users.forEach(user -> putById(context.getRequestersById(), user.getId(),
+      RequesterProjection.from(user)));
   }
 
   private void findUserGroups(StaffSlipsContext context) {
@@ -419,12 +1011,14 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     Set<String> userGroupIds = context.getRequestersById().values()
       .stream()
-      .map(User::getPatronGroup)
+      .map(RequesterProjection::patronGroup)
       .filter(Objects::nonNull)
       .collect(toSet());
 
     Collection<UserGroup> userGroups = userGroupService.find(userGroupIds);
-    context.getUserGroupsById().putAll(toMapById(userGroups, UserGroup::getId));
+    context.getMetrics().recordFetched("userGroups", ALL_TENANTS, userGroups.size());
+    context.getUserGroupNamesById().putAll(toNamesById(userGroups, UserGroup::getId,
+      UserGroup::getGroup));
   }
 
   private void findDepartments(StaffSlipsContext context) {
@@ -435,13 +1029,14 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     Set<String> departmentIds = context.getRequestersById().values()
       .stream()
-      .map(User::getDepartments)
-      .filter(Objects::nonNull)
+      .map(RequesterProjection::departments)
       .flatMap(Collection::stream)
       .collect(toSet());
 
     Collection<Department> departments = departmentService.findDepartments(departmentIds);
-    context.getDepartmentsById().putAll(toMapById(departments, Department::getId));
+    context.getMetrics().recordFetched("departments", ALL_TENANTS, departments.size());
+    context.getDepartmentNamesById().putAll(toNamesById(departments, Department::getId,
+      Department::getName));
   }
 
   private void findAddressTypes(StaffSlipsContext context) {
@@ -452,16 +1047,15 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     Set<String> addressTypeIds = context.getRequestersById().values()
       .stream()
-      .map(User::getPersonal)
-      .filter(Objects::nonNull)
-      .map(UserPersonal::getAddresses)
-      .filter(Objects::nonNull)
+      .map(RequesterProjection::addresses)
       .flatMap(Collection::stream)
       .map(UserPersonalAddressesInner::getAddressTypeId)
       .collect(toSet());
 
     Collection<AddressType> addressTypes = addressTypeService.findAddressTypes(addressTypeIds);
-    context.getAddressTypesById().putAll(toMapById(addressTypes, AddressType::getId));
+    context.getMetrics().recordFetched("addressTypes", ALL_TENANTS, addressTypes.size());
+    context.getAddressTypeNamesById().putAll(toNamesById(addressTypes, AddressType::getId,
+      AddressType::getAddressType));
   }
 
   private void findPickupServicePoints(StaffSlipsContext context) {
@@ -477,7 +1071,9 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .collect(toSet());
 
     Collection<ServicePoint> pickupServicePoints = findServicePoints(pickupServicePointIds);
-    context.getPickupServicePointsById().putAll(toMapById(pickupServicePoints, ServicePoint::getId));
+    context.getMetrics().recordFetched("servicePoints", ALL_TENANTS, pickupServicePoints.size());
+    context.getPickupServicePointNamesById().putAll(toNamesById(pickupServicePoints,
+      ServicePoint::getId, ServicePoint::getName));
   }
 
   private Collection<ServicePoint> findServicePoints(Collection<String> servicePointIds) {
@@ -496,11 +1092,11 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     }
 
     Map<String, List<ItemContext>> contextsByMaterialTypeId = itemContexts.stream()
-      .collect(groupingBy(context -> context.getItem().getMaterialTypeId()));
+      .collect(groupingBy(context -> context.getItem().materialTypeId()));
 
     inventoryService.findMaterialTypes(contextsByMaterialTypeId.keySet())
       .forEach(materialType -> contextsByMaterialTypeId.get(materialType.getId())
-        .forEach(context -> context.setMaterialType(materialType)));
+        .forEach(context -> context.setMaterialTypeName(materialType.getName())));
   }
 
   private void findLoanTypes(Collection<ItemContext> itemContexts) {
@@ -510,11 +1106,11 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     }
 
     Map<String, List<ItemContext>> contextsByLoanTypeId = itemContexts.stream()
-      .collect(groupingBy(context -> getEffectiveLoanTypeId(context.getItem())));
+      .collect(groupingBy(context -> context.getItem().effectiveLoanTypeId()));
 
     inventoryService.findLoanTypes(contextsByLoanTypeId.keySet())
       .forEach(loanType -> contextsByLoanTypeId.get(loanType.getId())
-        .forEach(context -> context.setLoanType(loanType)));
+        .forEach(context -> context.setLoanTypeName(loanType.getName())));
   }
 
   private void findLibraries(Collection<ItemContext> itemContexts) {
@@ -528,7 +1124,7 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     inventoryService.findLibraries(contextsByLibraryId.keySet())
       .forEach(library -> contextsByLibraryId.get(library.getId())
-        .forEach(context -> context.setLibrary(library)));
+        .forEach(context -> context.setLibraryName(library.getName())));
   }
 
   private void findCampuses(Collection<ItemContext> itemContexts) {
@@ -542,7 +1138,7 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     inventoryService.findCampuses(contextsByCampusId.keySet())
       .forEach(campus -> contextsByCampusId.get(campus.getId())
-        .forEach(context -> context.setCampus(campus)));
+        .forEach(context -> context.setCampusName(campus.getName())));
   }
 
   private void findInstitutions(Collection<ItemContext> itemContexts) {
@@ -556,7 +1152,7 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     inventoryService.findInstitutions(contextsByInstitutionId.keySet())
       .forEach(institution -> contextsByInstitutionId.get(institution.getId())
-        .forEach(context -> context.setInstitution(institution)));
+        .forEach(context -> context.setInstitutionName(institution.getName())));
   }
 
   private void findPrimaryServicePoints(Collection<ItemContext> itemContexts) {
@@ -570,10 +1166,9 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
     findServicePoints(contextsByPrimaryServicePointId.keySet())
       .forEach(servicePoint -> contextsByPrimaryServicePointId.get(servicePoint.getId())
-        .forEach(context -> context.setPrimaryServicePoint(servicePoint)));
+        .forEach(context -> context.setPrimaryServicePointName(servicePoint.getName())));
   }
 
-
   private static Collection<StaffSlip> buildStaffSlips(StaffSlipsContext context) {
     return context.getRequests()
       .stream()
@@ -593,31 +1188,19 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
   private static StaffSlipItem buildStaffSlipItem(Request request, StaffSlipsContext context) {
     log.debug("buildStaffSlipItem:: building staff slip item");
-    Instance instance = context.getInstancesById().get(request.getInstanceId());
+    InstanceProjection instance = context.getInstancesById()
+      .get(toUuid(request.getInstanceId()));
     StaffSlipItem staffSlipItem = new StaffSlipItem();
     String itemId = request.getItemId();
     if (instance != null) {
-      staffSlipItem.title(instance.getTitle());
+      staffSlipItem.title(instance.title());
       if (itemId == null) {
         log.info("buildStaffSlipItem:: request is not linked to an item, return");
         return staffSlipItem;
       }
-      List<InstanceContributorsInner> contributors = instance.getContributors();
-      if (contributors != null && !contributors.isEmpty()) {
-        String primaryContributor = contributors.stream()
-          .filter(InstanceContributorsInner::getPrimary)
-          .findFirst()
-          .map(InstanceContributorsInner::getName)
-          .orElse(null);
-
-        String allContributors = contributors.stream()
-          .map(InstanceContributorsInner::getName)
-          .collect(joining("; "));
-
-        staffSlipItem
-          .primaryContributor(primaryContributor)
-          .allContributors(allContributors);
-      }
+      staffSlipItem
+        .primaryContributor(instance.primaryContributor())
+        .allContributors(instance.allContributors());
     }
 
     if (itemId == null) {
@@ -639,69 +1222,40 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       return null;
     }
 
-    Item item = itemContext.getItem();
+    StaffSlipItemProjection item = itemContext.getItem();
 
-    String yearCaptions = Optional.ofNullable(item.getYearCaption())
-      .map(captions -> String.join("; ", captions))
-      .orElse(null);
-
-    String copyNumber = Optional.ofNullable(item.getCopyNumber())
-      .or(() -> Optional.ofNullable(itemContext.getHolding())
-        .map(HoldingsRecord::getCopyNumber))
+    String copyNumber = Optional.ofNullable(item.copyNumber())
+      .or(() -> Optional.ofNullable(itemContext.getHoldingCopyNumber()))
       .orElse("");
 
-    String materialType = Optional.ofNullable(itemContext.getMaterialType())
-      .map(MaterialType::getName)
-      .orElse(null);
-
-    String loanType = Optional.ofNullable(itemContext.getLoanType())
-      .map(LoanType::getName)
-      .orElse(null);
-
-    staffSlipItem.barcode(item.getBarcode())
-      .status(item.getStatus().getName().getValue())
-      .materialType(materialType)
-      .loanType(loanType)
-      .enumeration(item.getEnumeration())
-      .volume(item.getVolume())
-      .chronology(item.getChronology())
-      .yearCaption(yearCaptions)
+    staffSlipItem.barcode(item.barcode())
+      .status(Optional.ofNullable(item.status()).map(ItemStatus.NameEnum::getValue).orElse(null))
+      .materialType(itemContext.getMaterialTypeName())
+      .loanType(itemContext.getLoanTypeName())
+      .enumeration(item.enumeration())
+      .volume(item.volume())
+      .chronology(item.chronology())
+      .yearCaption(item.yearCaption())
       .copy(copyNumber)
-      .numberOfPieces(item.getNumberOfPieces())
-      .displaySummary(item.getDisplaySummary())
-      .descriptionOfPieces(item.getDescriptionOfPieces());
+      .numberOfPieces(item.numberOfPieces())
+      .displaySummary(item.displaySummary())
+      .descriptionOfPieces(item.descriptionOfPieces());
 
     Location location = itemContext.getLocation();
     if (location != null) {
       staffSlipItem
         .effectiveLocationSpecific(location.getName())
-        .effectiveLocationDiscoveryDisplayName(location.getDiscoveryDisplayName());
-
-      Optional.ofNullable(itemContext.getLibrary())
-        .map(Library::getName)
-        .ifPresent(staffSlipItem::effectiveLocationLibrary);
-
-      Optional.ofNullable(itemContext.getCampus())
-        .map(Campus::getName)
-        .ifPresent(staffSlipItem::effectiveLocationCampus);
-
-      Optional.ofNullable(itemContext.getInstitution())
-        .map(Institution::getName)
-        .ifPresent(staffSlipItem::effectiveLocationInstitution);
-
-      Optional.ofNullable(itemContext.getPrimaryServicePoint())
-        .map(ServicePoint::getName)
-        .ifPresent(staffSlipItem::effectiveLocationPrimaryServicePointName);
-    }
-
-    ItemEffectiveCallNumberComponents callNumberComponents = item.getEffectiveCallNumberComponents();
-    if (callNumberComponents != null) {
-      staffSlipItem.callNumber(callNumberComponents.getCallNumber())
-        .callNumberPrefix(callNumberComponents.getPrefix())
-        .callNumberSuffix(callNumberComponents.getSuffix());
+        .effectiveLocationDiscoveryDisplayName(location.getDiscoveryDisplayName())
+        .effectiveLocationLibrary(itemContext.getLibraryName())
+        .effectiveLocationCampus(itemContext.getCampusName())
+        .effectiveLocationInstitution(itemContext.getInstitutionName())
+        .effectiveLocationPrimaryServicePointName(itemContext.getPrimaryServicePointName());
     }
 
-    return staffSlipItem;
+    return staffSlipItem
+      .callNumber(item.callNumber())
+      .callNumberPrefix(item.callNumberPrefix())
+      .callNumberSuffix(item.callNumberSuffix());
   }
 
   private static StaffSlipRequest buildStaffSlipRequest(Request request, StaffSlipsContext context) {
@@ -711,15 +1265,11 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       return null;
     }
 
-    String deliveryAddressType = Optional.ofNullable(request.getDeliveryAddressTypeId())
-      .map(context.getAddressTypesById()::get)
-      .map(AddressType::getAddressType)
-      .orElse(null);
+    String deliveryAddressType = context.getAddressTypeNamesById()
+      .get(toUuid(request.getDeliveryAddressTypeId()));
 
-    String pickupServicePoint = Optional.ofNullable(request.getPickupServicePointId())
-      .map(context.getPickupServicePointsById()::get)
-      .map(ServicePoint::getName)
-      .orElse(null);
+    String pickupServicePoint = context.getPickupServicePointNamesById()
+      .get(toUuid(request.getPickupServicePointId()));
 
     return new StaffSlipRequest()
       .requestID(UUID.fromString(request.getId()))
@@ -734,42 +1284,38 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
 
   private static StaffSlipRequester buildStaffSlipRequester(Request request, StaffSlipsContext context) {
     log.debug("buildStaffSlipItem:: building staff slip requester");
-    User requester = context.getRequestersById().get(request.getRequesterId());
+    RequesterProjection requester = context.getRequestersById()
+      .get(toUuid(request.getRequesterId()));
     if (requester == null) {
       log.warn("buildStaffSlipRequester:: requester is null, doing nothing");
       return null;
     }
 
-    String departments = requester.getDepartments()
+    String departments = requester.departments()
       .stream()
+      .map(StaffSlipsServiceImpl::toUuid)
+      .map(context.getDepartmentNamesById()::get)
       .filter(Objects::nonNull)
-      .map(context.getDepartmentsById()::get)
-      .filter(Objects::nonNull)
-      .map(Department::getName)
       .collect(joining("; "));
 
-    String patronGroup = Optional.ofNullable(context.getUserGroupsById().get(requester.getPatronGroup()))
-      .map(UserGroup::getGroup)
+    String patronGroup = Optional.ofNullable(context.getUserGroupNamesById()
+        .get(toUuid(requester.patronGroup())))
       .orElse("");
 
     StaffSlipRequester staffSlipRequester = new StaffSlipRequester()
-      .barcode(requester.getBarcode())
+      .barcode(requester.barcode())
       .patronGroup(patronGroup)
       .departments(departments);
 
-    UserPersonal personal = requester.getPersonal();
-    if (personal != null) {
-      String preferredFirstName = Optional.ofNullable(personal.getPreferredFirstName())
-        .orElseGet(personal::getFirstName);
-
+    if (requester.hasPersonal()) {
       staffSlipRequester
-        .firstName(personal.getFirstName())
-        .preferredFirstName(preferredFirstName)
-        .lastName(personal.getLastName())
-        .middleName(personal.getMiddleName());
+        .firstName(requester.firstName())
+        .preferredFirstName(requester.preferredFirstName())
+        .lastName(requester.lastName())
+        .middleName(requester.middleName());
 
-      List<UserPersonalAddressesInner> addresses = personal.getAddresses();
-      if (addresses != null) {
+      List<UserPersonalAddressesInner> addresses = requester.addresses();
+      if (!addresses.isEmpty()) {
         addresses.stream()
           .filter(address -> TRUE.equals(address.getPrimaryAddress()))
           .findFirst()
@@ -780,11 +1326,8 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
             .primaryStateProvRegion(primaryAddress.getRegion())
             .primaryZipPostalCode(primaryAddress.getPostalCode())
             .primaryCountry(getCountryName(primaryAddress.getCountryId()))
-            .primaryDeliveryAddressType(
-              Optional.ofNullable(context.getAddressTypesById().get(primaryAddress.getAddressTypeId()))
-                .map(AddressType::getAddressType)
-                .orElse(null)
-            ));
+            .primaryDeliveryAddressType(context.getAddressTypeNamesById()
+              .get(toUuid(primaryAddress.getAddressTypeId()))));
 
         String deliveryAddressTypeId = request.getDeliveryAddressTypeId();
         if (deliveryAddressTypeId != null) {
@@ -798,11 +1341,8 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
               .region(deliveryAddress.getRegion())
               .postalCode(deliveryAddress.getPostalCode())
               .countryId(deliveryAddress.getCountryId())
-              .addressType(
-                Optional.ofNullable(context.getAddressTypesById().get(deliveryAddressTypeId))
-                .map(AddressType::getAddressType)
-                .orElse(null)
-              ));
+              .addressType(context.getAddressTypeNamesById()
+                .get(toUuid(deliveryAddressTypeId))));
         }
       }
     }
@@ -819,6 +1359,37 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     return toMap(idExtractor, identity());
   }
 
+  // names of reference data are all that staff slips display, a name may be missing
+  private static <T> Map<UUID, String> toNamesById(Collection<T> collection,
+    Function<T, String> idExtractor, Function<T, String> nameExtractor) {
+
+    Map<UUID, String> namesById = new HashMap<>();
+    collection.forEach(element -> putById(namesById, idExtractor.apply(element),
+      nameExtractor.apply(element)));
+    return namesById;
+  }
+
+  // IDs come from other modules, a malformed one must not fail all staff slips, it just
+  // matches nothing
+  private static UUID toUuid(String id) {
+    if (id == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      log.warn("toUuid:: ignoring invalid ID: {}", id);
+      return null;
+    }
+  }
+
+  private static <T> void putById(Map<UUID, T> valuesById, String id, T value) {
+    UUID uuid = toUuid(id);
+    if (uuid != null) {
+      valuesById.put(uuid, value);
+    }
+  }
+
   private static String getCountryName(String countryCode) {
     if (isBlank(countryCode) || !Arrays.asList(getISOCountries()).contains(countryCode)) {
       log.warn("getCountryName:: unknown country code: {}", countryCode);
@@ -828,10 +1399,6 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
     return new Locale("", countryCode).getDisplayName();
   }
 
-  private static String getEffectiveLoanTypeId(Item item) {
-    return firstNonBlank(item.getTemporaryLoanTypeId(), item.getPermanentLoanTypeId());
-  }
-
   private static void discardNonRequestedItems(StaffSlipsContext context) {
     log.info("discardNonRequestedItems:: discarding non-requested items");
 
@@ -851,35 +1418,187 @@ public class StaffSlipsServiceImpl implements StaffSlipsService {
       .removeIf(entry -> entry.getValue().isEmpty());
   }
 
+  // some parts of the context are populated by several tenants at the same time
+  @RequiredArgsConstructor
   @Getter
   private static class StaffSlipsContext {
-    private final Collection<Request> requests = new ArrayList<>();
-    private final Map<String, Instance> instancesById = new HashMap<>();
-    private final Map<String, User> requestersById = new HashMap<>();
-    private final Map<String, UserGroup> userGroupsById = new HashMap<>();
-    private final Map<String, Department> departmentsById = new HashMap<>();
-    private final Map<String, AddressType> addressTypesById = new HashMap<>();
-    private final Map<String, ServicePoint> pickupServicePointsById = new HashMap<>();
-    private final Map<String, Collection<ItemContext>> itemContextsByTenant = new HashMap<>();
-    private final Map<String, Collection<Location>> locationsByTenant = new HashMap<>();
-    private final Map<String, Collection<HoldingsRecord>> holdingsByIdCache = new HashMap<>();
-    private final Collection<Instance> instanceCache = new ArrayList<>();
+    private final StaffSlipsMetrics metrics;
+    private final List<Request> requests = new ArrayList<>();
+    private final Map<UUID, InstanceProjection> instancesById = new HashMap<>();
+    private final Map<UUID, RequesterProjection> requestersById = new HashMap<>();
+    private final Map<UUID, String> userGroupNamesById = new HashMap<>();
+    private final Map<UUID, String> departmentNamesById = new HashMap<>();
+    private final Map<UUID, String> addressTypeNamesById = new HashMap<>();
+    private final Map<UUID, String> pickupServicePointNamesById = new HashMap<>();
+    private final Map<String, Collection<ItemContext>> itemContextsByTenant = new ConcurrentHashMap<>();
+    private final Map<String, Collection<Location>> locationsByTenant = new ConcurrentHashMap<>();
+    private final Map<String, Collection<HoldingProjection>> holdingsByIdCache =
+      new ConcurrentHashMap<>();
+    private final Collection<InstanceProjection> instanceCache = new ConcurrentLinkedQueue<>();
+
+    // a batch shares locations and cached holdings and instances with the whole context,
+    // but gets its own copy of everything which is fetched for requests of the batch
+    private StaffSlipsContext forBatch(Collection<Request> batchRequests,
+      StaffSlipsMetrics batchMetrics) {
+
+      Set<String> requestedItemIds = batchRequests.stream()
+        .map(Request::getItemId)
+        .filter(Objects::nonNull)
+        .collect(toSet());
+      Set<String> requestedInstanceIds = batchRequests.stream()
+        .map(Request::getInstanceId)
+        .collect(toSet());
+
+      StaffSlipsContext batchContext = new StaffSlipsContext(batchMetrics);
+      batchContext.getRequests().addAll(batchRequests);
+      batchContext.getLocationsByTenant().putAll(locationsByTenant);
+      batchContext.getHoldingsByIdCache().putAll(holdingsByIdCache);
+      instanceCache.stream()
+        .filter(instance -> requestedInstanceIds.contains(instance.id()))
+        .forEach(batchContext.getInstanceCache()::add);
+      itemContextsByTenant.forEach((tenantId, itemContexts) -> {
+        List<ItemContext> batchItemContexts = itemContexts.stream()
+          .filter(itemContext -> requestedItemIds.contains(itemContext.getItemId()))
+          .collect(toList());
+        if (!batchItemContexts.isEmpty()) {
+          batchContext.getItemContextsByTenant().put(tenantId, batchItemContexts);
+        }
+      });
+
+      return batchContext;
+    }
+  }
+
+  // Requests of all pages in the order they are paged through, along with locations, items,
+  // holdings and instances found for them. Nothing in a snapshot is modified once it is created.
+  private record StaffSlipsSnapshot(String id, String tenantId, String servicePointId,
+    String slipsType, Date since, List<Request> requests,
+    Map<String, List<Location>> locationsByTenant,
+    Map<String, List<StaffSlipItemProjection>> itemsByTenant,
+    Map<String, List<HoldingProjection>> holdingsByTenant, List<InstanceProjection> instances) { }
+
+  private record StaffSlipsCursor(String snapshotId, int offset) {
+
+    private static final String SEPARATOR = ":";
+
+    static StaffSlipsCursor start() {
+      return new StaffSlipsCursor(null, 0);
+    }
+
+    static StaffSlipsCursor decode(String cursor) {
+      try {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+        String[] parts = decoded.split(SEPARATOR, 2);
+        int offset = Integer.parseInt(parts[1]);
+        if (isBlank(parts[0]) || offset < 0) {
+          throw new IllegalArgumentException("Invalid cursor: " + decoded);
+        }
+        return new StaffSlipsCursor(parts[0], offset);
+      } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+        log.warn("decode:: failed to decode cursor {}", cursor, e);
+        throw ExceptionFactory.badRequest("Invalid cursor", INVALID_CURSOR, Map.of("cursor", cursor));
+      }
+    }
+
+    String encode() {
+      return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((snapshotId + SEPARATOR + offset).getBytes(UTF_8));
+    }
+  }
+
+  private record TenantLocationsAndItems(Collection<Location> locations,
+    Collection<ItemContext> itemContexts) { }
+
+  private record TenantHoldings(Collection<HoldingProjection> all,
+    Collection<HoldingProjection> inRelevantLocations) { }
+
+  // Instances, holdings and requesters are projected as soon as they are fetched, only fields
+  // which are displayed on staff slips or needed to find related records are kept
+  private record InstanceProjection(String id, String title, String primaryContributor,
+    String allContributors) {
+
+    static InstanceProjection from(Instance instance) {
+      List<InstanceContributorsInner> contributors = Optional.ofNullable(instance.getContributors())
+        .orElse(emptyList());
+      if (contributors.isEmpty()) {
+        return new InstanceProjection(instance.getId(), instance.getTitle(), null, null);
+      }
+
+      String primaryContributor = contributors.stream()
+        .filter(contributor -> TRUE.equals(contributor.getPrimary()))
+        .findFirst()
+        .map(InstanceContributorsInner::getName)
+        .orElse(null);
+
+      String allContributors = contributors.stream()
+        .map(InstanceContributorsInner::getName)
+        .collect(joining("; "));
+
+      return new InstanceProjection(instance.getId(), instance.getTitle(), primaryContributor,
+        allContributors);
+    }
+  }
+
+  private record HoldingProjection(String id, String instanceId, String effectiveLocationId,
+    String copyNumber) {
+
+    static HoldingProjection from(HoldingsRecord holding) {
+      return new HoldingProjection(holding.getId(), holding.getInstanceId(),
+        holding.getEffectiveLocationId(), holding.getCopyNumber());
+    }
+  }
+
+  private record RequesterProjection(String barcode, String patronGroup, Set<String> departments,
+    boolean hasPersonal, String firstName, String preferredFirstName, String middleName,
+    String lastName, List<UserPersonalAddressesInner> addresses) {
+
+    static RequesterProjection from(User user) {
+      Set<String> departments = Optional.ofNullable(user.getDepartments())
+        .map(ids -> ids.stream().filter(Objects::nonNull).collect(toSet()))
+        .orElse(emptySet());
+      UserPersonal personal = user.getPersonal();
+      if (personal == null) {
+        return new RequesterProjection(user.getBarcode(), user.getPatronGroup(), departments,
+          false, null, null, null, null, emptyList());
+      }
+
+      return new RequesterProjection(user.getBarcode(), user.getPatronGroup(), departments, true,
+        personal.getFirstName(), Optional.ofNullable(personal.getPreferredFirstName())
+          .orElseGet(personal::getFirstName), personal.getMiddleName(), personal.getLastName(),
+        Optional.ofNullable(personal.getAddresses()).orElse(emptyList()));
+    }
   }
 
   @RequiredArgsConstructor
   @Getter
   @Setter
   private static class ItemContext {
-    private final String itemId;
-    private final Item item;
+    private final StaffSlipItemProjection item;
     private final Location location;
-    private HoldingsRecord holding;
-    private MaterialType materialType;
-    private LoanType loanType;
-    private Library library;
-    private Campus campus;
-    private Institution institution;
-    private ServicePoint primaryServicePoint;
+    private String holdingCopyNumber;
+    private String materialTypeName;
+    private String loanTypeName;
+    private String libraryName;
+    private String campusName;
+    private String institutionName;
+    private String primaryServicePointName;
+
+    private String getItemId() {
+      return item.id();
+    }
+
+    private ItemContext copy() {
+      ItemContext copy = new ItemContext(item, location);
+      copy.setHoldingCopyNumber(holdingCopyNumber);
+      copy.setMaterialTypeName(materialTypeName);
+      copy.setLoanTypeName(loanTypeName);
+      copy.setLibraryName(libraryName);
+      copy.setCampusName(campusName);
+      copy.setInstitutionName(institutionName);
+      copy.setPrimaryServicePointName(primaryServicePointName);
+      return copy;
+    }
   }
 
 }
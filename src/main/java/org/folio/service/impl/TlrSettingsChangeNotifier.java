@@ -0,0 +1,34 @@
+package org.folio.service.impl;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lets other instances of the module know that TLR settings of a tenant were changed, so that
+ * they evict their cached copies. Notifications are sent to a Postgres NOTIFY channel and are
+ * received by {@link org.folio.listener.postgres.TlrSettingsChangeListener}.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TlrSettingsChangeNotifier {
+
+  public static final String TLR_SETTINGS_CHANGED_CHANNEL = "tlr_settings_changed";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void notifyChanged(String tenantId) {
+    log.info("notifyChanged:: notifying about changed TLR settings of tenant {}", tenantId);
+    try {
+      jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class,
+        TLR_SETTINGS_CHANGED_CHANNEL, tenantId);
+    } catch (Exception e) {
+      // other instances will pick up the change once their cached settings expire
+      log.warn("notifyChanged:: failed to notify about changed TLR settings of tenant {}",
+        tenantId, e);
+    }
+  }
+}
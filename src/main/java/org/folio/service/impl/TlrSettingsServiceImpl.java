@@ -2,12 +2,17 @@ package org.folio.service.impl;
 
 import java.util.Optional;
 
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.domain.CachedTlrSettings;
 import org.folio.domain.dto.TlrSettings;
 import org.folio.domain.entity.TlrSettingsEntity;
 import org.folio.domain.mapper.TlrSettingsMapper;
 import org.folio.repository.TlrSettingsRepository;
 import org.folio.service.PublishCoordinatorService;
 import org.folio.service.TlrSettingsService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -19,16 +24,41 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class TlrSettingsServiceImpl implements TlrSettingsService {
 
+  public static final String TLR_SETTINGS_CACHE = "tlr-settings";
+
   private final TlrSettingsRepository tlrSettingsRepository;
   private final TlrSettingsMapper tlrSettingsMapper;
   private final PublishCoordinatorService<TlrSettings> publishCoordinatorService;
+  private final FolioExecutionContext folioContext;
+  private final CacheManager cacheManager;
+  private final TlrSettingsCacheProperties cacheProperties;
+  private final TlrSettingsChangeNotifier changeNotifier;
 
   @Override
   public Optional<TlrSettings> getTlrSettings() {
     log.debug("getTlrSettings:: ");
 
-    return findTlrSettings()
-      .map(tlrSettingsMapper::mapEntityToDto);
+    return Optional.ofNullable(getCachedTlrSettings().settings());
+  }
+
+  @Override
+  public CachedTlrSettings getCachedTlrSettings() {
+    String tenantId = folioContext.getTenantId();
+    if (!cacheProperties.isEnabled() || tenantId == null) {
+      return loadTlrSettings();
+    }
+
+    Cache cache = getCache();
+    CachedTlrSettings cachedSettings = cache.get(tenantId, CachedTlrSettings.class);
+    if (cachedSettings != null) {
+      log.debug("getCachedTlrSettings:: cache hit for tenant {}", tenantId);
+      return cachedSettings;
+    }
+
+    log.info("getCachedTlrSettings:: cache miss for tenant {}", tenantId);
+    CachedTlrSettings loadedSettings = loadTlrSettings();
+    cache.put(tenantId, loadedSettings);
+    return loadedSettings;
   }
 
   @Override
@@ -40,14 +70,54 @@ public class TlrSettingsServiceImpl implements TlrSettingsService {
         tlrSettingsRepository.save(tlrSettingsMapper.mapDtoToEntity(
           tlrSettings.id(entity.getId().toString())))))
       .map(entity -> {
+        cacheUpdatedSettings(entity);
         publishCoordinatorService.updateForAllTenants(entity);
         return entity;
       });
   }
 
+  @Override
+  public void evictCache(String tenantId) {
+    log.info("evictCache:: evicting TLR settings of tenant {}", tenantId);
+    getCache().evict(tenantId);
+  }
+
+  @Override
+  public void clearCache() {
+    log.info("clearCache:: evicting TLR settings of all tenants");
+    getCache().clear();
+  }
+
+  private void cacheUpdatedSettings(TlrSettings updatedSettings) {
+    String tenantId = folioContext.getTenantId();
+    if (!cacheProperties.isEnabled() || tenantId == null) {
+      return;
+    }
+
+    log.info("cacheUpdatedSettings:: caching updated TLR settings of tenant {}", tenantId);
+    getCache().put(tenantId, CachedTlrSettings.of(updatedSettings));
+    if (cacheProperties.isChangeNotificationsEnabled()) {
+      changeNotifier.notifyChanged(tenantId);
+    }
+  }
+
+  private CachedTlrSettings loadTlrSettings() {
+    return CachedTlrSettings.of(findTlrSettings()
+      .map(tlrSettingsMapper::mapEntityToDto)
+      .orElse(null));
+  }
+
   private Optional<TlrSettingsEntity> findTlrSettings() {
     return tlrSettingsRepository.findAll(PageRequest.of(0, 1))
       .stream()
       .findFirst();
   }
+
+  private Cache getCache() {
+    Cache cache = cacheManager.getCache(TLR_SETTINGS_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException("Cache is not configured: " + TLR_SETTINGS_CACHE);
+    }
+    return cache;
+  }
 }
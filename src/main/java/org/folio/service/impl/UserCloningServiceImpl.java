@@ -3,6 +3,7 @@ package org.folio.service.impl;
 import org.folio.domain.dto.User;
 import org.folio.domain.dto.UserPersonal;
 import org.folio.domain.dto.UserType;
+import org.folio.service.CloneRegistry;
 import org.folio.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,9 +16,10 @@ public class UserCloningServiceImpl extends CloningServiceImpl<User> {
 
   private final UserService userService;
 
-  public UserCloningServiceImpl(@Autowired UserService userService) {
+  public UserCloningServiceImpl(@Autowired UserService userService,
+    @Autowired CloneRegistry cloneRegistry) {
 
-    super(User::getId);
+    super(User::getId, cloneRegistry);
     this.userService = userService;
   }
 
@@ -31,6 +33,12 @@ public class UserCloningServiceImpl extends CloningServiceImpl<User> {
     return userService.create(clone);
   }
 
+  @Override
+  protected String getState(User user) {
+    // patron group of a clone is synchronized with the original by caller
+    return user.getPatronGroup();
+  }
+
   @Override
   protected User buildClone(User original) {
     User clone = new User()
@@ -18,6 +18,7 @@ import lombok.extern.log4j.Log4j2;
 public class UserGroupServiceImpl implements UserGroupService {
 
   private final UserGroupClient userGroupClient;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public UserGroup create(UserGroup userGroup) {
@@ -35,6 +36,6 @@ public class UserGroupServiceImpl implements UserGroupService {
   public Collection<UserGroup> find(Collection<String> ids) {
     log.info("find:: fetching userGroups by {} IDs", ids::size);
     log.debug("find:: ids={}", ids);
-    return BulkFetcher.fetch(userGroupClient, ids, UserGroups::getUsergroups);
+    return bulkFetcher.fetch(userGroupClient, ids, UserGroups::getUsergroups);
   }
 }
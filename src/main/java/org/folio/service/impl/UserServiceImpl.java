@@ -4,11 +4,14 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.ofNullable;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.folio.client.UserClient;
 import org.folio.domain.dto.User;
 import org.folio.domain.dto.Users;
+import org.folio.service.ParallelExecutionService;
 import org.folio.service.UserService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
@@ -28,6 +31,8 @@ public class UserServiceImpl implements UserService {
   private final UserClient userClient;
   private final FolioExecutionContextService contextService;
   private final FolioExecutionContext folioContext;
+  private final ParallelExecutionService parallelExecutionService;
+  private final BulkFetcher bulkFetcher;
 
   @Override
   public User find(String userId) {
@@ -67,7 +72,8 @@ public class UserServiceImpl implements UserService {
   public Collection<User> find(Collection<String> userIds) {
     log.info("find:: looking up users by {} IDs", userIds.size());
     log.debug("find:: ids={}", userIds);
-    return BulkFetcher.fetch(userClient, userIds, Users::getUsers);
+    return bulkFetcher.fetchInParallel(userClient, userIds, Users::getUsers,
+      parallelExecutionService);
   }
 
   @Override
@@ -83,4 +89,22 @@ public class UserServiceImpl implements UserService {
           return true;
         }));
   }
+
+  @Override
+  public Set<String> findInactiveInTenant(Collection<String> userIds, String tenantId) {
+    log.info("findInactiveInTenant:: checking if {} users are active in tenant {}",
+      userIds::size, () -> tenantId);
+
+    // users which are not found are considered inactive, same as in isInactiveInTenant
+    Set<String> inactiveUserIds = new HashSet<>(userIds);
+    contextService.execute(tenantId, folioContext, () -> find(userIds))
+      .stream()
+      .filter(user -> BooleanUtils.isTrue(user.getActive()))
+      .map(User::getId)
+      .forEach(inactiveUserIds::remove);
+    log.info("findInactiveInTenant:: {} of {} users are inactive or not found in tenant {}",
+      inactiveUserIds::size, userIds::size, () -> tenantId);
+
+    return inactiveUserIds;
+  }
 }
@@ -1,35 +1,51 @@
 package org.folio.support;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.function.UnaryOperator.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.folio.client.GetByQueryClient;
+import org.folio.service.ParallelExecutionService;
 
-import com.google.common.collect.Lists;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.util.UriUtils;
 
-import lombok.experimental.UtilityClass;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
-@UtilityClass
+@Component
+@RequiredArgsConstructor
 public class BulkFetcher {
-  private static final int MAX_IDS_PER_QUERY = 70;
+  private static final String ID_INDEX = "id";
+  // keyset pagination appends " and (id>"<id>") sortBy id" to every query
+  private static final int PAGING_LENGTH = encodedLength(new CqlQuery("x")
+    .and(CqlQuery.greaterThen(ID_INDEX, new UUID(0, 0)))
+    .sortBy(ID_INDEX)
+    .query()) - 1;
 
-  public static <C, E> Collection<E> fetch(GetByQueryClient<C> client, Collection<String> ids,
+  private final CqlQueryPartitioner partitioner;
+
+  public <C, E> Collection<E> fetch(GetByQueryClient<C> client, Collection<String> ids,
     Function<C, Collection<E>> collectionExtractor) {
 
-    return fetch(buildQueries(ids), client, collectionExtractor);
+    return fetch(buildQueries(client, ids), client, collectionExtractor);
   }
 
-  public static <C, E> Map<String, E> fetch(GetByQueryClient<C> client, Collection<String> ids,
+  public <C, E> Map<String, E> fetch(GetByQueryClient<C> client, Collection<String> ids,
     Function<C, Collection<E>> collectionExtractor, Function<E, String> keyMapper) {
 
     return fetch(client, ids, collectionExtractor)
@@ -37,13 +53,14 @@ public class BulkFetcher {
       .collect(toMap(keyMapper, identity()));
   }
 
-  public static <C, E> Collection<E> fetch(GetByQueryClient<C> client, CqlQuery commonQuery, String idIndex,
+  public <C, E> Collection<E> fetch(GetByQueryClient<C> client, CqlQuery commonQuery, String idIndex,
     Collection<String> ids, Function<C, Collection<E>> collectionExtractor) {
 
-    return fetch(buildQueries(commonQuery, idIndex, ids), client, collectionExtractor);
+    return fetch(buildQueries(client, commonQuery, idIndex, ids, false), client,
+      collectionExtractor);
   }
 
-  public static <C, E> Map<String, E> fetch(GetByQueryClient<C> client, CqlQuery commonQuery,
+  public <C, E> Map<String, E> fetch(GetByQueryClient<C> client, CqlQuery commonQuery,
     String idIndex, Collection<String> ids, Function<C, Collection<E>> collectionExtractor,
     Function<E, String> keyMapper) {
 
@@ -52,11 +69,11 @@ public class BulkFetcher {
       .collect(toMap(keyMapper, identity()));
   }
 
-  public static <C, E> List<E> fetch(Collection<CqlQuery> queries, GetByQueryClient<C> client,
+  public <C, E> List<E> fetch(Collection<CqlQuery> queries, GetByQueryClient<C> client,
     Function<C, Collection<E>> collectionExtractor) {
 
     if (queries.isEmpty()) {
-      log.info("getAsStream:: provided collection of queries is empty, fetching nothing");
+      log.info("fetch:: provided collection of queries is empty, fetching nothing");
       return emptyList();
     }
 
@@ -70,11 +87,67 @@ public class BulkFetcher {
     return result;
   }
 
-  private static Collection<CqlQuery> buildQueries(Collection<String> ids) {
-    return buildQueries(CqlQuery.empty(), "id", ids);
+  public <C, E> Collection<E> fetchInParallel(GetByQueryClient<C> client, Collection<String> ids,
+    Function<C, Collection<E>> collectionExtractor, ParallelExecutionService executionService) {
+
+    return fetchInParallel(buildQueries(client, ids), client, collectionExtractor,
+      executionService);
+  }
+
+  // values of an index other than "id" may match more records than a single response holds, so
+  // all pages of each query are fetched
+  public <C, E> Collection<E> fetchInParallel(GetByQueryClient<C> client, CqlQuery commonQuery,
+    String idIndex, Collection<String> ids, Function<C, Collection<E>> collectionExtractor,
+    Function<E, String> idExtractor, ParallelExecutionService executionService) {
+
+    if (ID_INDEX.equals(idIndex)) {
+      return fetchInParallel(buildQueries(client, commonQuery, idIndex, ids, false), client,
+        collectionExtractor, executionService);
+    }
+
+    Collection<CqlQuery> queries = buildQueries(client, commonQuery, idIndex, ids, true);
+    if (queries.isEmpty()) {
+      log.info("fetchInParallel:: provided collection of queries is empty, fetching nothing");
+      return emptyList();
+    }
+
+    log.info("fetchInParallel:: fetching all pages of {} queries", queries::size);
+    List<E> result = executionService.mapInParallel(queries,
+        query -> PagedFetcher.stream(client, query, collectionExtractor, idExtractor).toList())
+      .stream()
+      .flatMap(Collection::stream)
+      .collect(toList());
+
+    log.info("fetchInParallel:: fetched {} object(s)", result::size);
+    return result;
   }
 
-  private static Collection<CqlQuery> buildQueries(CqlQuery commonQuery, String index, Collection<String> ids) {
+  public <C, E> List<E> fetchInParallel(Collection<CqlQuery> queries, GetByQueryClient<C> client,
+    Function<C, Collection<E>> collectionExtractor, ParallelExecutionService executionService) {
+
+    if (queries.isEmpty()) {
+      log.info("fetchInParallel:: provided collection of queries is empty, fetching nothing");
+      return emptyList();
+    }
+
+    log.info("fetchInParallel:: fetching objects using {} queries", queries::size);
+    List<E> result = executionService.mapInParallel(queries, client::getByQuery)
+      .stream()
+      .map(collectionExtractor)
+      .flatMap(Collection::stream)
+      .collect(toList());
+
+    log.info("fetchInParallel:: fetched {} object(s)", result::size);
+    return result;
+  }
+
+  private Collection<CqlQuery> buildQueries(GetByQueryClient<?> client, Collection<String> ids) {
+    return buildQueries(client, CqlQuery.empty(), ID_INDEX, ids, false);
+  }
+
+  private Collection<CqlQuery> buildQueries(GetByQueryClient<?> client, CqlQuery commonQuery,
+    String index, Collection<String> ids, boolean paged) {
+
     List<String> uniqueIds = ids.stream()
       .filter(StringUtils::isNotBlank)
       .distinct()
@@ -83,15 +156,29 @@ public class BulkFetcher {
     log.debug("buildQueries:: building queries: commonQuery={}, index={}, ids={}" ,
       commonQuery, index, uniqueIds);
 
-    List<CqlQuery> queries = Lists.partition(uniqueIds, MAX_IDS_PER_QUERY)
-      .stream()
-      .map(batch -> CqlQuery.exactMatchAny(index, batch))
-      .map(commonQuery::and)
-      .toList();
+    List<CqlQuery> queries = partitioner.partition(commonQuery, index, uniqueIds,
+      getReservedLength(client, paged));
 
     log.debug("buildQueries:: result: {}", queries);
 
     return queries;
   }
 
+  // the path and parameters other than the query count against the max query length as well
+  private static int getReservedLength(GetByQueryClient<?> client, boolean paged) {
+    String path = Arrays.stream(client.getClass().getInterfaces())
+      .map(type -> AnnotatedElementUtils.findMergedAnnotation(type, HttpExchange.class))
+      .filter(Objects::nonNull)
+      .map(HttpExchange::url)
+      .findFirst()
+      .orElse("");
+    String parameters = "?query=&limit=" + GetByQueryClient.DEFAULT_LIMIT;
+
+    return encodedLength("/" + path) + parameters.length() + (paged ? PAGING_LENGTH : 0);
+  }
+
+  private static int encodedLength(String value) {
+    return UriUtils.encode(value, UTF_8).length();
+  }
+
 }
@@ -15,6 +15,8 @@ public record CqlQuery(String query) {
   public static final String EXACT_MATCH_ANY_QUERY_TEMPLATE = "%s==(%s)";
   public static final String GREATER_THAN_QUERY_TEMPLATE = "%s>\"%s\"";
   public static final String LESS_THAN_QUERY_TEMPLATE = "%s<\"%s\"";
+  public static final String SORT_BY_QUERY_TEMPLATE = "%s sortBy %s";
+  public static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
 
   public static CqlQuery empty() {
     return new CqlQuery(EMPTY);
@@ -81,6 +83,10 @@ public record CqlQuery(String query) {
     return new CqlQuery(format(LESS_THAN_QUERY_TEMPLATE, index, value));
   }
 
+  public CqlQuery sortBy(String index) {
+    return new CqlQuery(format(SORT_BY_QUERY_TEMPLATE, isBlank(query) ? ALL_RECORDS_QUERY : query, index));
+  }
+
   @Override
   public String toString() {
     return query;
@@ -0,0 +1,120 @@
+package org.folio.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.web.util.UriUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits a collection of values into "index==(value1 or value2 ...)" queries so that every
+ * query, combined with a common query and URL-encoded, fits into the configured length budget
+ * together with the part of the request which is reserved for the path and other parameters.
+ */
+@Log4j2
+@Getter
+public class CqlQueryPartitioner {
+
+  public static final int DEFAULT_MAX_QUERY_LENGTH = 6000;
+  public static final int DEFAULT_MAX_VALUES_PER_QUERY = 500;
+
+  private static final int ENCODED_SEPARATOR_LENGTH = encodedLength(CqlQuery.MULTIPLE_VALUES_DELIMITER);
+  private static final int ENCODED_QUOTES_LENGTH = encodedLength("\"\"");
+
+  private final int maxQueryLength;
+  private final int maxValuesPerQuery;
+
+  public CqlQueryPartitioner(int maxQueryLength, int maxValuesPerQuery) {
+    if (maxQueryLength <= 0 || maxValuesPerQuery <= 0) {
+      throw new IllegalArgumentException("Query length and number of values must be positive");
+    }
+    this.maxQueryLength = maxQueryLength;
+    this.maxValuesPerQuery = maxValuesPerQuery;
+  }
+
+  public static CqlQueryPartitioner withDefaults() {
+    return new CqlQueryPartitioner(DEFAULT_MAX_QUERY_LENGTH, DEFAULT_MAX_VALUES_PER_QUERY);
+  }
+
+  public List<CqlQuery> partition(CqlQuery commonQuery, String index, List<String> values) {
+    return partition(commonQuery, index, values, 0);
+  }
+
+  public List<CqlQuery> partition(CqlQuery commonQuery, String index, List<String> values,
+    int reservedLength) {
+
+    if (values.isEmpty()) {
+      return List.of();
+    }
+
+    // length of "<commonQuery> and (<index>==())" - the part that every query shares
+    int fixedLength = encodedLength(commonQuery.and(new CqlQuery(index + "==()")).query());
+    int budget = maxQueryLength - reservedLength - fixedLength;
+    if (budget <= 0) {
+      log.warn("partition:: common query alone exceeds max query length of {}: {}",
+        maxQueryLength, commonQuery);
+    }
+
+    List<CqlQuery> queries = new ArrayList<>();
+    List<Integer> valuesPerQuery = new ArrayList<>();
+    List<String> batch = new ArrayList<>();
+    int batchLength = 0;
+    for (String value : values) {
+      int valueLength = encodedLength(value) + ENCODED_QUOTES_LENGTH;
+      int lengthWithValue = batch.isEmpty()
+        ? valueLength
+        : batchLength + ENCODED_SEPARATOR_LENGTH + valueLength;
+
+      if (!batch.isEmpty() && (lengthWithValue > budget || batch.size() == maxValuesPerQuery)) {
+        queries.add(buildQuery(commonQuery, index, batch));
+        valuesPerQuery.add(batch.size());
+        batch = new ArrayList<>();
+        lengthWithValue = valueLength;
+      }
+      if (valueLength > budget) {
+        log.warn("partition:: value alone exceeds max query length, it will be queried separately");
+      }
+      batch.add(value);
+      batchLength = lengthWithValue;
+    }
+    queries.add(buildQuery(commonQuery, index, batch));
+    valuesPerQuery.add(batch.size());
+
+    recordMetrics(index, valuesPerQuery);
+    log.info("partition:: {} value(s) of index '{}' split into {} queries", values.size(), index,
+      queries.size());
+
+    return queries;
+  }
+
+  private static CqlQuery buildQuery(CqlQuery commonQuery, String index, Collection<String> batch) {
+    return commonQuery.and(CqlQuery.exactMatchAny(index, batch));
+  }
+
+  private static void recordMetrics(String index, List<Integer> valuesPerQuery) {
+    Metrics.counter("tlr.bulk-fetch.queries", "index", index)
+      .increment(valuesPerQuery.size());
+    DistributionSummary.builder("tlr.bulk-fetch.partitions-per-fetch")
+      .description("Number of queries a single bulk fetch is split into")
+      .tag("index", index)
+      .register(Metrics.globalRegistry)
+      .record(valuesPerQuery.size());
+    DistributionSummary valuesPerQuerySummary = DistributionSummary
+      .builder("tlr.bulk-fetch.values-per-query")
+      .description("Number of values in a single query of a bulk fetch")
+      .tag("index", index)
+      .register(Metrics.globalRegistry);
+    valuesPerQuery.forEach(valuesPerQuerySummary::record);
+  }
+
+  private static int encodedLength(String value) {
+    return UriUtils.encode(value, UTF_8).length();
+  }
+}
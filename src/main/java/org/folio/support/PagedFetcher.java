@@ -0,0 +1,107 @@
+package org.folio.support;
+
+import static org.folio.client.GetByQueryClient.DEFAULT_LIMIT;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.folio.client.GetByQueryClient;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fetches all records matching a query page by page using keyset pagination
+ * ("id>lastId sortBy id"), so that result sets larger than a single page are neither truncated
+ * nor loaded into memory at once. Pages are requested lazily while the stream is consumed,
+ * therefore the stream must be consumed within the same execution context (tenant) it was
+ * created in.
+ */
+@Log4j2
+@UtilityClass
+public class PagedFetcher {
+
+  private static final String ID_INDEX = "id";
+
+  public static <C, E> Stream<E> stream(GetByQueryClient<C> client, CqlQuery query,
+    Function<C, Collection<E>> collectionExtractor, Function<E, String> idExtractor) {
+
+    return stream(client, query, collectionExtractor, idExtractor, DEFAULT_LIMIT);
+  }
+
+  public static <C, E> Stream<E> stream(GetByQueryClient<C> client, CqlQuery query,
+    Function<C, Collection<E>> collectionExtractor, Function<E, String> idExtractor, int pageSize) {
+
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+
+    var iterator = new KeysetPageIterator<>(client, query, collectionExtractor, idExtractor, pageSize);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+      Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  private static final class KeysetPageIterator<C, E> implements Iterator<E> {
+    private final GetByQueryClient<C> client;
+    private final CqlQuery query;
+    private final Function<C, Collection<E>> collectionExtractor;
+    private final Function<E, String> idExtractor;
+    private final int pageSize;
+
+    private Iterator<E> currentPage = Collections.emptyIterator();
+    private String lastId;
+    private boolean lastPageFetched;
+    private int pagesFetched;
+
+    private KeysetPageIterator(GetByQueryClient<C> client, CqlQuery query,
+      Function<C, Collection<E>> collectionExtractor, Function<E, String> idExtractor, int pageSize) {
+
+      this.client = client;
+      this.query = query;
+      this.collectionExtractor = collectionExtractor;
+      this.idExtractor = idExtractor;
+      this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!currentPage.hasNext() && !lastPageFetched) {
+        currentPage = fetchNextPage();
+      }
+      return currentPage.hasNext();
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      E element = currentPage.next();
+      lastId = idExtractor.apply(element);
+      return element;
+    }
+
+    private Iterator<E> fetchNextPage() {
+      CqlQuery pageQuery = lastId == null
+        ? query.sortBy(ID_INDEX)
+        : query.and(CqlQuery.greaterThen(ID_INDEX, lastId)).sortBy(ID_INDEX);
+
+      log.debug("fetchNextPage:: fetching page {}: {}", pagesFetched + 1, pageQuery);
+      Collection<E> page = collectionExtractor.apply(client.getByQuery(pageQuery, pageSize));
+      pagesFetched++;
+      lastPageFetched = page.size() < pageSize;
+      if (lastPageFetched) {
+        log.info("fetchNextPage:: last page fetched, total pages: {}", pagesFetched);
+      }
+
+      return page.iterator();
+    }
+  }
+}
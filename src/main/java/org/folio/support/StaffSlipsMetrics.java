@@ -0,0 +1,159 @@
+package org.folio.support;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Collects timings of stages, numbers of fetched entities and cache hits of a single invocation
+ * of staff slips and reports them once the invocation is done. Stages which are executed for
+ * every consortium tenant are timed per tenant, other stages are tagged with tenant "all".
+ */
+@Log4j2
+public class StaffSlipsMetrics {
+
+  public static final String ALL_TENANTS = "all";
+
+  private static final String STAGE_METRIC = "tlr.staff-slips.stage.duration";
+  private static final String ENTITIES_METRIC = "tlr.staff-slips.entities";
+  private static final String CACHE_METRIC = "tlr.staff-slips.cache";
+  private static final String BATCHES_METRIC = "tlr.staff-slips.batches";
+  private static final String DURATION_METRIC = "tlr.staff-slips.duration";
+  private static final String SLIPS_METRIC = "tlr.staff-slips.slips";
+  private static final String SKIPPED_TENANTS_METRIC = "tlr.staff-slips.skipped-tenants";
+
+  private final String slipsType;
+  private final String servicePointId;
+  private final long startedAt = System.nanoTime();
+  private final Map<String, LongAdder> stageNanos = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> fetchedEntities = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> cacheLookups = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> skippedTenants = new ConcurrentHashMap<>();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder staffSlips = new LongAdder();
+
+  public StaffSlipsMetrics(String slipsType, String servicePointId) {
+    this.slipsType = slipsType;
+    this.servicePointId = servicePointId;
+  }
+
+  public void measure(String stage, Runnable action) {
+    try (var ignored = startStage(stage, ALL_TENANTS)) {
+      action.run();
+    }
+  }
+
+  public Stage startStage(String stage, String tenantId) {
+    return new Stage(stage, tenantId, System.nanoTime());
+  }
+
+  public void recordFetched(String entityType, String tenantId, int count) {
+    Metrics.counter(ENTITIES_METRIC, "type", slipsType, "entity", entityType, "tenant", tenantId)
+      .increment(count);
+    add(fetchedEntities, entityType, count);
+  }
+
+  public void recordCacheLookups(String cache, int hits, int lookups) {
+    Metrics.counter(CACHE_METRIC, "type", slipsType, "cache", cache, "result", "hit")
+      .increment(hits);
+    Metrics.counter(CACHE_METRIC, "type", slipsType, "cache", cache, "result", "miss")
+      .increment((double) lookups - hits);
+    add(cacheHits, cache, hits);
+    add(cacheLookups, cache, lookups);
+  }
+
+  public void recordSkippedTenants(String stage, Collection<String> tenantIds) {
+    tenantIds.forEach(tenantId -> Metrics.counter(SKIPPED_TENANTS_METRIC, "type", slipsType,
+      "stage", stage, "tenant", tenantId).increment());
+    add(skippedTenants, stage, tenantIds.size());
+  }
+
+  public void recordBatch(int staffSlipsCount) {
+    Metrics.counter(BATCHES_METRIC, "type", slipsType).increment();
+    batches.increment();
+    staffSlips.add(staffSlipsCount);
+  }
+
+  // service point is only logged, tagging metrics with it would create a time series for
+  // every service point
+  public void report() {
+    long elapsedNanos = System.nanoTime() - startedAt;
+    Timer.builder(DURATION_METRIC)
+      .description("Time it takes to build staff slips for a service point")
+      .tag("type", slipsType)
+      .register(Metrics.globalRegistry)
+      .record(elapsedNanos, NANOSECONDS);
+    DistributionSummary.builder(SLIPS_METRIC)
+      .description("Number of staff slips built for a service point at once")
+      .tag("type", slipsType)
+      .register(Metrics.globalRegistry)
+      .record(staffSlips.sum());
+
+    log.info("report:: {} for service point {}: {} staff slips in {} batches built in {} ms, " +
+      "stages (ms): {}, fetched entities: {}, cache hits: {}, skipped tenants: {}", slipsType,
+      servicePointId, staffSlips.sum(), batches.sum(), NANOSECONDS.toMillis(elapsedNanos),
+      stagesToMillis(), sums(fetchedEntities), cacheHitsToString(), sums(skippedTenants));
+  }
+
+  private Map<String, Long> stagesToMillis() {
+    Map<String, Long> millis = new TreeMap<>();
+    stageNanos.forEach((stage, nanos) -> millis.put(stage, NANOSECONDS.toMillis(nanos.sum())));
+    return millis;
+  }
+
+  private String cacheHitsToString() {
+    Map<String, String> hitRatios = new TreeMap<>();
+    cacheLookups.forEach((cache, lookups) -> hitRatios.put(cache,
+      cacheHits.get(cache).sum() + "/" + lookups.sum()));
+    return hitRatios.toString();
+  }
+
+  private static Map<String, Long> sums(Map<String, LongAdder> adders) {
+    Map<String, Long> sums = new TreeMap<>();
+    adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+    return sums;
+  }
+
+  private static void add(Map<String, LongAdder> adders, String key, long value) {
+    adders.computeIfAbsent(key, k -> new LongAdder()).add(value);
+  }
+
+  /**
+   * Timing of a stage, recorded when closed.
+   */
+  public final class Stage implements AutoCloseable {
+    private final String name;
+    private final String tenantId;
+    private final long startedAt;
+
+    private Stage(String name, String tenantId, long startedAt) {
+      this.name = name;
+      this.tenantId = tenantId;
+      this.startedAt = startedAt;
+    }
+
+    @Override
+    public void close() {
+      long elapsedNanos = System.nanoTime() - startedAt;
+      Timer.builder(STAGE_METRIC)
+        .description("Time it takes to execute a stage of building staff slips")
+        .tag("type", slipsType)
+        .tag("stage", name)
+        .tag("tenant", tenantId)
+        .register(Metrics.globalRegistry)
+        .record(elapsedNanos, NANOSECONDS);
+      String key = ALL_TENANTS.equals(tenantId) ? name : name + "[" + tenantId + "]";
+      add(stageNanos, key, elapsedNanos);
+    }
+  }
+}
@@ -19,7 +19,6 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
-import org.folio.service.impl.ConsortiumServiceImpl;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.integration.XOkapiHeaders;
@@ -34,6 +33,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpHeaders;
@@ -105,6 +105,8 @@ public class BaseIT {
   private FolioExecutionContext context;
   @Autowired
   private FolioModuleMetadata moduleMetadata;
+  @Autowired
+  private CacheManager cacheManager;
   private FolioExecutionContextSetter contextSetter;
   protected static AdminClient kafkaAdminClient;
   @Autowired
@@ -131,7 +133,8 @@ public class BaseIT {
 
     contextSetter = initFolioContext();
     wireMockServer.resetAll();
-    ConsortiumServiceImpl.clearCache();
+    cacheManager.getCacheNames()
+      .forEach(cacheName -> cacheManager.getCache(cacheName).clear());
   }
 
   @AfterEach
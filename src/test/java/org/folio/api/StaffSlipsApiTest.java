@@ -104,16 +104,16 @@ class StaffSlipsApiTest extends BaseIT {
     "primaryServicePoint==\"" + SERVICE_POINT_ID + "\"";
   private static final String SEARCH_BY_ID_QUERY_PATTERN = "id==\\(.*\\)";
   private static final String REQUESTS_QUERY_PATTERN_TEMPLATE = "requestType==\\(\"%s\"\\) " +
-    "and \\(status==\\(\"Open - Not yet filled\"\\)\\) and \\(itemId==\\(.*\\)\\)";
+    "and \\(status==\\(\"Open - Not yet filled\"\\)\\) and \\(itemId==\\(.*\\)\\) sortBy id";
   private static final String PICK_SLIPS_REQUESTS_QUERY_PATTERN =
     String.format(REQUESTS_QUERY_PATTERN_TEMPLATE, "Page");
   private static final String SEARCH_SLIPS_REQUESTS_QUERY_PATTERN =
     String.format(REQUESTS_QUERY_PATTERN_TEMPLATE, "Page");
   private static final String REQUESTS_WITHOUT_ITEM_QUERY_PATTERN =
     "requestType==\"Hold\"\\ and \\(requestLevel==\"Title\"\\) and " +
-      "\\(status==\\(\"Open - Not yet filled\"\\)\\) not \\(itemId=\"\"\\)";
+      "\\(status==\\(\"Open - Not yet filled\"\\)\\) not \\(itemId=\"\"\\) sortBy id";
   private static final String ITEMS_QUERY_PATTERN_TEMPLATE =
-    "status.name==\\(%s\\) and \\(effectiveLocationId==\\(.*\\)\\)";
+    "status.name==\\(%s\\) and \\(effectiveLocationId==\\(.*\\)\\) sortBy id";
   private static final String PICK_SLIPS_ITEMS_QUERY_PATTERN =
     String.format(ITEMS_QUERY_PATTERN_TEMPLATE, joinForMatchAnyQuery(PICK_SLIPS_ITEM_STATUSES));
   private static final String SEARCH_SLIPS_ITEMS_QUERY_PATTERN =
@@ -0,0 +1,203 @@
+package org.folio.client;
+
+import static org.folio.client.GetByQueryClient.DEFAULT_LIMIT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.client.memo.ClientCallMemo;
+import org.folio.client.memo.ClientCallMemoizer;
+import org.folio.config.ClientCallMemoProperties;
+import org.folio.domain.dto.User;
+import org.folio.domain.dto.Users;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.support.CqlQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.util.unit.DataSize;
+
+import lombok.SneakyThrows;
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientCallMemoizerTest {
+
+  private static final String USER_ID = "2d0fd0ad-0cf6-4e4c-9aa2-28bd6b0e1b47";
+
+  @Mock
+  private UserClient userClient;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private final ClientCallMemoProperties properties = new ClientCallMemoProperties();
+  private UserClient memoizedClient;
+
+  @BeforeEach
+  void setUp() {
+    memoizedClient = new ClientCallMemoizer(folioContext, new ObjectMapper(), properties)
+      .memoize(userClient, UserClient.class);
+    when(folioContext.getTenantId()).thenReturn("tenant1");
+    when(userClient.getUser(USER_ID)).thenReturn(new User().id(USER_ID).barcode("barcode"));
+  }
+
+  @Test
+  void identicalCallsAreMadeOnceWithinMemoScope() {
+    ClientCallMemo memo = new ClientCallMemo();
+    try (var ignored = ClientCallMemo.activate(memo)) {
+      User first = memoizedClient.getUser(USER_ID);
+      User second = memoizedClient.getUser(USER_ID);
+
+      assertThat(second, is(first));
+      assertThat(second, not(sameInstance(first)));
+    }
+
+    verify(userClient, times(1)).getUser(USER_ID);
+    assertThat(memo.getMisses().get(), is(1));
+    assertThat(memo.getHits().get(), is(1));
+  }
+
+  @Test
+  void callsAreNotMemoizedOutsideOfMemoScope() {
+    memoizedClient.getUser(USER_ID);
+    memoizedClient.getUser(USER_ID);
+
+    verify(userClient, times(2)).getUser(USER_ID);
+  }
+
+  @Test
+  void callsInDifferentTenantsAreNotShared() {
+    try (var ignored = ClientCallMemo.activate(new ClientCallMemo())) {
+      memoizedClient.getUser(USER_ID);
+      when(folioContext.getTenantId()).thenReturn("tenant2");
+      memoizedClient.getUser(USER_ID);
+    }
+
+    verify(userClient, times(2)).getUser(USER_ID);
+  }
+
+  @Test
+  void modifyingCallInvalidatesMemoizedCallsOfTenant() {
+    try (var ignored = ClientCallMemo.activate(new ClientCallMemo())) {
+      User user = memoizedClient.getUser(USER_ID);
+      memoizedClient.putUser(USER_ID, user.barcode("new_barcode"));
+      memoizedClient.getUser(USER_ID);
+    }
+
+    verify(userClient, times(2)).getUser(USER_ID);
+  }
+
+  @Test
+  void queryCallsAreNotMemoized() {
+    CqlQuery query = CqlQuery.exactMatch("barcode", "barcode");
+    when(userClient.getByQuery(query, DEFAULT_LIMIT)).thenReturn(new Users().totalRecords(0));
+
+    ClientCallMemo memo = new ClientCallMemo();
+    try (var ignored = ClientCallMemo.activate(memo)) {
+      memoizedClient.getByQuery(query);
+      memoizedClient.getByQuery(query, DEFAULT_LIMIT);
+    }
+
+    verify(userClient, times(2)).getByQuery(query, DEFAULT_LIMIT);
+    assertThat(memo.getCalls().isEmpty(), is(true));
+  }
+
+  @Test
+  void resultsLargerThanMaxEntrySizeAreNotKept() {
+    properties.setMaxEntrySize(DataSize.ofBytes(10));
+
+    try (var ignored = ClientCallMemo.activate(new ClientCallMemo())) {
+      memoizedClient.getUser(USER_ID);
+      memoizedClient.getUser(USER_ID);
+    }
+
+    verify(userClient, times(2)).getUser(USER_ID);
+  }
+
+  @Test
+  void resultsAreNotKeptOnceMemoIsFull() {
+    String anotherUserId = "6c1a2f1c-0aee-4bd4-9b0c-6a3a6d4f1c30";
+    when(userClient.getUser(anotherUserId)).thenReturn(new User().id(anotherUserId));
+    // room for the first user only
+    int firstUserSize = new ObjectMapper()
+      .writeValueAsBytes(new User().id(USER_ID).barcode("barcode")).length;
+    properties.setMaxSize(DataSize.ofBytes(firstUserSize));
+
+    ClientCallMemo memo = new ClientCallMemo();
+    try (var ignored = ClientCallMemo.activate(memo)) {
+      memoizedClient.getUser(USER_ID);
+      memoizedClient.getUser(anotherUserId);
+      memoizedClient.getUser(USER_ID);
+      memoizedClient.getUser(anotherUserId);
+    }
+
+    verify(userClient, times(1)).getUser(USER_ID);
+    verify(userClient, times(2)).getUser(anotherUserId);
+    assertThat(memo.getRetainedBytes().get(), is((long) firstUserSize));
+  }
+
+  @Test
+  void failedCallsAreNotMemoized() {
+    when(userClient.getUser(USER_ID))
+      .thenThrow(new IllegalStateException("failure"))
+      .thenReturn(new User().id(USER_ID));
+
+    try (var ignored = ClientCallMemo.activate(new ClientCallMemo())) {
+      assertThrows(IllegalStateException.class, () -> memoizedClient.getUser(USER_ID));
+      assertThat(memoizedClient.getUser(USER_ID).getId(), is(USER_ID));
+    }
+
+    verify(userClient, times(2)).getUser(USER_ID);
+  }
+
+  @Test
+  @SneakyThrows
+  void concurrentIdenticalCallsAreCollapsed() {
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch releaseCall = new CountDownLatch(1);
+    when(userClient.getUser(USER_ID)).thenAnswer(invocation -> {
+      callStarted.countDown();
+      releaseCall.await(5, TimeUnit.SECONDS);
+      return new User().id(USER_ID);
+    });
+
+    ClientCallMemo memo = new ClientCallMemo();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<User> first = executor.submit(() -> getUserInMemoScope(memo));
+      callStarted.await(5, TimeUnit.SECONDS);
+      Future<User> second = executor.submit(() -> getUserInMemoScope(memo));
+      while (memo.getSharedInFlight().get() == 0) {
+        Thread.onSpinWait();
+      }
+      releaseCall.countDown();
+
+      assertThat(List.of(first.get().getId(), second.get().getId()), is(List.of(USER_ID, USER_ID)));
+    }
+
+    verify(userClient, times(1)).getUser(any());
+    assertThat(memo.getSharedInFlight().get(), is(1));
+  }
+
+  private User getUserInMemoScope(ClientCallMemo memo) {
+    try (var ignored = ClientCallMemo.activate(memo)) {
+      return memoizedClient.getUser(USER_ID);
+    }
+  }
+}
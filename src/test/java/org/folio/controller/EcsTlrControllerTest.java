@@ -1,17 +1,28 @@
 package org.folio.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
+import org.folio.domain.IdempotentEcsTlrCreation;
 import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.dto.EcsTlrBatch;
+import org.folio.domain.dto.EcsTlrBatchResult;
+import org.folio.service.EcsTlrIdempotencyService;
 import org.folio.service.EcsTlrService;
 import org.folio.service.TlrSettingsService;
 import org.junit.jupiter.api.Test;
@@ -27,6 +38,8 @@ class EcsTlrControllerTest {
   private EcsTlrService ecsTlrService;
   @Mock
   private TlrSettingsService tlrSettingsService;
+  @Mock
+  private EcsTlrIdempotencyService idempotencyService;
   @InjectMocks
   private EcsTlrController ecsTlrController;
 
@@ -50,10 +63,71 @@ class EcsTlrControllerTest {
     var mockRequest = new EcsTlr();
     when(ecsTlrService.create(any(EcsTlr.class))).thenReturn(mockRequest);
 
-    var response = ecsTlrController.postEcsTlr(new EcsTlr());
+    var response = ecsTlrController.postEcsTlr(new EcsTlr(), null, null);
+
+    assertEquals(CREATED, response.getStatusCode());
+    assertEquals(mockRequest, response.getBody());
+  }
+
+  @Test
+  void ecsTlrShouldBeAcceptedForAsynchronousCreation() {
+    var id = UUID.randomUUID().toString();
+    var mockRequest = new EcsTlr().id(id);
+    when(ecsTlrService.createAsync(any(EcsTlr.class))).thenReturn(mockRequest);
+
+    var response = ecsTlrController.postEcsTlr(new EcsTlr(), true, null);
+
+    assertEquals(ACCEPTED, response.getStatusCode());
+    assertEquals(mockRequest, response.getBody());
+    assertEquals("/tlr/ecs-tlr/" + id + "/creation-status",
+      response.getHeaders().getLocation().toString());
+  }
+
+  @Test
+  void ecsTlrShouldBeCreatedWithIdempotencyKey() {
+    var mockRequest = new EcsTlr();
+    when(ecsTlrService.create(any(EcsTlr.class), any(Runnable.class))).thenReturn(mockRequest);
+    when(idempotencyService.create(eq("key"), eq(false), any(EcsTlr.class), any()))
+      .thenAnswer(invocation -> new IdempotentEcsTlrCreation(
+        invocation.<Function<Runnable, EcsTlr>>getArgument(3).apply(() -> {}), false, false));
+
+    var response = ecsTlrController.postEcsTlr(new EcsTlr(), null, "key");
 
     assertEquals(CREATED, response.getStatusCode());
     assertEquals(mockRequest, response.getBody());
+    assertNull(response.getHeaders().getFirst("Idempotent-Replayed"));
+  }
+
+  @Test
+  void replayedAsynchronousCreationShouldBeAccepted() {
+    var id = UUID.randomUUID().toString();
+    var mockRequest = new EcsTlr().id(id);
+    when(idempotencyService.create(eq("key"), eq(false), any(EcsTlr.class), any()))
+      .thenReturn(new IdempotentEcsTlrCreation(mockRequest, true, true));
+
+    var response = ecsTlrController.postEcsTlr(new EcsTlr(), false, "key");
+
+    assertEquals(ACCEPTED, response.getStatusCode());
+    assertEquals(mockRequest, response.getBody());
+    assertEquals("true", response.getHeaders().getFirst("Idempotent-Replayed"));
+    assertEquals("/tlr/ecs-tlr/" + id + "/creation-status",
+      response.getHeaders().getLocation().toString());
+    verifyNoInteractions(ecsTlrService);
+  }
+
+  @Test
+  void batchOfEcsTlrsShouldBeCreated() {
+    var ecsTlrs = List.of(new EcsTlr(), new EcsTlr());
+    var results = List.of(
+      new EcsTlrBatchResult().index(0).status(EcsTlrBatchResult.StatusEnum.CREATED),
+      new EcsTlrBatchResult().index(1).status(EcsTlrBatchResult.StatusEnum.FAILED));
+    when(ecsTlrService.createBatch(ecsTlrs)).thenReturn(results);
+
+    var response = ecsTlrController.postEcsTlrBatch(new EcsTlrBatch().ecsTlrs(ecsTlrs));
+
+    assertEquals(OK, response.getStatusCode());
+    assertEquals(results, response.getBody().getResults());
+    assertEquals(2, response.getBody().getTotalRecords());
   }
 
   @Test
@@ -5,39 +5,65 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.OK;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import org.folio.domain.CombinedStaffSlips;
+import org.folio.domain.dto.AllSlipsResponse;
+import org.folio.domain.dto.Errors;
 import org.folio.domain.dto.PickSlipsResponse;
+import org.folio.domain.dto.ServicePointStaffSlips;
 import org.folio.domain.dto.StaffSlip;
+import org.folio.domain.dto.StaffSlipsByServicePointResponse;
+import org.folio.service.impl.CombinedStaffSlipsService;
 import org.folio.service.impl.PickSlipsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import lombok.SneakyThrows;
+import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class StaffSlipsControllerTest {
 
   private static final UUID SERVICE_POINT_ID = UUID.fromString("6582fb37-9748-40a0-a0be-51efd151fa53");
+  private static final UUID SECOND_SERVICE_POINT_ID = UUID.fromString("0f9fb5b0-5a0b-4b6b-9d6f-0fc3b5e4e3a6");
 
   @Mock
   private PickSlipsService pickSlipsService;
+  @Mock
+  private CombinedStaffSlipsService combinedStaffSlipsService;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
 
   @InjectMocks
   private StaffSlipsController controller;
 
   @Test
   void pickSlipsAreBuiltSuccessfully() {
-    when(pickSlipsService.getStaffSlips(SERVICE_POINT_ID.toString()))
+    when(pickSlipsService.getStaffSlips(SERVICE_POINT_ID.toString(), null))
       .thenReturn(List.of(new StaffSlip()));
 
-    ResponseEntity<PickSlipsResponse> response = controller.getPickSlips(SERVICE_POINT_ID);
+    ResponseEntity<PickSlipsResponse> response = controller.getPickSlips(SERVICE_POINT_ID, null, null, null,
+      null);
     assertThat(response.getStatusCode(), is(OK));
     assertThat(response.getBody(), notNullValue());
     assertThat(response.getBody().getTotalRecords(), is(1));
@@ -46,13 +72,92 @@ class StaffSlipsControllerTest {
 
   @Test
   void noPickSlipsAreBuilt() {
-    when(pickSlipsService.getStaffSlips(SERVICE_POINT_ID.toString()))
+    when(pickSlipsService.getStaffSlips(SERVICE_POINT_ID.toString(), null))
       .thenReturn(emptyList());
 
-    ResponseEntity<PickSlipsResponse> response = controller.getPickSlips(SERVICE_POINT_ID);
+    ResponseEntity<PickSlipsResponse> response = controller.getPickSlips(SERVICE_POINT_ID, null, null, null,
+      null);
     assertThat(response.getStatusCode(), is(OK));
     assertThat(response.getBody(), notNullValue());
     assertThat(response.getBody().getTotalRecords(), is(0));
     assertThat(response.getBody().getPickSlips(), hasSize(0));
   }
-}
\ No newline at end of file
+
+  @Test
+  @SneakyThrows
+  void pickSlipsAreStreamedAsNdjson() {
+    doAnswer(invocation -> {
+      Consumer<Collection<StaffSlip>> batchConsumer = invocation.getArgument(2);
+      batchConsumer.accept(List.of(new StaffSlip(), new StaffSlip()));
+      batchConsumer.accept(List.of(new StaffSlip()));
+      return null;
+    }).when(pickSlipsService).streamStaffSlips(eq(SERVICE_POINT_ID.toString()), isNull(), any());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    controller.streamPickSlips(SERVICE_POINT_ID, null, response);
+
+    assertThat(response.getContentType(), is("application/x-ndjson"));
+    assertThat(response.getContentAsString().lines().toList(), hasSize(3));
+  }
+
+  @Test
+  @SneakyThrows
+  void errorIsWrittenAsLastLineWhenStreamingFails() {
+    doAnswer(invocation -> {
+      Consumer<Collection<StaffSlip>> batchConsumer = invocation.getArgument(2);
+      batchConsumer.accept(List.of(new StaffSlip()));
+      throw new IllegalStateException("Failed to build staff slips");
+    }).when(pickSlipsService).streamStaffSlips(eq(SERVICE_POINT_ID.toString()), isNull(), any());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    controller.streamPickSlips(SERVICE_POINT_ID, null, response);
+
+    List<String> lines = response.getContentAsString().lines().toList();
+    assertThat(lines, hasSize(2));
+    Errors errors = objectMapper.readValue(lines.get(1), Errors.class);
+    assertThat(errors.getTotalRecords(), is(1));
+    assertThat(errors.getErrors().get(0).getMessage(), is("Failed to build staff slips"));
+    assertThat(errors.getErrors().get(0).getCode(), is("INTERNAL_SERVER_ERROR"));
+  }
+
+  @Test
+  void pickSlipsAreGroupedByServicePoint() {
+    Map<String, Collection<StaffSlip>> staffSlips = new LinkedHashMap<>();
+    staffSlips.put(SERVICE_POINT_ID.toString(), List.of(new StaffSlip(), new StaffSlip()));
+    staffSlips.put(SECOND_SERVICE_POINT_ID.toString(), emptyList());
+    List<String> servicePointIds = List.of(SERVICE_POINT_ID.toString(),
+      SECOND_SERVICE_POINT_ID.toString());
+    when(pickSlipsService.getStaffSlipsByServicePoint(servicePointIds, null))
+      .thenReturn(staffSlips);
+
+    ResponseEntity<StaffSlipsByServicePointResponse> response =
+      controller.getPickSlipsForServicePoints(
+        List.of(SERVICE_POINT_ID, SECOND_SERVICE_POINT_ID, SERVICE_POINT_ID), null);
+
+    verify(pickSlipsService).getStaffSlipsByServicePoint(servicePointIds, null);
+    assertThat(response.getStatusCode(), is(OK));
+    assertThat(response.getBody(), notNullValue());
+    assertThat(response.getBody().getTotalRecords(), is(2));
+    List<ServicePointStaffSlips> servicePoints = response.getBody().getServicePoints();
+    assertThat(servicePoints, hasSize(2));
+    assertThat(servicePoints.get(0).getServicePointId(), is(SERVICE_POINT_ID));
+    assertThat(servicePoints.get(0).getTotalRecords(), is(2));
+    assertThat(servicePoints.get(0).getStaffSlips(), hasSize(2));
+    assertThat(servicePoints.get(1).getServicePointId(), is(SECOND_SERVICE_POINT_ID));
+    assertThat(servicePoints.get(1).getTotalRecords(), is(0));
+  }
+
+  @Test
+  void pickSlipsAndSearchSlipsAreBuiltTogether() {
+    when(combinedStaffSlipsService.getCombinedStaffSlips(SERVICE_POINT_ID.toString(), null))
+      .thenReturn(new CombinedStaffSlips(List.of(new StaffSlip()),
+        List.of(new StaffSlip(), new StaffSlip())));
+
+    ResponseEntity<AllSlipsResponse> response = controller.getAllSlips(SERVICE_POINT_ID, null);
+    assertThat(response.getStatusCode(), is(OK));
+    assertThat(response.getBody(), notNullValue());
+    assertThat(response.getBody().getTotalRecords(), is(3));
+    assertThat(response.getBody().getPickSlips(), hasSize(1));
+    assertThat(response.getBody().getSearchSlips(), hasSize(2));
+  }
+}
@@ -17,13 +17,16 @@ import java.util.List;
 import java.util.UUID;
 
 import org.folio.api.BaseIT;
+import org.folio.config.TlrSettingsCacheProperties;
 import org.folio.domain.dto.TlrSettings;
 import org.folio.domain.entity.TlrSettingsEntity;
 import org.folio.domain.mapper.TlrSettingsMapper;
 import org.folio.domain.mapper.TlrSettingsMapperImpl;
 import org.folio.repository.TlrSettingsRepository;
 import org.folio.service.PublishCoordinatorService;
+import org.folio.service.impl.TlrSettingsChangeNotifier;
 import org.folio.service.impl.TlrSettingsServiceImpl;
+import org.folio.spring.FolioExecutionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
@@ -45,6 +49,14 @@ public class TlrSettingsPublishCoordinatorTest extends BaseIT {
   private TlrSettingsMapper tlrSettingsMapper = new TlrSettingsMapperImpl();
   @Autowired
   private PublishCoordinatorService<TlrSettings> publishCoordinatorService;
+  @Autowired
+  private FolioExecutionContext folioContext;
+  @Autowired
+  private CacheManager cacheManager;
+  @Autowired
+  private TlrSettingsCacheProperties tlrSettingsCacheProperties;
+  @Autowired
+  private TlrSettingsChangeNotifier tlrSettingsChangeNotifier;
   private TlrSettingsServiceImpl tlrSettingsService;
   private TlrSettingsController tlrSettingsController;
   private static final String CENTRAL_TENANT_ID = TENANT_ID_CONSORTIUM;
@@ -53,7 +65,8 @@ public class TlrSettingsPublishCoordinatorTest extends BaseIT {
   @BeforeEach
   void before() {
     tlrSettingsService = new TlrSettingsServiceImpl(tlrSettingsRepository, tlrSettingsMapper,
-      publishCoordinatorService);
+      publishCoordinatorService, folioContext, cacheManager, tlrSettingsCacheProperties,
+      tlrSettingsChangeNotifier);
     tlrSettingsController = new TlrSettingsController(tlrSettingsService);
   }
 
@@ -0,0 +1,135 @@
+package org.folio.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import org.folio.config.CacheConfiguration;
+import org.folio.config.CloneRegistryProperties;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.domain.entity.KnownCloneEntity;
+import org.folio.domain.entity.KnownCloneEntity.KnownCloneId;
+import org.folio.repository.KnownCloneRepository;
+import org.folio.service.impl.CloneRegistryImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CloneRegistryTest {
+
+  private static final String TYPE = "User";
+  private static final String ID = "2d0fd0ad-0cf6-4e4c-9aa2-28bd6b0e1b47";
+
+  @Mock
+  private FolioExecutionContext folioContext;
+  @Mock
+  private KnownCloneRepository knownCloneRepository;
+
+  private CloneRegistryProperties properties;
+  private CloneRegistry cloneRegistry;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CloneRegistryProperties();
+    var cacheManager = new CacheConfiguration().cacheManager(new ReferenceDataCacheProperties(),
+      new ConsortiumCacheProperties(), new TenantContextCacheProperties(),
+      new TlrSettingsCacheProperties(), properties, new StaffSlipsProperties());
+    cloneRegistry = new CloneRegistryImpl(folioContext, cacheManager, properties,
+      knownCloneRepository);
+    when(folioContext.getTenantId()).thenReturn("college");
+  }
+
+  @Test
+  void registeredCloneIsKnownToExist() {
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, "group"));
+    cloneRegistry.registerExisting(TYPE, ID, "group");
+
+    assertTrue(cloneRegistry.isKnownToExist(TYPE, ID, "group"));
+    verify(knownCloneRepository, never()).save(any());
+  }
+
+  @Test
+  void cloneIsNotKnownWhenStateDiffers() {
+    cloneRegistry.registerExisting(TYPE, ID, "group");
+
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, "another_group"));
+  }
+
+  @Test
+  void clonesAreRegisteredPerTenant() {
+    cloneRegistry.registerExisting(TYPE, ID, null);
+    when(folioContext.getTenantId()).thenReturn("university");
+
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, null));
+  }
+
+  @Test
+  void forgottenCloneIsNotKnown() {
+    cloneRegistry.registerExisting(TYPE, ID, null);
+    cloneRegistry.forget(TYPE, ID);
+
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, null));
+  }
+
+  @Test
+  void nothingIsKnownWhenRegistryIsDisabled() {
+    properties.setEnabled(false);
+    cloneRegistry.registerExisting(TYPE, ID, null);
+
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, null));
+  }
+
+  @Test
+  void persistentRegistryIsUsedWhenCloneIsNotInMemory() {
+    properties.setPersistent(true);
+    when(knownCloneRepository.findById(new KnownCloneId(TYPE, ID)))
+      .thenReturn(Optional.of(new KnownCloneEntity(TYPE, ID, "group", new Date())));
+
+    assertTrue(cloneRegistry.isKnownToExist(TYPE, ID, "group"));
+    assertTrue(cloneRegistry.isKnownToExist(TYPE, ID, "group"));
+    verify(knownCloneRepository, times(1)).findById(any());
+    verify(knownCloneRepository, never()).deleteByRegisteredDateBefore(any());
+  }
+
+  @Test
+  void expiredPersistedCloneIsNotKnownAndIsDeleted() {
+    properties.setPersistent(true);
+    Date registeredDate = Date.from(Instant.now().minus(properties.getTtl()).minusSeconds(60));
+    when(knownCloneRepository.findById(new KnownCloneId(TYPE, ID)))
+      .thenReturn(Optional.of(new KnownCloneEntity(TYPE, ID, "group", registeredDate)));
+
+    assertFalse(cloneRegistry.isKnownToExist(TYPE, ID, "group"));
+    verify(knownCloneRepository).deleteByRegisteredDateBefore(
+      argThat(expirationDate -> expirationDate.after(registeredDate)));
+  }
+
+  @Test
+  void persistentRegistryIsUpdated() {
+    properties.setPersistent(true);
+    cloneRegistry.registerExisting(TYPE, ID, "group");
+    cloneRegistry.forget(TYPE, ID);
+
+    verify(knownCloneRepository).save(any(KnownCloneEntity.class));
+    verify(knownCloneRepository).deleteById(new KnownCloneId(TYPE, ID));
+  }
+}
@@ -0,0 +1,157 @@
+package org.folio.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.folio.client.ConsortiaClient;
+import org.folio.client.ConsortiaConfigurationClient;
+import org.folio.config.CacheConfiguration;
+import org.folio.config.CloneRegistryProperties;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.domain.ConsortiumCacheState;
+import org.folio.domain.dto.ConsortiaConfiguration;
+import org.folio.domain.dto.Tenant;
+import org.folio.domain.dto.TenantCollection;
+import org.folio.service.impl.ConsortiaServiceImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConsortiaServiceTest {
+
+  private static final String CONSORTIUM_ID = "consortium";
+  private static final String CENTRAL_TENANT_ID = "consortium";
+
+  @Mock
+  private ConsortiaClient consortiaClient;
+  @Mock
+  private ConsortiaConfigurationClient consortiaConfigurationClient;
+  @Mock
+  private UserTenantsService userTenantsService;
+  @Mock
+  private ConsortiumService consortiumService;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private ConsortiumCacheProperties cacheProperties;
+  private ConsortiaService consortiaService;
+
+  @BeforeEach
+  void setUp() {
+    cacheProperties = new ConsortiumCacheProperties();
+    var cacheManager = new CacheConfiguration()
+      .cacheManager(new ReferenceDataCacheProperties(), cacheProperties,
+        new TenantContextCacheProperties(), new TlrSettingsCacheProperties(),
+        new CloneRegistryProperties(), new StaffSlipsProperties());
+    consortiaService = new ConsortiaServiceImpl(consortiaClient, consortiaConfigurationClient,
+      userTenantsService, consortiumService, folioContext, cacheManager, cacheProperties);
+
+    when(folioContext.getTenantId()).thenReturn("college");
+    when(consortiumService.getCurrentConsortiumId()).thenReturn(CONSORTIUM_ID);
+    when(consortiaClient.getConsortiaTenants(CONSORTIUM_ID)).thenReturn(new TenantCollection()
+      .tenants(List.of(new Tenant().id("consortium"), new Tenant().id("college"))));
+    when(consortiaConfigurationClient.getConfiguration())
+      .thenReturn(new ConsortiaConfiguration().centralTenantId(CENTRAL_TENANT_ID));
+  }
+
+  @Test
+  void consortiumTenantsAreCached() {
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getAllConsortiumTenants(CONSORTIUM_ID);
+
+    verify(consortiaClient, times(1)).getConsortiaTenants(CONSORTIUM_ID);
+  }
+
+  @Test
+  void emptyConsortiumTenantsAreNotCached() {
+    when(consortiaClient.getConsortiaTenants(CONSORTIUM_ID))
+      .thenReturn(new TenantCollection().tenants(List.of()).totalRecords(0));
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getAllConsortiumTenants();
+
+    verify(consortiaClient, times(2)).getConsortiaTenants(CONSORTIUM_ID);
+  }
+
+  @Test
+  void cachedConsortiumTenantsAreNotSharedWithCallers() {
+    consortiaService.getAllConsortiumTenants(CONSORTIUM_ID).getTenants()
+      .forEach(tenant -> tenant.id("changed"));
+
+    assertThat(consortiaService.getAllConsortiumTenants().stream().map(Tenant::getId).toList(),
+      contains("consortium", "college"));
+  }
+
+  @Test
+  void centralTenantIdIsCached() {
+    consortiaService.getCentralTenantId();
+    String centralTenantId = consortiaService.getCentralTenantId();
+
+    assertThat(centralTenantId, is(CENTRAL_TENANT_ID));
+    verify(consortiaConfigurationClient, times(1)).getConfiguration();
+  }
+
+  @Test
+  void centralTenantIdIsTakenFromTenantContextWhenAvailable() {
+    when(consortiumService.getCentralTenantId()).thenReturn("central");
+
+    assertThat(consortiaService.getCentralTenantId(), is("central"));
+    verify(consortiaConfigurationClient, never()).getConfiguration();
+  }
+
+  @Test
+  void nothingIsCachedWhenCacheIsDisabled() {
+    cacheProperties.setEnabled(false);
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getCentralTenantId();
+    consortiaService.getCentralTenantId();
+
+    verify(consortiaClient, times(2)).getConsortiaTenants(CONSORTIUM_ID);
+    verify(consortiaConfigurationClient, times(2)).getConfiguration();
+  }
+
+  @Test
+  void refreshEvictsCachedValues() {
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getCentralTenantId();
+    consortiaService.refreshCache();
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getCentralTenantId();
+
+    verify(consortiaClient, times(2)).getConsortiaTenants(CONSORTIUM_ID);
+    verify(consortiaConfigurationClient, times(2)).getConfiguration();
+  }
+
+  @Test
+  void cacheStateContainsCachedValues() {
+    consortiaService.getAllConsortiumTenants();
+    consortiaService.getCentralTenantId();
+
+    ConsortiumCacheState state = consortiaService.getCacheState();
+    assertThat(state.tenantIdsByConsortiumId().get(CONSORTIUM_ID), contains("consortium", "college"));
+    assertThat(state.centralTenantIdByTenantId().get("college"), is(CENTRAL_TENANT_ID));
+
+    consortiaService.refreshCache();
+    assertThat(consortiaService.getCacheState().tenantIdsByConsortiumId(), anEmptyMap());
+  }
+}
@@ -5,11 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.folio.config.CacheConfiguration;
+import org.folio.config.CloneRegistryProperties;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.config.TlrSettingsCacheProperties;
 import org.folio.domain.dto.UserTenant;
 import org.folio.service.impl.ConsortiumServiceImpl;
 import org.folio.spring.FolioExecutionContext;
@@ -19,7 +32,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,13 +50,20 @@ class ConsortiumServiceTest {
   @Mock
   private FolioExecutionContext folioExecutionContext;
 
-  @InjectMocks
-  private ConsortiumServiceImpl consortiumService;
+  @Mock
+  private ParallelExecutionService parallelExecutionService;
 
+  private TenantContextCacheProperties cacheProperties;
+  private ConsortiumServiceImpl consortiumService;
 
   @BeforeEach
   void setUp() {
-    ConsortiumServiceImpl.clearCache();
+    cacheProperties = new TenantContextCacheProperties();
+    var cacheManager = new CacheConfiguration().cacheManager(new ReferenceDataCacheProperties(),
+      new ConsortiumCacheProperties(), cacheProperties, new TlrSettingsCacheProperties(),
+      new CloneRegistryProperties(), new StaffSlipsProperties());
+    consortiumService = new ConsortiumServiceImpl(userTenantsService, folioExecutionContext,
+      cacheManager, cacheProperties, parallelExecutionService);
   }
 
   @Test
@@ -88,38 +107,76 @@ class ConsortiumServiceTest {
   }
 
   @Test
-  void tenantContextIsNotCachedWhenUserTenantIsNotFound() {
+  void negativeResultIsCachedWhenUserTenantIsNotFound() {
+    mockFolioExecutionContext(CENTRAL_TENANT_ID);
+    mockUserTenant(null);
+    consortiumService.getCentralTenantId();
+    consortiumService.getCentralTenantId();
+    verify(userTenantsService, times(1)).findFirstUserTenant();
+  }
+
+  @Test
+  void negativeResultExpiresAfterNegativeTtl() {
+    cacheProperties.setNegativeTtl(Duration.ZERO);
     mockFolioExecutionContext(CENTRAL_TENANT_ID);
     mockUserTenant(null);
     consortiumService.getCentralTenantId();
+
+    mockUserTenant(MOCK_USER_TENANT);
+    assertEquals(CENTRAL_TENANT_ID, consortiumService.getCentralTenantId());
+    verify(userTenantsService, times(2)).findFirstUserTenant();
+  }
+
+  @Test
+  void tenantContextIsRefreshedInBackgroundWhenDueForRefresh() {
+    cacheProperties.setRefreshAfter(Duration.ZERO);
+    mockFolioExecutionContext("tenant1");
+    mockUserTenant(MOCK_USER_TENANT);
+    when(parallelExecutionService.supplyDetached(any())).thenAnswer(invocation ->
+      CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+
     consortiumService.getCentralTenantId();
+    assertEquals(CENTRAL_TENANT_ID, consortiumService.getCentralTenantId());
+
+    verify(parallelExecutionService, times(1)).supplyDetached(any());
     verify(userTenantsService, times(2)).findFirstUserTenant();
   }
 
+  @Test
+  void tenantContextIsNotRefreshedBeforeRefreshAfterPasses() {
+    mockFolioExecutionContext("tenant1");
+    mockUserTenant(MOCK_USER_TENANT);
+
+    consortiumService.getCentralTenantId();
+    consortiumService.getCentralTenantId();
+
+    verify(parallelExecutionService, never()).supplyDetached(any());
+  }
+
   @ParameterizedTest
   @EmptySource
   @NullSource
-  void tenantContextIsNotCachedWhenConsortiumIdInUserTenantIsNullOrEmpty(String consortiumId) {
+  void negativeResultIsCachedWhenConsortiumIdInUserTenantIsNullOrEmpty(String consortiumId) {
     mockFolioExecutionContext(CENTRAL_TENANT_ID);
     mockUserTenant(new UserTenant()
       .centralTenantId(CENTRAL_TENANT_ID)
       .consortiumId(consortiumId));
     consortiumService.getCentralTenantId();
     consortiumService.getCentralTenantId();
-    verify(userTenantsService, times(2)).findFirstUserTenant();
+    verify(userTenantsService, times(1)).findFirstUserTenant();
   }
 
   @ParameterizedTest
   @EmptySource
   @NullSource
-  void tenantContextIsNotCachedWhenCentralTenantIdInUserTenantIsNullOrEmpty(String centralTenantId) {
+  void negativeResultIsCachedWhenCentralTenantIdInUserTenantIsNullOrEmpty(String centralTenantId) {
     mockFolioExecutionContext(CENTRAL_TENANT_ID);
     mockUserTenant(new UserTenant()
       .centralTenantId(centralTenantId)
       .consortiumId(CONSORTIUM_ID));
     consortiumService.getCentralTenantId();
     consortiumService.getCentralTenantId();
-    verify(userTenantsService, times(2)).findFirstUserTenant();
+    verify(userTenantsService, times(1)).findFirstUserTenant();
   }
 
   @Test
@@ -1,6 +1,9 @@
 package org.folio.service;
 
 import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,6 +18,7 @@ import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -95,6 +99,32 @@ class DcbServiceTest {
       .changeDcbTransactionStatus(transactionId, newTransactionStatus);
   }
 
+  @Test
+  void failureToCancelTransactionIsNotSwallowed() {
+    String transactionId = randomUUID().toString();
+    TransactionStatus cancelled = new TransactionStatus()
+      .status(TransactionStatus.StatusEnum.CANCELLED);
+    when(dcbTransactionClient.getDcbTransactionStatus(transactionId))
+      .thenReturn(buildTransactionStatusResponse("LENDER", "OPEN"));
+    when(dcbTransactionClient.changeDcbTransactionStatus(transactionId, cancelled))
+      .thenThrow(new IllegalStateException("DCB is not available"));
+
+    UUID id = UUID.fromString(transactionId);
+    assertThrows(IllegalStateException.class,
+      () -> dcbService.cancelTransaction(id, "test_tenant"));
+  }
+
+  @Test
+  void cancelledTransactionIsNotCancelledAgain() {
+    String transactionId = randomUUID().toString();
+    when(dcbTransactionClient.getDcbTransactionStatus(transactionId))
+      .thenReturn(buildTransactionStatusResponse("LENDER", "CANCELLED"));
+
+    dcbService.cancelTransaction(UUID.fromString(transactionId), "test_tenant");
+
+    verify(dcbTransactionClient, never()).changeDcbTransactionStatus(any(), any());
+  }
+
   private static TransactionStatusResponse buildTransactionStatusResponse(String role, String status) {
     return new TransactionStatusResponse()
       .role(TransactionStatusResponse.RoleEnum.fromValue(role))
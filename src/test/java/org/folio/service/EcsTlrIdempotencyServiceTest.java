@@ -0,0 +1,258 @@
+package org.folio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.config.IdempotencyKeyProperties;
+import org.folio.domain.IdempotentEcsTlrCreation;
+import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.entity.EcsTlrIdempotencyKeyEntity;
+import org.folio.exception.ConflictException;
+import org.folio.exception.ValidationException;
+import org.folio.repository.EcsTlrIdempotencyKeyRepository;
+import org.folio.service.impl.EcsTlrIdempotencyServiceImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EcsTlrIdempotencyServiceTest {
+
+  private static final String KEY = "2d0fd0ad-0cf6-4e4c-9aa2-28bd6b0e1b47";
+  private static final EcsTlr REQUEST = new EcsTlr().instanceId(UUID.randomUUID().toString());
+
+  @Mock
+  private EcsTlrIdempotencyKeyRepository idempotencyKeyRepository;
+  @Mock
+  private EcsTlrService ecsTlrService;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private IdempotencyKeyProperties properties;
+  private EcsTlrIdempotencyService idempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new IdempotencyKeyProperties();
+    properties.setPollInterval(Duration.ofMillis(1));
+    idempotencyService = new EcsTlrIdempotencyServiceImpl(idempotencyKeyRepository,
+      ecsTlrService, properties, folioContext, new ObjectMapper());
+    when(folioContext.getTenantId()).thenReturn("consortium");
+  }
+
+  @Test
+  void ecsTlrIsCreatedAndKeyIsCompletedWhenKeyIsNew() {
+    EcsTlr ecsTlr = new EcsTlr().id(UUID.randomUUID().toString());
+    EcsTlrIdempotencyKeyEntity key = buildKey("In progress", null);
+    when(idempotencyKeyRepository.insertIfAbsent(eq(KEY), eq("In progress"), eq(false), any(),
+      any()))
+      .thenReturn(1);
+    when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(key));
+
+    IdempotentEcsTlrCreation creation = idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> ecsTlr);
+
+    assertEquals(ecsTlr, creation.ecsTlr());
+    assertFalse(creation.replayed());
+    assertEquals("Completed", key.getStatus());
+    assertEquals(ecsTlr.getId(), key.getEcsTlrId().toString());
+    verify(idempotencyKeyRepository).save(key);
+  }
+
+  @Test
+  void storedEcsTlrIsReturnedWhenKeyIsCompleted() {
+    UUID ecsTlrId = UUID.randomUUID();
+    EcsTlr ecsTlr = new EcsTlr().id(ecsTlrId.toString());
+    EcsTlrIdempotencyKeyEntity key = buildKey("Completed", ecsTlrId);
+    key.setAsync(true);
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(key));
+    when(ecsTlrService.get(ecsTlrId)).thenReturn(Optional.of(ecsTlr));
+    AtomicInteger creations = new AtomicInteger();
+
+    IdempotentEcsTlrCreation creation = idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> {
+      creations.incrementAndGet();
+      return new EcsTlr();
+    });
+
+    assertEquals(ecsTlr, creation.ecsTlr());
+    assertTrue(creation.async());
+    assertTrue(creation.replayed());
+    assertEquals(0, creations.get());
+  }
+
+  @Test
+  void inFlightCreationIsAwaited() {
+    UUID ecsTlrId = UUID.randomUUID();
+    EcsTlr ecsTlr = new EcsTlr().id(ecsTlrId.toString());
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY))
+      .thenReturn(Optional.of(buildKey("In progress", null)))
+      .thenReturn(Optional.of(buildKey("In progress", null)))
+      .thenReturn(Optional.of(buildKey("Completed", ecsTlrId)));
+    when(ecsTlrService.get(ecsTlrId)).thenReturn(Optional.of(ecsTlr));
+
+    IdempotentEcsTlrCreation creation = idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> new EcsTlr());
+
+    assertEquals(ecsTlr, creation.ecsTlr());
+    assertTrue(creation.replayed());
+    verify(idempotencyKeyRepository, times(3)).findById(KEY);
+  }
+
+  @Test
+  void conflictIsReportedWhenInFlightCreationDoesNotCompleteInTime() {
+    properties.setWaitTimeout(Duration.ZERO);
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY))
+      .thenReturn(Optional.of(buildKey("In progress", null)));
+
+    assertThrows(ConflictException.class,
+      () -> idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> new EcsTlr()));
+  }
+
+  @Test
+  void keyIsReleasedWhenCreationFails() {
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(1);
+
+    assertThrows(IllegalStateException.class, () -> idempotencyService.create(KEY, false,
+      REQUEST, onPlacement -> { throw new IllegalStateException("failed"); }));
+    verify(idempotencyKeyRepository).deleteById(KEY);
+    verify(idempotencyKeyRepository, never()).save(any());
+  }
+
+  @Test
+  void keyIsKeptAsFailedWhenCreationFailsAfterPlacement() {
+    EcsTlrIdempotencyKeyEntity key = buildKey("In progress", null);
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(1);
+    when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(key));
+
+    assertThrows(IllegalStateException.class, () -> idempotencyService.create(KEY, false,
+      REQUEST, onPlacement -> {
+        onPlacement.run();
+        throw new IllegalStateException("failed");
+      }));
+    assertEquals("Failed", key.getStatus());
+    verify(idempotencyKeyRepository).save(key);
+    verify(idempotencyKeyRepository, never()).deleteById(any());
+  }
+
+  @Test
+  void conflictIsReportedWhenKeyFailedAfterPlacement() {
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY))
+      .thenReturn(Optional.of(buildKey("Failed", null)));
+
+    assertThrows(ConflictException.class, () -> idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> new EcsTlr()));
+  }
+
+  @Test
+  void keyUsedWithDifferentRequestIsRejected() {
+    EcsTlrIdempotencyKeyEntity key = buildKey("Completed", UUID.randomUUID());
+    key.setRequestHash("hash of another request");
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(key));
+
+    assertThrows(ValidationException.class, () -> idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> new EcsTlr()));
+    verify(ecsTlrService, never()).get(any());
+  }
+
+  @Test
+  void keyInProgressIsNotTakenOverByRepeatedRequest() {
+    properties.setWaitTimeout(Duration.ofMillis(20));
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(0);
+    when(idempotencyKeyRepository.findById(KEY))
+      .thenReturn(Optional.of(buildKey("In progress", null)));
+    AtomicInteger creations = new AtomicInteger();
+
+    assertThrows(ConflictException.class, () -> idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> {
+        creations.incrementAndGet();
+        return new EcsTlr();
+      }));
+    assertEquals(0, creations.get());
+  }
+
+  @Test
+  void keyIsMarkedFailedWhenItCanNotBeCompleted() {
+    EcsTlr ecsTlr = new EcsTlr().id(UUID.randomUUID().toString());
+    EcsTlrIdempotencyKeyEntity key = buildKey("In progress", null);
+    when(idempotencyKeyRepository.insertIfAbsent(any(), any(), anyBoolean(), any(), any()))
+      .thenReturn(1);
+    when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(key));
+    when(idempotencyKeyRepository.save(key))
+      .thenThrow(new IllegalStateException("database is not available"))
+      .thenReturn(key);
+
+    IdempotentEcsTlrCreation creation = idempotencyService.create(KEY, false, REQUEST,
+      onPlacement -> ecsTlr);
+
+    assertEquals(ecsTlr, creation.ecsTlr());
+    assertEquals("Failed", key.getStatus());
+    verify(idempotencyKeyRepository, times(2)).save(key);
+    verify(idempotencyKeyRepository, never()).deleteById(any());
+  }
+
+  @Test
+  void tooLongKeyIsRejected() {
+    String key = "k".repeat(256);
+
+    assertThrows(ValidationException.class,
+      () -> idempotencyService.create(key, false, REQUEST,
+        onPlacement -> new EcsTlr()));
+    verify(idempotencyKeyRepository, never())
+      .insertIfAbsent(any(), any(), anyBoolean(), any(), any());
+  }
+
+  @Test
+  void expiredKeysAreDeletedOncePerCleanupInterval() {
+    idempotencyService.deleteExpiredKeys();
+    idempotencyService.deleteExpiredKeys();
+    when(folioContext.getTenantId()).thenReturn("college");
+    idempotencyService.deleteExpiredKeys();
+
+    verify(idempotencyKeyRepository, times(2)).deleteByCreatedDateBefore(any());
+  }
+
+  private static EcsTlrIdempotencyKeyEntity buildKey(String status, UUID ecsTlrId) {
+    return EcsTlrIdempotencyKeyEntity.builder()
+      .idempotencyKey(KEY)
+      .status(status)
+      .ecsTlrId(ecsTlrId)
+      .build();
+  }
+}
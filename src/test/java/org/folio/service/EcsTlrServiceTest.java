@@ -1,6 +1,9 @@
 package org.folio.service;
 
 import static java.util.Collections.emptyList;
+import static org.folio.domain.type.ErrorCode.ECS_REQUEST_CANNOT_BE_PLACED_FOR_INACTIVE_PATRON;
+import static org.folio.domain.type.ErrorCode.PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE;
+import static org.folio.util.TestUtils.mockParallelExecutionService;
 import static org.folio.util.TestUtils.randomId;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -8,27 +11,42 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import org.folio.config.EcsTlrCreationProperties;
+import org.folio.domain.CachedTlrSettings;
 import org.folio.domain.RequestWrapper;
 import org.folio.domain.dto.EcsTlr;
+import org.folio.domain.dto.EcsTlrBatchResult;
+import org.folio.domain.dto.EcsTlrCreationStatus;
 import org.folio.domain.dto.Request;
 import org.folio.domain.dto.TlrSettings;
 import org.folio.domain.entity.EcsTlrEntity;
 import org.folio.domain.mapper.EcsTlrMapper;
 import org.folio.domain.mapper.EcsTlrMapperImpl;
 import org.folio.exception.TenantPickingException;
+import org.folio.exception.ValidationException;
 import org.folio.repository.EcsTlrRepository;
 import org.folio.service.impl.EcsTlrServiceImpl;
 import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -59,8 +77,19 @@ class EcsTlrServiceTest {
   private ConsortiumService consortiumService;
   @Mock
   private TlrSettingsService tlrSettingsService;
+  @Mock
+  private ParallelExecutionService parallelExecutionService;
+  @Mock
+  private ExecutorService ecsTlrCreationExecutor;
   @Spy
   private final EcsTlrMapper ecsTlrMapper = new EcsTlrMapperImpl();
+  @Spy
+  private final EcsTlrCreationProperties creationProperties = new EcsTlrCreationProperties();
+
+  @BeforeEach
+  void setUp() {
+    mockParallelExecutionService(parallelExecutionService);
+  }
 
   @Test
   void getById() {
@@ -118,6 +147,7 @@ class EcsTlrServiceTest {
       .thenReturn(borrowingTenant);
     when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
       .thenReturn(List.of(lendingTenant));
+    when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(null));
     when(requestService.createPrimaryRequest(any(Request.class), any(String.class), any(String.class)))
       .thenReturn(new RequestWrapper(primaryRequest, borrowingTenant));
     when(requestService.createSecondaryRequest(any(Request.class), any(String.class), any()))
@@ -172,6 +202,278 @@ class EcsTlrServiceTest {
     assertEquals("Failed to find secondary request tenants for instance " + instanceId, exception.getMessage());
   }
 
+  @Test
+  void canNotCreateEcsTlrForInactiveRequester() {
+    String requesterId = randomId();
+    EcsTlr ecsTlr = new EcsTlr()
+      .instanceId(randomId())
+      .requesterId(requesterId);
+    when(tenantService.getPrimaryRequestTenantId(any(EcsTlrEntity.class)))
+      .thenReturn("borrowing_tenant");
+    when(userService.isInactiveInTenant(requesterId, "borrowing_tenant"))
+      .thenReturn(true);
+    lenient().when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
+      .thenReturn(List.of("lending_tenant"));
+    lenient().when(tlrSettingsService.getCachedTlrSettings())
+      .thenReturn(CachedTlrSettings.of(null));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+      () -> ecsTlrService.create(ecsTlr));
+
+    assertEquals(ECS_REQUEST_CANNOT_BE_PLACED_FOR_INACTIVE_PATRON, exception.getCode());
+    verify(requestService, never()).createSecondaryRequest(any(Request.class), any(String.class),
+      any());
+  }
+
+  @Test
+  void inactiveRequesterIsReportedBeforeOtherValidationFailures() {
+    String requesterId = randomId();
+    EcsTlr ecsTlr = new EcsTlr()
+      .instanceId(randomId())
+      .requesterId(requesterId);
+    when(tenantService.getPrimaryRequestTenantId(any(EcsTlrEntity.class)))
+      .thenReturn("borrowing_tenant");
+    when(userService.isInactiveInTenant(requesterId, "borrowing_tenant"))
+      .thenReturn(true);
+    lenient().when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
+      .thenReturn(emptyList());
+    lenient().when(tlrSettingsService.getCachedTlrSettings())
+      .thenThrow(new IllegalStateException("settings are not available"));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+      () -> ecsTlrService.create(ecsTlr));
+
+    assertEquals(ECS_REQUEST_CANNOT_BE_PLACED_FOR_INACTIVE_PATRON, exception.getCode());
+  }
+
+  @Test
+  void ecsTlrShouldBeCreatedAsynchronously() {
+    AtomicReference<EcsTlrEntity> storedEcsTlr = mockEcsTlrStorage();
+    mockTenants("consortium", "consortium", "university");
+    when(requestService.createSecondaryRequest(any(Request.class), eq("consortium"),
+      eq(List.of("university"))))
+      .thenAnswer(invocation -> new RequestWrapper(
+        invocation.<Request>getArgument(0).itemId(randomId()), "university"));
+    when(requestService.createPrimaryRequest(any(Request.class), eq("consortium"),
+      eq("university")))
+      .thenAnswer(invocation -> new RequestWrapper(invocation.getArgument(0), "consortium"));
+
+    EcsTlr acceptedEcsTlr = ecsTlrService.createAsync(buildEcsTlr());
+
+    EcsTlrEntity ecsTlr = storedEcsTlr.get();
+    assertEquals(ecsTlr.getId().toString(), acceptedEcsTlr.getId());
+    assertEquals(ecsTlr.getId(), ecsTlr.getSecondaryRequestId());
+    assertEquals(ecsTlr.getId(), ecsTlr.getPrimaryRequestId());
+    verify(parallelExecutionService).supplyDetached(any(), eq(ecsTlrCreationExecutor));
+    verify(dcbService).createLendingTransaction(ecsTlr);
+    verify(dcbService).createBorrowingPickupTransaction(eq(ecsTlr), any(Request.class));
+
+    EcsTlrCreationStatus status = ecsTlrService.getCreationStatus(ecsTlr.getId()).orElseThrow();
+    assertEquals(EcsTlrCreationStatus.StatusEnum.COMPLETED, status.getStatus());
+    assertEquals("COMPLETED", status.getStep());
+  }
+
+  @Test
+  void failedStepOfAsynchronousCreationShouldBeCompensated() {
+    AtomicReference<EcsTlrEntity> storedEcsTlr = mockEcsTlrStorage();
+    mockTenants("college", "consortium", "university");
+    when(requestService.createSecondaryRequest(any(Request.class), eq("college"),
+      eq(List.of("university"))))
+      .thenAnswer(invocation -> new RequestWrapper(invocation.getArgument(0), "university"));
+    when(requestService.createPrimaryRequest(any(Request.class), eq("college"), eq("university")))
+      .thenThrow(new IllegalStateException("Failed to create primary request"));
+    Request secondaryRequest = new Request().status(Request.StatusEnum.OPEN_NOT_YET_FILLED);
+    lenient().when(requestService.getRequestFromStorage(any(String.class), eq("university")))
+      .thenReturn(null)
+      .thenReturn(secondaryRequest);
+
+    ecsTlrService.createAsync(buildEcsTlr());
+
+    UUID ecsTlrId = storedEcsTlr.get().getId();
+    verify(requestService).updateRequestInCirculation(argThat(request ->
+      request.getStatus() == Request.StatusEnum.CLOSED_CANCELLED), eq("university"));
+    verify(dcbService, never()).createLendingTransaction(any(EcsTlrEntity.class));
+
+    EcsTlrCreationStatus status = ecsTlrService.getCreationStatus(ecsTlrId).orElseThrow();
+    assertEquals(EcsTlrCreationStatus.StatusEnum.FAILED, status.getStatus());
+    assertEquals("Failed to create primary request", status.getError());
+    assertEquals(List.of("secondary-request-cancelled"), status.getCompensations());
+    assertEquals(Request.StatusEnum.CLOSED_CANCELLED.getValue(),
+      storedEcsTlr.get().getPrimaryRequestStatus());
+  }
+
+  @Test
+  void transactionsCreatedBeforeFailedStepShouldBeCancelled() {
+    AtomicReference<EcsTlrEntity> storedEcsTlr = mockEcsTlrStorage();
+    mockTenants("consortium", "consortium", "university");
+    when(requestService.createSecondaryRequest(any(Request.class), eq("consortium"),
+      eq(List.of("university"))))
+      .thenAnswer(invocation -> new RequestWrapper(
+        invocation.<Request>getArgument(0).itemId(randomId()), "university"));
+    when(requestService.createPrimaryRequest(any(Request.class), eq("consortium"),
+      eq("university")))
+      .thenAnswer(invocation -> new RequestWrapper(invocation.getArgument(0), "consortium"));
+    UUID lendingTransactionId = UUID.randomUUID();
+    doAnswer(invocation -> {
+      invocation.<EcsTlrEntity>getArgument(0)
+        .setSecondaryRequestDcbTransactionId(lendingTransactionId);
+      return null;
+    }).when(dcbService).createLendingTransaction(any(EcsTlrEntity.class));
+    doThrow(new IllegalStateException("Failed to create transaction"))
+      .when(dcbService).createBorrowingPickupTransaction(any(EcsTlrEntity.class),
+        any(Request.class));
+
+    ecsTlrService.createAsync(buildEcsTlr());
+
+    verify(dcbService).cancelTransaction(lendingTransactionId, "university");
+    EcsTlrCreationStatus status = ecsTlrService.getCreationStatus(storedEcsTlr.get().getId())
+      .orElseThrow();
+    assertEquals(EcsTlrCreationStatus.StatusEnum.FAILED, status.getStatus());
+    assertEquals(List.of("secondary-transaction-cancelled"), status.getCompensations());
+  }
+
+  @Test
+  void requestCreatedByEarlierRunIsNotCreatedAgain() {
+    AtomicReference<EcsTlrEntity> storedEcsTlr = mockEcsTlrStorage();
+    mockTenants("consortium", "consortium", "university");
+    when(requestService.getRequestFromStorage(any(String.class), eq("university")))
+      .thenAnswer(invocation -> new Request()
+        .id(invocation.getArgument(0))
+        .status(Request.StatusEnum.OPEN_NOT_YET_FILLED));
+    when(requestService.createPrimaryRequest(any(Request.class), eq("consortium"),
+      eq("university")))
+      .thenAnswer(invocation -> new RequestWrapper(invocation.getArgument(0), "consortium"));
+
+    ecsTlrService.createAsync(buildEcsTlr());
+
+    assertEquals("university", storedEcsTlr.get().getSecondaryRequestTenantId());
+    verify(requestService, never()).createSecondaryRequest(any(Request.class), any(String.class),
+      any());
+  }
+
+  @Test
+  void creationClaimedByAnotherWorkerIsNotRun() {
+    mockEcsTlrStorage();
+    when(tenantService.getPrimaryRequestTenantId(any(EcsTlrEntity.class)))
+      .thenReturn("consortium");
+    when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
+      .thenReturn(List.of("university"));
+    when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(null));
+    when(ecsTlrRepository.claimCreation(any(UUID.class), any(String.class), any(Date.class),
+      any(Date.class)))
+      .thenReturn(0);
+
+    ecsTlrService.createAsync(buildEcsTlr());
+
+    verify(requestService, never()).createSecondaryRequest(any(Request.class), any(String.class),
+      any());
+    verify(requestService, never()).getRequestFromStorage(any(String.class), any(String.class));
+  }
+
+  @Test
+  void batchOfEcsTlrsIsCreatedWithSharedLookups() {
+    mockEcsTlrStorage();
+    mockTenants("consortium", "consortium", "university");
+    String activeRequesterId = randomId();
+    String inactiveRequesterId = randomId();
+    String instanceId = randomId();
+    when(userService.findInactiveInTenant(any(), eq("consortium")))
+      .thenReturn(Set.of(inactiveRequesterId));
+    when(requestService.createSecondaryRequest(any(Request.class), eq("consortium"),
+      eq(List.of("university"))))
+      .thenAnswer(invocation -> new RequestWrapper(
+        invocation.<Request>getArgument(0).id(randomId()), "university"));
+    when(requestService.createPrimaryRequest(any(Request.class), eq("consortium"),
+      eq("university")))
+      .thenAnswer(invocation -> new RequestWrapper(invocation.getArgument(0), "consortium"));
+
+    List<EcsTlrBatchResult> results = ecsTlrService.createBatch(List.of(
+      buildEcsTlr().requesterId(activeRequesterId).instanceId(instanceId),
+      buildEcsTlr().requesterId(inactiveRequesterId).instanceId(instanceId),
+      buildEcsTlr().requesterId(activeRequesterId).instanceId(instanceId)));
+
+    assertEquals(3, results.size());
+    assertEquals(EcsTlrBatchResult.StatusEnum.CREATED, results.get(0).getStatus());
+    assertEquals(instanceId, results.get(0).getEcsTlr().getInstanceId());
+    assertEquals(EcsTlrBatchResult.StatusEnum.FAILED, results.get(1).getStatus());
+    assertEquals(ECS_REQUEST_CANNOT_BE_PLACED_FOR_INACTIVE_PATRON.getValue(),
+      results.get(1).getError().getCode());
+    assertEquals(EcsTlrBatchResult.StatusEnum.FAILED, results.get(2).getStatus());
+    assertEquals(PATRON_HAS_OPEN_ECS_TLR_FOR_THE_SAME_TITLE.getValue(),
+      results.get(2).getError().getCode());
+    verify(tenantService).getSecondaryRequestTenants(any(EcsTlrEntity.class));
+    verify(tenantService, times(3)).getPrimaryRequestTenantId(any(EcsTlrEntity.class));
+    verify(userService).findInactiveInTenant(any(), eq("consortium"));
+    verify(userService, never()).isInactiveInTenant(any(), any());
+    verify(requestService).createSecondaryRequest(any(Request.class), any(String.class), any());
+  }
+
+  @Test
+  void batchItemWhosePlacementDidNotStartInTimeFails() {
+    creationProperties.setBatchTimeout(Duration.ZERO);
+    when(tenantService.getPrimaryRequestTenantId(any(EcsTlrEntity.class)))
+      .thenReturn("consortium");
+    when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
+      .thenReturn(List.of("university"));
+    when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(null));
+
+    List<EcsTlrBatchResult> results = ecsTlrService.createBatch(List.of(buildEcsTlr()));
+
+    assertEquals(EcsTlrBatchResult.StatusEnum.FAILED, results.get(0).getStatus());
+    verify(requestService, never()).createSecondaryRequest(any(Request.class), any(String.class),
+      any());
+  }
+
+  @Test
+  void batchExceedingMaxSizeIsRejected() {
+    creationProperties.setBatchMaxSize(1);
+
+    assertThrows(ValidationException.class,
+      () -> ecsTlrService.createBatch(List.of(buildEcsTlr(), buildEcsTlr())));
+    verify(requestService, never()).createSecondaryRequest(any(Request.class), any(String.class),
+      any());
+  }
+
+  private AtomicReference<EcsTlrEntity> mockEcsTlrStorage() {
+    AtomicReference<EcsTlrEntity> storedEcsTlr = new AtomicReference<>();
+    when(ecsTlrRepository.save(any(EcsTlrEntity.class))).thenAnswer(invocation -> {
+      EcsTlrEntity ecsTlr = invocation.getArgument(0);
+      if (ecsTlr.getId() == null) {
+        ecsTlr.setId(UUID.randomUUID());
+      }
+      storedEcsTlr.set(ecsTlr);
+      return ecsTlr;
+    });
+    lenient().when(ecsTlrRepository.findById(any(UUID.class)))
+      .thenAnswer(invocation -> Optional.ofNullable(storedEcsTlr.get()));
+    lenient().when(ecsTlrRepository.claimCreation(any(UUID.class), any(String.class),
+      any(Date.class), any(Date.class)))
+      .thenReturn(1);
+
+    return storedEcsTlr;
+  }
+
+  private void mockTenants(String primaryRequestTenantId, String centralTenantId,
+    String secondaryRequestTenantId) {
+
+    when(tenantService.getPrimaryRequestTenantId(any(EcsTlrEntity.class)))
+      .thenReturn(primaryRequestTenantId);
+    when(tenantService.getSecondaryRequestTenants(any(EcsTlrEntity.class)))
+      .thenReturn(List.of(secondaryRequestTenantId));
+    when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(null));
+    when(consortiumService.getCentralTenantId()).thenReturn(centralTenantId);
+  }
+
+  private static EcsTlr buildEcsTlr() {
+    return new EcsTlr()
+      .instanceId(randomId())
+      .requesterId(randomId())
+      .requestType(EcsTlr.RequestTypeEnum.PAGE)
+      .requestLevel(EcsTlr.RequestLevelEnum.TITLE)
+      .fulfillmentPreference(EcsTlr.FulfillmentPreferenceEnum.HOLD_SHELF)
+      .pickupServicePointId(randomId());
+  }
+
   @ParameterizedTest
   @MethodSource("excludeTenantsCases")
   void shouldExcludeTenantsBasedOnTlrSettings(List<String> excludeSetting, List<String> allTenants,
@@ -216,9 +518,10 @@ class EcsTlrServiceTest {
     Request secondaryRequest = new Request().id(randomId()).itemId(randomId());
 
     if (excludeSetting != null) {
-      when(tlrSettingsService.getTlrSettings()).thenReturn(Optional.of(new TlrSettings().excludeFromEcsRequestLendingTenantSearch(excludeSetting)));
+      when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(
+        new TlrSettings().excludeFromEcsRequestLendingTenantSearch(excludeSetting)));
     } else {
-      when(tlrSettingsService.getTlrSettings()).thenReturn(Optional.empty());
+      when(tlrSettingsService.getCachedTlrSettings()).thenReturn(CachedTlrSettings.of(null));
     }
 
     lenient().when(consortiumService.getCentralTenantId()).thenReturn(consortiumTenant);
@@ -0,0 +1,236 @@
+package org.folio.service;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.domain.dto.ItemStatus.NameEnum.AVAILABLE;
+import static org.folio.domain.dto.ItemStatus.NameEnum.PAGED;
+import static org.folio.domain.dto.Request.RequestLevelEnum.TITLE;
+import static org.folio.domain.dto.Request.RequestTypeEnum.HOLD;
+import static org.folio.domain.dto.Request.RequestTypeEnum.PAGE;
+import static org.folio.domain.dto.Request.StatusEnum.CLOSED_CANCELLED;
+import static org.folio.domain.dto.Request.StatusEnum.OPEN_NOT_YET_FILLED;
+import static org.folio.support.kafka.DefaultKafkaEvent.DefaultKafkaEventType.CREATED;
+import static org.folio.support.kafka.DefaultKafkaEvent.DefaultKafkaEventType.DELETED;
+import static org.folio.support.kafka.DefaultKafkaEvent.DefaultKafkaEventType.UPDATED;
+import static org.folio.util.TestUtils.buildEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.MaterializedStaffSlips;
+import org.folio.domain.StaffSlipItemProjection;
+import org.folio.domain.dto.Item;
+import org.folio.domain.dto.ItemStatus;
+import org.folio.domain.dto.Location;
+import org.folio.domain.dto.Request;
+import org.folio.service.impl.MaterializedStaffSlipsServiceImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MaterializedStaffSlipsServiceTest {
+
+  private static final String CENTRAL_TENANT_ID = "consortium";
+  private static final String LENDING_TENANT_ID = "college";
+  private static final String SERVICE_POINT_ID = randomId();
+  private static final String SLIPS_TYPE = "PickSlipsService";
+
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private final StaffSlipsProperties properties = new StaffSlipsProperties();
+  private final Location location = new Location().id(randomId());
+  private MaterializedStaffSlipsService service;
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaterializedEnabled(true);
+    service = new MaterializedStaffSlipsServiceImpl(folioContext, properties);
+    when(folioContext.getTenantId()).thenReturn(CENTRAL_TENANT_ID);
+  }
+
+  @Test
+  void nothingIsFoundWhenDisabled() {
+    service.save(buildStaffSlips(List.of(), List.of()));
+    properties.setMaterializedEnabled(false);
+
+    assertThat(service.find(SERVICE_POINT_ID, SLIPS_TYPE).isPresent(), is(false));
+  }
+
+  @Test
+  void expiredStaffSlipsAreNotFound() {
+    service.save(buildStaffSlips(List.of(), List.of()));
+    properties.setMaterializedMaxAge(Duration.ZERO);
+
+    assertThat(service.find(SERVICE_POINT_ID, SLIPS_TYPE).isPresent(), is(false));
+  }
+
+  @Test
+  void staffSlipsAreFoundForCurrentTenantOnly() {
+    service.save(buildStaffSlips(List.of(), List.of()));
+
+    assertThat(service.find(SERVICE_POINT_ID, SLIPS_TYPE).isPresent(), is(true));
+    when(folioContext.getTenantId()).thenReturn(LENDING_TENANT_ID);
+    assertThat(service.find(SERVICE_POINT_ID, SLIPS_TYPE).isPresent(), is(false));
+  }
+
+  @Test
+  void requestForKnownItemIsAdded() {
+    Item item = buildItem(PAGED);
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of());
+    service.save(staffSlips);
+    Request request = buildRequest(item.getId());
+
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, CREATED, null, request));
+
+    assertThat(staffSlips.copyRequests(), contains(request));
+  }
+
+  @Test
+  void requestOfAnotherTenantIsIgnored() {
+    Item item = buildItem(PAGED);
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of());
+    service.save(staffSlips);
+
+    service.handleRequestEvent(buildEvent(LENDING_TENANT_ID, CREATED, null,
+      buildRequest(item.getId())));
+
+    assertThat(staffSlips.copyRequests(), empty());
+  }
+
+  @Test
+  void requestWhichIsNoLongerRelevantIsRemoved() {
+    Item item = buildItem(PAGED);
+    Request request = buildRequest(item.getId());
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of(request));
+    service.save(staffSlips);
+
+    Request closedRequest = buildRequest(item.getId())
+      .id(request.getId())
+      .status(CLOSED_CANCELLED);
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, UPDATED, request, closedRequest));
+
+    assertThat(staffSlips.copyRequests(), empty());
+  }
+
+  @Test
+  void deletedRequestIsRemoved() {
+    Item item = buildItem(PAGED);
+    Request request = buildRequest(item.getId());
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of(request));
+    service.save(staffSlips);
+
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, DELETED, request, null));
+
+    assertThat(staffSlips.copyRequests(), empty());
+  }
+
+  @Test
+  void requestForUnknownItemIsAddedOnceItemBecomesRelevant() {
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(), List.of());
+    service.save(staffSlips);
+    Item item = buildItem(PAGED);
+    Request request = buildRequest(item.getId());
+
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, CREATED, null, request));
+    assertThat(staffSlips.copyRequests(), empty());
+
+    service.handleItemEvent(buildEvent(LENDING_TENANT_ID, UPDATED, null, item));
+    assertThat(staffSlips.copyRequests(), contains(request));
+  }
+
+  @Test
+  void requestsForItemWhichIsNoLongerRelevantAreRemoved() {
+    Item item = buildItem(PAGED);
+    Request request = buildRequest(item.getId());
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of(request));
+    service.save(staffSlips);
+
+    Item availableItem = buildItem(AVAILABLE).id(item.getId());
+    service.handleItemEvent(buildEvent(LENDING_TENANT_ID, UPDATED, item, availableItem));
+
+    assertThat(staffSlips.copyRequests(), empty());
+    assertThat(staffSlips.copyItemsByTenant().get(LENDING_TENANT_ID), empty());
+  }
+
+  @Test
+  void unknownRequestWithoutItemMakesStaffSlipsStale() {
+    service.save(buildStaffSlips(List.of(), List.of()));
+    Request request = buildRequest(null)
+      .requestType(HOLD)
+      .requestLevel(TITLE);
+
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, CREATED, null, request));
+
+    assertThat(service.find(SERVICE_POINT_ID, SLIPS_TYPE).isPresent(), is(false));
+  }
+
+  @Test
+  void eventsConsumedDuringRebuildAreAppliedToRebuiltStaffSlips() {
+    Item item = buildItem(PAGED);
+    Request request = buildRequest(item.getId());
+    service.startRebuild(SERVICE_POINT_ID, SLIPS_TYPE);
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, CREATED, null, request));
+
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of());
+    service.save(staffSlips);
+    service.finishRebuild(SERVICE_POINT_ID, SLIPS_TYPE);
+
+    assertThat(staffSlips.copyRequests(), contains(request));
+  }
+
+  @Test
+  void eventsAreNotBufferedOnceRebuildIsFinished() {
+    Item item = buildItem(PAGED);
+    service.startRebuild(SERVICE_POINT_ID, SLIPS_TYPE);
+    service.finishRebuild(SERVICE_POINT_ID, SLIPS_TYPE);
+    service.handleRequestEvent(buildEvent(CENTRAL_TENANT_ID, CREATED, null,
+      buildRequest(item.getId())));
+
+    MaterializedStaffSlips staffSlips = buildStaffSlips(List.of(item), List.of());
+    service.save(staffSlips);
+
+    assertThat(staffSlips.copyRequests(), empty());
+  }
+
+  private MaterializedStaffSlips buildStaffSlips(List<Item> items, List<Request> requests) {
+    return new MaterializedStaffSlips(CENTRAL_TENANT_ID, SERVICE_POINT_ID, SLIPS_TYPE,
+      Set.of(PAGED.getValue()), Set.of(OPEN_NOT_YET_FILLED.getValue()),
+      Set.of(PAGE.getValue(), HOLD.getValue()), Map.of(LENDING_TENANT_ID, List.of(location)),
+      Map.of(LENDING_TENANT_ID, items.stream().map(StaffSlipItemProjection::from).toList()),
+      requests);
+  }
+
+  private Item buildItem(ItemStatus.NameEnum status) {
+    return new Item()
+      .id(randomId())
+      .status(new ItemStatus().name(status))
+      .effectiveLocationId(location.getId());
+  }
+
+  private static Request buildRequest(String itemId) {
+    return new Request()
+      .id(randomId())
+      .itemId(itemId)
+      .requestType(PAGE)
+      .status(OPEN_NOT_YET_FILLED);
+  }
+
+  private static String randomId() {
+    return randomUUID().toString();
+  }
+}
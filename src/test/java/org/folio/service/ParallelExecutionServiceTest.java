@@ -0,0 +1,236 @@
+package org.folio.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.folio.client.memo.ClientCallMemo;
+import org.folio.config.ParallelExecutionProperties;
+import org.folio.service.impl.ParallelExecutionServiceImpl;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import lombok.SneakyThrows;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ParallelExecutionServiceTest {
+
+  private static final int MAX_PARALLELISM = 3;
+
+  @Mock
+  private FolioExecutionContext folioContext;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+
+  private ParallelExecutionServiceImpl parallelExecutionService;
+
+  @BeforeEach
+  void setUp() {
+    ParallelExecutionProperties properties = new ParallelExecutionProperties();
+    properties.setMaxParallelism(MAX_PARALLELISM);
+    parallelExecutionService = new ParallelExecutionServiceImpl(folioContext, folioModuleMetadata,
+      properties);
+    Map<String, Collection<String>> headers = Map.of(XOkapiHeaders.TENANT, List.of("test_tenant"));
+    when(folioContext.getAllHeaders()).thenReturn(headers);
+  }
+
+  @AfterEach
+  void tearDown() {
+    parallelExecutionService.shutdown();
+  }
+
+  @Test
+  void resultsAreReturnedInOrderOfInputs() {
+    List<Integer> inputs = IntStream.range(0, 20).boxed().toList();
+    List<Integer> results = parallelExecutionService.mapInParallel(inputs, input -> {
+      sleep(20 - input);
+      return input * 2;
+    });
+
+    assertThat(results, contains(IntStream.range(0, 20).map(i -> i * 2).boxed().toArray()));
+  }
+
+  @Test
+  void parallelismIsBounded() {
+    AtomicInteger running = new AtomicInteger();
+    List<Integer> observed = parallelExecutionService.mapInParallel(
+      IntStream.range(0, 15).boxed().toList(), input -> {
+        int current = running.incrementAndGet();
+        sleep(10);
+        running.decrementAndGet();
+        return current;
+      });
+
+    assertThat(observed, everyItem(lessThanOrEqualTo(MAX_PARALLELISM)));
+  }
+
+  @Test
+  void folioContextIsPropagatedToWorkers() {
+    List<String> tenants = parallelExecutionService.mapInParallel(List.of(1, 2, 3, 4),
+      input -> FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getTenantId());
+
+    assertThat(tenants, everyItem(is("test_tenant")));
+  }
+
+  @Test
+  void firstFailureIsRethrown() {
+    List<Integer> inputs = List.of(1, 2, 3, 4);
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+      () -> parallelExecutionService.mapInParallel(inputs, input -> {
+        if (input > 1) {
+          throw new IllegalArgumentException("failed on " + input);
+        }
+        return input;
+      }));
+
+    assertThat(exception.getMessage(), is("failed on 2"));
+  }
+
+  @Test
+  @SneakyThrows
+  void runningTasksAreInterruptedWhenTaskFails() {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    List<Integer> inputs = List.of(1, 2);
+    assertThrows(IllegalArgumentException.class,
+      () -> parallelExecutionService.mapInParallel(inputs, input -> {
+        if (input == 1) {
+          sleep(100);
+          throw new IllegalArgumentException("failed on " + input);
+        }
+        try {
+          Thread.sleep(5_000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return input;
+      }));
+
+    assertThat(interrupted.await(1, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void failedTasksAreSkipped() {
+    Map<Integer, Integer> results = parallelExecutionService.mapInParallelSkippingFailures(
+      List.of(1, 2, 3, 4), input -> {
+        if (input == 2) {
+          throw new IllegalArgumentException("failed on " + input);
+        }
+        return input * 2;
+      }, MAX_PARALLELISM, Duration.ofSeconds(5));
+
+    assertThat(results, is(Map.of(1, 2, 3, 6, 4, 8)));
+  }
+
+  @Test
+  void tasksWhichDoNotCompleteInTimeAreSkipped() {
+    Map<Integer, Integer> results = parallelExecutionService.mapInParallelSkippingFailures(
+      List.of(1, 2, 3), input -> {
+        sleep(input == 3 ? 5_000 : 0);
+        return input;
+      }, MAX_PARALLELISM, Duration.ofMillis(500));
+
+    assertThat(results.keySet(), contains(1, 2));
+  }
+
+  @Test
+  void parallelismOfTasksSkippingFailuresIsBounded() {
+    AtomicInteger running = new AtomicInteger();
+    Map<Integer, Integer> observed = parallelExecutionService.mapInParallelSkippingFailures(
+      IntStream.range(0, 10).boxed().toList(), input -> {
+        int current = running.incrementAndGet();
+        sleep(10);
+        running.decrementAndGet();
+        return current;
+      }, 2, Duration.ofSeconds(5));
+
+    assertThat(observed.values(), everyItem(lessThanOrEqualTo(2)));
+  }
+
+  @Test
+  @SneakyThrows
+  void asyncTaskRunsWithFolioContextOfCaller() {
+    String tenantId = parallelExecutionService.supplyAsync(
+        () -> FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getTenantId())
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(tenantId, is("test_tenant"));
+  }
+
+  @Test
+  @SneakyThrows
+  void detachedTaskRunsWithoutClientCallMemoOfCaller() {
+    try (var ignored = ClientCallMemo.activate(new ClientCallMemo())) {
+      boolean memoPresent = parallelExecutionService.supplyDetached(
+          () -> ClientCallMemo.current().isPresent())
+        .get(5, TimeUnit.SECONDS);
+      boolean memoPresentInAsyncTask = parallelExecutionService.supplyAsync(
+          () -> ClientCallMemo.current().isPresent())
+        .get(5, TimeUnit.SECONDS);
+
+      assertThat(memoPresent, is(false));
+      assertThat(memoPresentInAsyncTask, is(true));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void dependentTaskRunsWithFolioContextAndClientCallMemoOfCaller() {
+    // the context is only visible to the thread it is set in, as in a request scope
+    when(folioContext.getAllHeaders()).thenAnswer(invocation ->
+      FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getAllHeaders());
+    var callerContext = new DefaultFolioExecutionContext(folioModuleMetadata,
+      Map.of(XOkapiHeaders.TENANT, List.of("test_tenant")));
+    CompletableFuture<String> tenantId;
+    CompletableFuture<Boolean> memoPresent;
+
+    try (var ignored = new FolioExecutionContextSetter(callerContext);
+         var ignoredMemoScope = ClientCallMemo.activate(new ClientCallMemo())) {
+      Executor executor = parallelExecutionService.currentContextExecutor();
+      CompletableFuture<Void> input = parallelExecutionService.supplyAsync(() -> {
+        sleep(100);
+        return null;
+      });
+      tenantId = input.thenApplyAsync(ignoredResult ->
+        FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getTenantId(),
+        executor);
+      memoPresent = input.thenApplyAsync(ignoredResult -> ClientCallMemo.current().isPresent(),
+        executor);
+    }
+
+    assertThat(tenantId.get(5, TimeUnit.SECONDS), is("test_tenant"));
+    assertThat(memoPresent.get(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @SneakyThrows
+  private static void sleep(long millis) {
+    Thread.sleep(millis);
+  }
+}
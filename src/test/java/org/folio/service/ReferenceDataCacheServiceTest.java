@@ -0,0 +1,159 @@
+package org.folio.service;
+
+import static org.folio.domain.type.ReferenceDataType.LOCATIONS;
+import static org.folio.domain.type.ReferenceDataType.MATERIAL_TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.folio.config.CacheConfiguration;
+import org.folio.config.CloneRegistryProperties;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.domain.dto.MaterialType;
+import org.folio.exception.BadRequestException;
+import org.folio.service.impl.ReferenceDataCacheServiceImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReferenceDataCacheServiceTest {
+
+  private static final String TENANT_ID = "tenant1";
+  private static final String ANOTHER_TENANT_ID = "tenant2";
+
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private ReferenceDataCacheProperties properties;
+  private ReferenceDataCacheService cacheService;
+  private final List<Collection<String>> loadedIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    properties = new ReferenceDataCacheProperties();
+    var cacheManager = new CacheConfiguration()
+      .cacheManager(properties, new ConsortiumCacheProperties(), new TenantContextCacheProperties(),
+        new TlrSettingsCacheProperties(), new CloneRegistryProperties(),
+        new StaffSlipsProperties());
+    cacheService = new ReferenceDataCacheServiceImpl(cacheManager, folioContext, properties,
+      new ObjectMapper());
+    when(folioContext.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void onlyMissingEntitiesAreLoaded() {
+    findMaterialTypes(Set.of("1", "2"));
+    Collection<MaterialType> materialTypes = findMaterialTypes(Set.of("1", "2", "3"));
+
+    assertThat(materialTypes.stream().map(MaterialType::getId).toList(),
+      containsInAnyOrder("1", "2", "3"));
+    assertThat(loadedIds.get(0), containsInAnyOrder("1", "2"));
+    assertThat(loadedIds.get(1), containsInAnyOrder("3"));
+  }
+
+  @Test
+  void entitiesAreCachedPerTenant() {
+    findMaterialTypes(Set.of("1"));
+    when(folioContext.getTenantId()).thenReturn(ANOTHER_TENANT_ID);
+    findMaterialTypes(Set.of("1"));
+
+    assertThat(loadedIds.size(), is(2));
+  }
+
+  @Test
+  void nothingIsCachedWhenCacheIsDisabled() {
+    properties.setEnabled(false);
+    findMaterialTypes(Set.of("1"));
+    findMaterialTypes(Set.of("1"));
+
+    assertThat(loadedIds.size(), is(2));
+  }
+
+  @Test
+  void resultOfLoaderIsCachedByKey() {
+    AtomicInteger loaderCalls = new AtomicInteger();
+    cacheService.find(LOCATIONS, "query", loaderCalls::incrementAndGet);
+    Integer result = cacheService.find(LOCATIONS, "query", loaderCalls::incrementAndGet);
+
+    assertThat(result, is(1));
+    assertThat(loaderCalls.get(), is(1));
+  }
+
+  @Test
+  void cachedEntitiesAreNotSharedWithCallers() {
+    findMaterialTypes(Set.of("1")).forEach(materialType -> materialType.name("changed"));
+    Collection<MaterialType> materialTypes = findMaterialTypes(Set.of("1"));
+    materialTypes.forEach(materialType -> materialType.name("changed again"));
+
+    assertThat(findMaterialTypes(Set.of("1")).stream().map(MaterialType::getName).toList(),
+      contains((String) null));
+    assertThat(loadedIds.size(), is(1));
+  }
+
+  @Test
+  void evictionRemovesEntriesOfTenantOnly() {
+    findMaterialTypes(Set.of("1"));
+    when(folioContext.getTenantId()).thenReturn(ANOTHER_TENANT_ID);
+    findMaterialTypes(Set.of("1"));
+
+    cacheService.evict(MATERIAL_TYPES.getValue());
+    findMaterialTypes(Set.of("1"));
+    when(folioContext.getTenantId()).thenReturn(TENANT_ID);
+    findMaterialTypes(Set.of("1"));
+
+    assertThat(loadedIds.size(), is(3));
+  }
+
+  @Test
+  void allCachesOfCurrentTenantAreEvictedByDefault() {
+    findMaterialTypes(Set.of("1"));
+    AtomicInteger loaderCalls = new AtomicInteger();
+    cacheService.find(LOCATIONS, "query", loaderCalls::incrementAndGet);
+
+    cacheService.evict(null);
+    findMaterialTypes(Set.of("1"));
+    cacheService.find(LOCATIONS, "query", loaderCalls::incrementAndGet);
+
+    assertThat(loadedIds.size(), is(2));
+    assertThat(loaderCalls.get(), is(2));
+  }
+
+  @Test
+  void evictionOfUnknownCacheFails() {
+    assertThrows(BadRequestException.class, () -> cacheService.evict("unknown"));
+  }
+
+  private Collection<MaterialType> findMaterialTypes(Collection<String> ids) {
+    Function<Collection<String>, Collection<MaterialType>> loader = missingIds -> {
+      loadedIds.add(List.copyOf(missingIds));
+      return missingIds.stream()
+        .map(id -> new MaterialType().id(id))
+        .toList();
+    };
+
+    return cacheService.findByIds(MATERIAL_TYPES, ids, MaterialType::getId, loader);
+  }
+}
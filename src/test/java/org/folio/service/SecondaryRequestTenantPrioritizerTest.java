@@ -0,0 +1,115 @@
+package org.folio.service;
+
+import static org.folio.util.TestUtils.mockParallelExecutionService;
+import static org.folio.util.TestUtils.randomId;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.folio.client.CirculationClient;
+import org.folio.config.SecondaryRequestProperties;
+import org.folio.domain.dto.AllowedServicePointsInner;
+import org.folio.domain.dto.AllowedServicePointsResponse;
+import org.folio.domain.dto.Request;
+import org.folio.service.impl.SecondaryRequestTenantPrioritizerImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SecondaryRequestTenantPrioritizerTest {
+
+  private static final String PATRON_GROUP_ID = randomId();
+  private static final List<String> RANKED_TENANTS = List.of("college", "university", "school",
+    "academy");
+  private static final AllowedServicePointsResponse ELIGIBLE = new AllowedServicePointsResponse()
+    .page(Set.of(new AllowedServicePointsInner().id(randomId())));
+  private static final AllowedServicePointsResponse NOT_ELIGIBLE =
+    new AllowedServicePointsResponse().page(Set.of());
+
+  @Mock
+  private FolioExecutionContextService contextService;
+  @Mock
+  private FolioExecutionContext folioContext;
+  @Mock
+  private CirculationClient circulationClient;
+  @Mock
+  private ParallelExecutionService parallelExecutionService;
+
+  private final SecondaryRequestProperties properties = new SecondaryRequestProperties();
+  private final Request request = new Request()
+    .id(randomId())
+    .instanceId(randomId())
+    .requestType(Request.RequestTypeEnum.PAGE);
+  private SecondaryRequestTenantPrioritizer prioritizer;
+  private String currentTenantId;
+
+  @BeforeEach
+  void setUp() {
+    mockParallelExecutionService(parallelExecutionService);
+    prioritizer = new SecondaryRequestTenantPrioritizerImpl(contextService, folioContext,
+      circulationClient, parallelExecutionService, properties);
+    properties.setHedgingEnabled(true);
+  }
+
+  @Test
+  void rankingIsKeptWhenHedgingIsDisabled() {
+    properties.setHedgingEnabled(false);
+
+    assertThat(prioritizer.prioritize(request, PATRON_GROUP_ID, RANKED_TENANTS),
+      contains(RANKED_TENANTS.toArray()));
+    verifyNoInteractions(contextService, circulationClient);
+  }
+
+  @Test
+  void ineligibleTopRankedTenantsAreTriedLast() {
+    mockAllowedServicePoints(Map.of("college", NOT_ELIGIBLE, "university", ELIGIBLE,
+      "school", NOT_ELIGIBLE));
+
+    assertThat(prioritizer.prioritize(request, PATRON_GROUP_ID, RANKED_TENANTS),
+      contains("university", "academy", "college", "school"));
+    verify(contextService, never()).execute(eq("academy"), any(), any(Callable.class));
+  }
+
+  @Test
+  void tenantWhichCouldNotBeCheckedKeepsItsRank() {
+    mockAllowedServicePoints(Map.of("university", NOT_ELIGIBLE, "school", ELIGIBLE));
+
+    assertThat(prioritizer.prioritize(request, PATRON_GROUP_ID, RANKED_TENANTS),
+      contains("college", "school", "academy", "university"));
+  }
+
+  // tenants without a response fail the check
+  private void mockAllowedServicePoints(Map<String, AllowedServicePointsResponse> responses) {
+    doAnswer(invocation -> {
+      String tenantId = invocation.getArgument(0);
+      if (!responses.containsKey(tenantId)) {
+        throw new IllegalStateException("Tenant is not available: " + tenantId);
+      }
+      currentTenantId = tenantId;
+      return invocation.<Callable<?>>getArgument(2).call();
+    }).when(contextService).execute(anyString(), any(), any(Callable.class));
+    when(circulationClient.allowedServicePointsByInstance(PATRON_GROUP_ID, "create",
+      request.getInstanceId()))
+      .thenAnswer(invocation -> responses.get(currentTenantId));
+  }
+}
@@ -0,0 +1,173 @@
+package org.folio.service;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.service.impl.ServicePointLocationIndexImpl.STAFF_SLIPS_LOCATION_INDEX_CACHE;
+import static org.folio.util.TestUtils.mockFolioExecutionContextService;
+import static org.folio.util.TestUtils.mockParallelExecutionService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.folio.client.LocationClient;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.ServicePointLocations;
+import org.folio.domain.dto.Location;
+import org.folio.domain.dto.Locations;
+import org.folio.domain.dto.Tenant;
+import org.folio.service.impl.ServicePointLocationIndexImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.folio.support.CqlQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ServicePointLocationIndexTest {
+
+  private static final String CENTRAL_TENANT_ID = "consortium";
+  private static final String COLLEGE_TENANT_ID = "college";
+  private static final String UNIVERSITY_TENANT_ID = "university";
+  private static final String SERVICE_POINT_ID = randomUUID().toString();
+
+  @Mock
+  private ConsortiaService consortiaService;
+  @Mock
+  private LocationClient locationClient;
+  @Mock
+  private FolioExecutionContextService contextService;
+  @Mock
+  private FolioExecutionContext folioContext;
+  @Mock
+  private ParallelExecutionService parallelExecutionService;
+
+  private final StaffSlipsProperties properties = new StaffSlipsProperties();
+  private ServicePointLocationIndex index;
+
+  @BeforeEach
+  void setUp() {
+    mockFolioExecutionContextService(contextService);
+    mockParallelExecutionService(parallelExecutionService);
+    properties.setLocationIndexEnabled(true);
+    index = new ServicePointLocationIndexImpl(consortiaService, locationClient, contextService,
+      folioContext, parallelExecutionService, properties,
+      new ConcurrentMapCacheManager(STAFF_SLIPS_LOCATION_INDEX_CACHE));
+    when(folioContext.getTenantId()).thenReturn(CENTRAL_TENANT_ID);
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id(CENTRAL_TENANT_ID), new Tenant().id(COLLEGE_TENANT_ID)));
+  }
+
+  @Test
+  void locationsOfServicePointAreFoundByTenant() {
+    Location location = buildLocation(SERVICE_POINT_ID);
+    Location locationOfAnotherServicePoint = buildLocation(randomUUID().toString());
+    when(locationClient.getByQuery(any(CqlQuery.class)))
+      .thenReturn(buildLocations(locationOfAnotherServicePoint))
+      .thenReturn(buildLocations(location));
+
+    ServicePointLocations locations = index.findLocations(List.of(SERVICE_POINT_ID));
+
+    assertThat(locations.indexedTenantIds(),
+      containsInAnyOrder(CENTRAL_TENANT_ID, COLLEGE_TENANT_ID));
+    assertThat(locations.locationsByTenant().size(), is(1));
+    assertThat(locations.locationsByTenant().values().iterator().next(), contains(location));
+  }
+
+  @Test
+  void indexIsBuiltOnceUntilInvalidated() {
+    when(locationClient.getByQuery(any(CqlQuery.class)))
+      .thenReturn(buildLocations(buildLocation(SERVICE_POINT_ID)));
+
+    index.findLocations(List.of(SERVICE_POINT_ID));
+    index.findLocations(List.of(SERVICE_POINT_ID));
+    verify(consortiaService, times(1)).getAllConsortiumTenants();
+
+    index.invalidate();
+    index.findLocations(List.of(SERVICE_POINT_ID));
+    verify(consortiaService, times(2)).getAllConsortiumTenants();
+  }
+
+  @Test
+  void tenantWhichFailedIsNotIndexed() {
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id(COLLEGE_TENANT_ID),
+        new Tenant().id(UNIVERSITY_TENANT_ID)));
+    when(contextService.execute(any(), any(), any(Callable.class)))
+      .thenAnswer(invocation -> {
+        if (UNIVERSITY_TENANT_ID.equals(invocation.getArgument(0))) {
+          throw new IllegalStateException("tenant is not available");
+        }
+        return buildLocations(buildLocation(SERVICE_POINT_ID));
+      });
+
+    ServicePointLocations locations = index.findLocations(List.of(SERVICE_POINT_ID));
+
+    assertThat(locations.isIndexed(COLLEGE_TENANT_ID), is(true));
+    assertThat(locations.isIndexed(UNIVERSITY_TENANT_ID), is(false));
+    assertThat(locations.mayHaveLocations(UNIVERSITY_TENANT_ID), is(true));
+  }
+
+  @Test
+  void tenantWithTooManyLocationsIsNotIndexed() {
+    List<Location> locations = Collections.nCopies(1000, buildLocation(SERVICE_POINT_ID));
+    when(locationClient.getByQuery(any(CqlQuery.class)))
+      .thenReturn(new Locations().locations(locations).totalRecords(locations.size()));
+
+    ServicePointLocations servicePointLocations = index.findLocations(List.of(SERVICE_POINT_ID));
+
+    assertThat(servicePointLocations.indexedTenantIds(), empty());
+    assertThat(servicePointLocations.locationsByTenant(), anEmptyMap());
+  }
+
+  @Test
+  void tenantWithMoreLocationsThanFetchedIsNotIndexed() {
+    when(locationClient.getByQuery(any(CqlQuery.class)))
+      .thenReturn(buildLocations(buildLocation(SERVICE_POINT_ID)).totalRecords(2));
+
+    ServicePointLocations locations = index.findLocations(List.of(SERVICE_POINT_ID));
+
+    assertThat(locations.indexedTenantIds(), empty());
+    assertThat(locations.mayHaveLocations(COLLEGE_TENANT_ID), is(true));
+  }
+
+  @Test
+  void nothingIsIndexedWhenDisabled() {
+    properties.setLocationIndexEnabled(false);
+
+    ServicePointLocations locations = index.findLocations(Set.of(SERVICE_POINT_ID));
+
+    assertThat(locations.indexedTenantIds(), empty());
+    assertThat(locations.mayHaveLocations(COLLEGE_TENANT_ID), is(true));
+    verifyNoInteractions(consortiaService, locationClient);
+  }
+
+  private static Locations buildLocations(Location location) {
+    return new Locations().locations(List.of(location)).totalRecords(1);
+  }
+
+  private static Location buildLocation(String servicePointId) {
+    return new Location()
+      .id(randomUUID().toString())
+      .primaryServicePoint(UUID.fromString(servicePointId));
+  }
+}
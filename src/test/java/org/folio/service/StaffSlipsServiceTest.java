@@ -11,29 +11,50 @@ import static org.folio.domain.dto.Request.RequestLevelEnum.ITEM;
 import static org.folio.domain.dto.Request.RequestLevelEnum.TITLE;
 import static org.folio.domain.dto.Request.RequestTypeEnum.HOLD;
 import static org.folio.domain.dto.Request.RequestTypeEnum.PAGE;
+import static org.folio.service.impl.StaffSlipsServiceImpl.STAFF_SLIPS_SNAPSHOTS_CACHE;
 import static org.folio.support.CqlQuery.exactMatch;
 import static org.folio.support.CqlQuery.exactMatchAny;
 import static org.folio.util.TestUtils.mockFolioExecutionContextService;
+import static org.folio.util.TestUtils.mockParallelExecutionService;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.oneOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.stream.Stream;
 
+import org.folio.config.StaffSlipsProperties;
+import org.folio.domain.CombinedStaffSlips;
+import org.folio.domain.MaterializedStaffSlips;
+import org.folio.domain.ServicePointLocations;
+import org.folio.domain.StaffSlipItemProjection;
+import org.folio.domain.StaffSlipsPage;
 import org.folio.domain.dto.AddressType;
 import org.folio.domain.dto.Campus;
 import org.folio.domain.dto.Department;
@@ -59,6 +80,8 @@ import org.folio.domain.dto.User;
 import org.folio.domain.dto.UserGroup;
 import org.folio.domain.dto.UserPersonal;
 import org.folio.domain.dto.UserPersonalAddressesInner;
+import org.folio.exception.BadRequestException;
+import org.folio.service.impl.CombinedStaffSlipsService;
 import org.folio.service.impl.PickSlipsService;
 import org.folio.service.impl.SearchSlipsService;
 import org.folio.spring.FolioExecutionContext;
@@ -67,11 +90,19 @@ import org.folio.support.CqlQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -111,6 +142,16 @@ class StaffSlipsServiceTest {
   private AddressTypeService addressTypeService;
   @Mock
   private ServicePointService servicePointService;
+  @Mock
+  private ParallelExecutionService parallelExecutionService;
+  @Spy
+  private StaffSlipsProperties staffSlipsProperties = new StaffSlipsProperties();
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+  @Mock
+  private MaterializedStaffSlipsService materializedStaffSlipsService;
+  @Mock
+  private ServicePointLocationIndex locationIndex;
 
   @InjectMocks
   private PickSlipsService pickSlipsService;
@@ -121,6 +162,9 @@ class StaffSlipsServiceTest {
   @BeforeEach
   public void setup() {
     mockFolioExecutionContextService(contextService);
+    mockParallelExecutionService(parallelExecutionService);
+    when(locationIndex.findLocations(any()))
+      .thenReturn(ServicePointLocations.notIndexed());
   }
 
   @Test
@@ -299,8 +343,8 @@ class StaffSlipsServiceTest {
       .thenReturn(List.of(item));
     when(requestService.getRequestsFromStorage(requestsCommonQuery, "itemId", List.of(item.getId())))
       .thenReturn(List.of(requestWithItem));
-    when(requestService.getRequestsFromStorage(holdsWithoutItemQuery))
-      .thenReturn(List.of(requestWithoutItem));
+    when(requestService.streamRequestsFromStorage(holdsWithoutItemQuery))
+      .thenAnswer(invocation -> Stream.of(requestWithoutItem));
     when(inventoryService.findInstances(Set.of(instance.getId())))
       .thenReturn(List.of(instance));
     when(inventoryService.findHoldings(Set.of(holding.getId())))
@@ -480,6 +524,419 @@ class StaffSlipsServiceTest {
     assertThat(staffSlips, empty());
   }
 
+  @Test
+  void tenantsWhichFailToRespondAreSkipped() {
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("tenant1"), new Tenant().id("tenant2")));
+    when(locationService.findLocations(any(CqlQuery.class)))
+      .thenThrow(new IllegalStateException("tenant is unavailable"))
+      .thenReturn(emptyList());
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, empty());
+    verify(locationService, times(2)).findLocations(any(CqlQuery.class));
+    verifyNoInteractions(inventoryService, requestService);
+  }
+
+  @Test
+  void itemsOfLendingTenantWhichFailedAreIncludedWithoutTheirDetails() {
+    Request request = buildRequest(PAGE, ITEM);
+    Location location = buildLocation();
+    Item item = buildItem(PAGED, request.getItemId(), request.getHoldingsRecordId(), location.getId());
+    MaterialType materialType = buildMaterialType(item.getMaterialTypeId());
+    CqlQuery itemsCommonQuery = CqlQuery.exactMatchAny("status.name", List.of("Paged"));
+    CqlQuery requestsCommonQuery = exactMatchAny("requestType", List.of("Page"))
+      .and(exactMatchAny("status", List.of("Open - Not yet filled")));
+
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium")));
+    when(locationService.findLocations(exactMatch("primaryServicePoint", SERVICE_POINT_ID)))
+      .thenReturn(List.of(location));
+    when(inventoryService.findItems(itemsCommonQuery, "effectiveLocationId", Set.of(location.getId())))
+      .thenReturn(List.of(item));
+    when(requestService.getRequestsFromStorage(requestsCommonQuery, "itemId", List.of(item.getId())))
+      .thenReturn(List.of(request));
+    when(inventoryService.findMaterialTypes(Set.of(materialType.getId())))
+      .thenReturn(List.of(materialType));
+    when(inventoryService.findLoanTypes(any()))
+      .thenThrow(new IllegalStateException("loan types are not available"));
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, hasSize(1));
+    StaffSlipItem staffSlipItem = staffSlips.iterator().next().getItem();
+    assertThat(staffSlipItem.getBarcode(), is("item_barcode"));
+    assertThat(staffSlipItem.getMaterialType(), nullValue());
+  }
+
+  @Test
+  void invalidIdsOfReferenceDataAreIgnored() {
+    Request request = buildRequest(PAGE, ITEM).pickupServicePointId("not-a-uuid");
+    Location location = buildLocation();
+    Item item = buildItem(PAGED, request.getItemId(), request.getHoldingsRecordId(), location.getId());
+    User requester = buildRequester(request.getRequesterId(), Set.of("not-a-uuid"))
+      .patronGroup("not-a-uuid");
+    CqlQuery itemsCommonQuery = CqlQuery.exactMatchAny("status.name", List.of("Paged"));
+    CqlQuery requestsCommonQuery = exactMatchAny("requestType", List.of("Page"))
+      .and(exactMatchAny("status", List.of("Open - Not yet filled")));
+
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium")));
+    when(locationService.findLocations(exactMatch("primaryServicePoint", SERVICE_POINT_ID)))
+      .thenReturn(List.of(location));
+    when(inventoryService.findItems(itemsCommonQuery, "effectiveLocationId", Set.of(location.getId())))
+      .thenReturn(List.of(item));
+    when(requestService.getRequestsFromStorage(requestsCommonQuery, "itemId", List.of(item.getId())))
+      .thenReturn(List.of(request));
+    when(userService.find(Set.of(requester.getId())))
+      .thenReturn(List.of(requester));
+    when(departmentService.findDepartments(Set.of("not-a-uuid")))
+      .thenReturn(List.of(new Department().id("not-a-uuid").name("Department")));
+    when(servicePointService.find(Set.of("not-a-uuid")))
+      .thenReturn(List.of(new ServicePoint().id("not-a-uuid").name("Service point")));
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, hasSize(1));
+    StaffSlip staffSlip = staffSlips.iterator().next();
+    assertThat(staffSlip.getRequester().getBarcode(), is("Requester barcode"));
+    assertThat(staffSlip.getRequester().getDepartments(), is(""));
+    assertThat(staffSlip.getRequest().getServicePointPickup(), nullValue());
+  }
+
+  @Test
+  void streamedStaffSlipsAreBuiltInBatches() {
+    staffSlipsProperties.setStreamBatchSize(1);
+    List<Request> requests = mockTwoPageRequests();
+
+    List<Collection<StaffSlip>> batches = new ArrayList<>();
+    pickSlipsService.streamStaffSlips(SERVICE_POINT_ID, null, batches::add);
+
+    assertThat(batches, hasSize(2));
+    assertThat(batches.get(0), hasSize(1));
+    assertThat(batches.get(1), hasSize(1));
+    verify(inventoryService).findInstances(Set.of(requests.get(0).getInstanceId()));
+    verify(inventoryService).findInstances(Set.of(requests.get(1).getInstanceId()));
+    verify(inventoryService).findHoldings(Set.of(requests.get(0).getHoldingsRecordId()));
+    verify(inventoryService).findHoldings(Set.of(requests.get(1).getHoldingsRecordId()));
+  }
+
+  @Test
+  void nextPagesOfStaffSlipsReuseFoundRequests() {
+    List<Request> requests = mockTwoPageRequests();
+
+    StaffSlipsPage firstPage = pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1, null);
+    assertThat(firstPage.totalRecords(), is(2));
+    assertThat(firstPage.nextCursor(), notNullValue());
+    assertThat(firstPage.staffSlips().iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(requests.get(1).getId())));
+
+    StaffSlipsPage secondPage = pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1,
+      firstPage.nextCursor());
+    assertThat(secondPage.totalRecords(), is(2));
+    assertThat(secondPage.nextCursor(), nullValue());
+    assertThat(secondPage.staffSlips().iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(requests.get(0).getId())));
+
+    verify(locationService, times(1)).findLocations(any(CqlQuery.class));
+    verify(requestService, times(1)).getRequestsFromStorage(any(), any(), any());
+  }
+
+  @Test
+  void requestsAreFoundAgainWhenSnapshotIsGone() {
+    mockTwoPageRequests();
+
+    StaffSlipsPage firstPage = pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1, null);
+    cacheManager.getCache(STAFF_SLIPS_SNAPSHOTS_CACHE).clear();
+    StaffSlipsPage secondPage = pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1,
+      firstPage.nextCursor());
+
+    assertThat(secondPage.staffSlips(), hasSize(1));
+    assertThat(secondPage.nextCursor(), nullValue());
+    verify(locationService, times(2)).findLocations(any(CqlQuery.class));
+  }
+
+  @Test
+  void cursorOfAnotherServicePointIsRejected() {
+    mockTwoPageRequests();
+
+    String cursor = pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1, null).nextCursor();
+
+    assertThrows(BadRequestException.class,
+      () -> pickSlipsService.getStaffSlipsPage(randomId(), null, 1, cursor));
+    assertThrows(BadRequestException.class,
+      () -> searchSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1, cursor));
+  }
+
+  @Test
+  void invalidCursorIsRejected() {
+    assertThrows(BadRequestException.class,
+      () -> pickSlipsService.getStaffSlipsPage(SERVICE_POINT_ID, null, 1, "invalid"));
+  }
+
+  @Test
+  void onlyRequestsUpdatedSinceGivenDateAreSearchedFor() {
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("test_tenant")));
+    when(locationService.findLocations(any(CqlQuery.class)))
+      .thenReturn(List.of(new Location().id(randomId())));
+    when(inventoryService.findItems(any(), any(), any()))
+      .thenReturn(List.of(new Item().id(randomId())));
+
+    Collection<StaffSlip> staffSlips = searchSlipsService.getStaffSlips(SERVICE_POINT_ID,
+      new Date(1_000_000));
+
+    assertThat(staffSlips, empty());
+    String expectedCondition = "metadata.updatedDate>\"1970-01-01T00:16:40.000+00:00\"";
+    ArgumentCaptor<CqlQuery> queryCaptor = ArgumentCaptor.forClass(CqlQuery.class);
+    verify(requestService).getRequestsFromStorage(queryCaptor.capture(), eq("itemId"), any());
+    assertThat(queryCaptor.getValue().query(), containsString(expectedCondition));
+    verify(requestService).streamRequestsFromStorage(queryCaptor.capture());
+    assertThat(queryCaptor.getValue().query(), containsString(expectedCondition));
+  }
+
+  @Test
+  void staffSlipsAreBuiltFromMaterializedRequestsAndItems() {
+    Location location = buildLocation();
+    Request request = buildRequest(PAGE, ITEM);
+    Item item = buildItem(PAGED, request.getItemId(), request.getHoldingsRecordId(),
+      location.getId());
+    Item notRequestedItem = buildItem(PAGED, randomId(), randomId(), location.getId());
+    MaterializedStaffSlips materializedStaffSlips = new MaterializedStaffSlips("consortium",
+      SERVICE_POINT_ID, "PickSlipsService", Set.of("Paged"), Set.of("Open - Not yet filled"),
+      Set.of("Page"), Map.of("consortium", List.of(location)),
+      Map.of("consortium", List.of(StaffSlipItemProjection.from(item),
+        StaffSlipItemProjection.from(notRequestedItem))), List.of(request));
+
+    when(materializedStaffSlipsService.find(SERVICE_POINT_ID, "PickSlipsService"))
+      .thenReturn(Optional.of(materializedStaffSlips));
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, hasSize(1));
+    assertThat(staffSlips.iterator().next().getItem().getBarcode(), is("item_barcode"));
+    verifyNoInteractions(locationService, requestService);
+    verify(inventoryService, never()).findItems(any(), any(), any());
+  }
+
+  @Test
+  void requestsAndItemsAreMaterializedWhenAllRequestsAreFound() {
+    when(materializedStaffSlipsService.isEnabled()).thenReturn(true);
+    mockTwoPageRequests();
+
+    pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+    pickSlipsService.getStaffSlips(SERVICE_POINT_ID, new Date());
+
+    ArgumentCaptor<MaterializedStaffSlips> captor =
+      ArgumentCaptor.forClass(MaterializedStaffSlips.class);
+    InOrder inOrder = inOrder(materializedStaffSlipsService);
+    inOrder.verify(materializedStaffSlipsService).startRebuild(SERVICE_POINT_ID,
+      "PickSlipsService");
+    inOrder.verify(materializedStaffSlipsService).save(captor.capture());
+    inOrder.verify(materializedStaffSlipsService).finishRebuild(SERVICE_POINT_ID,
+      "PickSlipsService");
+    assertThat(captor.getValue().copyRequests(), hasSize(2));
+    assertThat(captor.getValue().copyItemsByTenant().get("consortium"), hasSize(2));
+  }
+
+  @Test
+  void stagesOfBuildingStaffSlipsAreMeasured() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Metrics.addRegistry(meterRegistry);
+    try {
+      mockTwoPageRequests();
+      pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+      assertThat(meterRegistry.get("tlr.staff-slips.stage.duration")
+        .tags("stage", "findLocationsAndItems", "tenant", "consortium")
+        .timer()
+        .count(), is(1L));
+      assertThat(meterRegistry.get("tlr.staff-slips.stage.duration")
+        .tags("stage", "findRequests", "tenant", "all")
+        .timer()
+        .count(), is(1L));
+      assertThat(meterRegistry.get("tlr.staff-slips.entities")
+        .tags("entity", "requests")
+        .counter()
+        .count(), is(2.0));
+      assertThat(meterRegistry.get("tlr.staff-slips.batches")
+        .counter()
+        .count(), is(1.0));
+      assertThat(meterRegistry.get("tlr.staff-slips.duration")
+        .tags("type", "PickSlipsService")
+        .timer()
+        .count(), is(1L));
+    } finally {
+      Metrics.removeRegistry(meterRegistry);
+    }
+  }
+
+  @Test
+  void independentStagesOfBatchAreExecutedAsynchronously() {
+    mockTwoPageRequests();
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, hasSize(2));
+    verify(parallelExecutionService, times(7)).currentContextExecutor();
+  }
+
+  @Test
+  void failureOfStageFailsStaffSlips() {
+    mockTwoPageRequests();
+    when(userService.find(anySet()))
+      .thenThrow(new IllegalStateException("users are not available"));
+
+    assertThrows(IllegalStateException.class,
+      () -> pickSlipsService.getStaffSlips(SERVICE_POINT_ID));
+  }
+
+  @Test
+  void staffSlipsOfSeveralServicePointsAreBuiltAtOnce() {
+    String secondServicePointId = randomId();
+    Location firstLocation = buildLocation().primaryServicePoint(UUID.fromString(SERVICE_POINT_ID));
+    Location secondLocation = buildLocation()
+      .primaryServicePoint(UUID.fromString(secondServicePointId));
+    Request firstRequest = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId());
+    Request secondRequest = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId());
+    Item firstItem = buildItem(PAGED, firstRequest.getItemId(), firstRequest.getHoldingsRecordId(),
+      firstLocation.getId());
+    Item secondItem = buildItem(PAGED, secondRequest.getItemId(),
+      secondRequest.getHoldingsRecordId(), secondLocation.getId());
+    List<String> servicePointIds = List.of(SERVICE_POINT_ID, secondServicePointId);
+
+    when(folioContext.getTenantId())
+      .thenReturn("consortium");
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium")));
+    when(locationService.findLocations(exactMatchAny("primaryServicePoint", servicePointIds)))
+      .thenReturn(List.of(firstLocation, secondLocation));
+    when(inventoryService.findItems(any(), any(), any()))
+      .thenReturn(List.of(firstItem, secondItem));
+    when(requestService.getRequestsFromStorage(any(), any(), any()))
+      .thenReturn(List.of(firstRequest, secondRequest));
+
+    Map<String, Collection<StaffSlip>> staffSlips = pickSlipsService.getStaffSlipsByServicePoint(
+      servicePointIds, null);
+
+    assertThat(staffSlips.keySet(), contains(SERVICE_POINT_ID, secondServicePointId));
+    assertThat(staffSlips.get(SERVICE_POINT_ID), hasSize(1));
+    assertThat(staffSlips.get(SERVICE_POINT_ID).iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(firstRequest.getId())));
+    assertThat(staffSlips.get(secondServicePointId), hasSize(1));
+    assertThat(staffSlips.get(secondServicePointId).iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(secondRequest.getId())));
+    verify(locationService).findLocations(any(CqlQuery.class));
+    verify(requestService).getRequestsFromStorage(any(), any(), any());
+    verifyNoInteractions(materializedStaffSlipsService);
+  }
+
+  @Test
+  void pickSlipsAndSearchSlipsAreBuiltInOnePass() {
+    CombinedStaffSlipsService combinedStaffSlipsService = new CombinedStaffSlipsService(
+      pickSlipsService, searchSlipsService, locationService, inventoryService, requestService,
+      consortiaService, contextService, folioContext, userService, userGroupService,
+      departmentService, addressTypeService, servicePointService, parallelExecutionService,
+      staffSlipsProperties, cacheManager, materializedStaffSlipsService, locationIndex);
+    Location location = buildLocation();
+    Request pageRequest = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId());
+    Request holdRequest = buildRequest(HOLD, ITEM, randomId(), randomId(), randomId());
+    Request pageRequestForCheckedOutItem = buildRequest(PAGE, ITEM, randomId(), randomId(),
+      randomId());
+    Item pagedItem = buildItem(PAGED, pageRequest.getItemId(), pageRequest.getHoldingsRecordId(),
+      location.getId());
+    Item checkedOutItem = buildItem(CHECKED_OUT, holdRequest.getItemId(),
+      holdRequest.getHoldingsRecordId(), location.getId());
+    Item anotherCheckedOutItem = buildItem(CHECKED_OUT, pageRequestForCheckedOutItem.getItemId(),
+      pageRequestForCheckedOutItem.getHoldingsRecordId(), location.getId());
+
+    when(folioContext.getTenantId())
+      .thenReturn("consortium");
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium")));
+    when(locationService.findLocations(any(CqlQuery.class)))
+      .thenReturn(List.of(location));
+    when(inventoryService.findItems(any(), any(), any()))
+      .thenReturn(List.of(pagedItem, checkedOutItem, anotherCheckedOutItem));
+    when(requestService.getRequestsFromStorage(any(), any(), any()))
+      .thenReturn(List.of(pageRequest, holdRequest, pageRequestForCheckedOutItem));
+
+    CombinedStaffSlips staffSlips = combinedStaffSlipsService.getCombinedStaffSlips(
+      SERVICE_POINT_ID, null);
+
+    assertThat(staffSlips.pickSlips(), hasSize(1));
+    assertThat(staffSlips.pickSlips().iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(pageRequest.getId())));
+    assertThat(staffSlips.searchSlips(), hasSize(1));
+    assertThat(staffSlips.searchSlips().iterator().next().getRequest().getRequestID(),
+      is(UUID.fromString(holdRequest.getId())));
+    verify(consortiaService).getAllConsortiumTenants();
+    verify(locationService).findLocations(any(CqlQuery.class));
+    verify(inventoryService).findItems(argThat(query -> query.query().contains("\"Paged\"")
+      && query.query().contains("\"Checked out\"")), any(), any());
+    verify(requestService).getRequestsFromStorage(any(), any(), any());
+    verify(userService).find(anySet());
+  }
+
+  @Test
+  void tenantsWithoutIndexedLocationsAreNotSearched() {
+    Location location = buildLocation();
+    Request request = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId());
+    Item item = buildItem(PAGED, request.getItemId(), request.getHoldingsRecordId(),
+      location.getId());
+
+    when(folioContext.getTenantId())
+      .thenReturn("consortium");
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium"), new Tenant().id("college"),
+        new Tenant().id("university")));
+    when(locationIndex.findLocations(List.of(SERVICE_POINT_ID)))
+      .thenReturn(new ServicePointLocations(Map.of("college", List.of(location)),
+        Set.of("consortium", "college")));
+    when(locationService.findLocations(any(CqlQuery.class)))
+      .thenReturn(emptyList());
+    when(inventoryService.findItems(any(), any(), any()))
+      .thenReturn(List.of(item));
+    when(requestService.getRequestsFromStorage(any(), any(), any()))
+      .thenReturn(List.of(request));
+
+    Collection<StaffSlip> staffSlips = pickSlipsService.getStaffSlips(SERVICE_POINT_ID);
+
+    assertThat(staffSlips, hasSize(1));
+    // locations of the indexed tenant are taken from the index, the tenant which is not
+    // indexed is searched and the tenant without locations is skipped
+    verify(locationService).findLocations(any(CqlQuery.class));
+    verify(contextService, never()).execute(eq("consortium"), any(), any(Callable.class));
+    verify(inventoryService).findItems(any(), any(), any());
+  }
+
+  // the second request is older, so it comes first once requests are sorted
+  private List<Request> mockTwoPageRequests() {
+    Location location = buildLocation();
+    Request firstRequest = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId())
+      .requestDate(new Date(2_000_000));
+    Request secondRequest = buildRequest(PAGE, ITEM, randomId(), randomId(), randomId())
+      .requestDate(new Date(1_000_000));
+    Item firstItem = buildItem(PAGED, firstRequest.getItemId(), firstRequest.getHoldingsRecordId(),
+      location.getId());
+    Item secondItem = buildItem(PAGED, secondRequest.getItemId(), secondRequest.getHoldingsRecordId(),
+      location.getId());
+
+    when(folioContext.getTenantId())
+      .thenReturn("consortium");
+    when(consortiaService.getAllConsortiumTenants())
+      .thenReturn(List.of(new Tenant().id("consortium")));
+    when(locationService.findLocations(any(CqlQuery.class)))
+      .thenReturn(List.of(location));
+    when(inventoryService.findItems(any(), any(), any()))
+      .thenReturn(List.of(firstItem, secondItem));
+    when(requestService.getRequestsFromStorage(any(), any(), any()))
+      .thenReturn(List.of(firstRequest, secondRequest));
+
+    return List.of(firstRequest, secondRequest);
+  }
+
   private static User buildRequester(String id, Set<String> departments) {
     return new User()
       .id(id)
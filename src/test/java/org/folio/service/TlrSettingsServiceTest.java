@@ -2,7 +2,10 @@ package org.folio.service;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,32 +15,63 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.folio.config.CacheConfiguration;
+import org.folio.config.CloneRegistryProperties;
+import org.folio.config.ConsortiumCacheProperties;
+import org.folio.config.ReferenceDataCacheProperties;
+import org.folio.config.StaffSlipsProperties;
+import org.folio.config.TenantContextCacheProperties;
+import org.folio.config.TlrSettingsCacheProperties;
+import org.folio.domain.CachedTlrSettings;
 import org.folio.domain.dto.TlrSettings;
 import org.folio.domain.entity.TlrSettingsEntity;
 import org.folio.domain.mapper.TlrSettingsMapper;
 import org.folio.domain.mapper.TlrSettingsMapperImpl;
 import org.folio.repository.TlrSettingsRepository;
+import org.folio.service.impl.TlrSettingsChangeNotifier;
 import org.folio.service.impl.TlrSettingsServiceImpl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class TlrSettingsServiceTest {
+  private static final String TENANT_ID = "consortium";
+
   @Mock
   private TlrSettingsRepository tlrSettingsRepository;
   @Spy
   private final TlrSettingsMapper tlrSettingsMapper = new TlrSettingsMapperImpl();
   @Mock
   private PublishCoordinatorService<TlrSettings> publishCoordinatorService;
-  @InjectMocks
+  @Mock
+  private FolioExecutionContext folioContext;
+  @Mock
+  private TlrSettingsChangeNotifier changeNotifier;
+
+  private TlrSettingsCacheProperties cacheProperties;
   private TlrSettingsServiceImpl tlrSettingsService;
 
+  @BeforeEach
+  void setUp() {
+    cacheProperties = new TlrSettingsCacheProperties();
+    var cacheManager = new CacheConfiguration().cacheManager(new ReferenceDataCacheProperties(),
+      new ConsortiumCacheProperties(), new TenantContextCacheProperties(), cacheProperties,
+      new CloneRegistryProperties(), new StaffSlipsProperties());
+    tlrSettingsService = new TlrSettingsServiceImpl(tlrSettingsRepository, tlrSettingsMapper,
+      publishCoordinatorService, folioContext, cacheManager, cacheProperties, changeNotifier);
+    when(folioContext.getTenantId()).thenReturn(TENANT_ID);
+  }
+
   @Test
   void getTlrSettings() {
     when(tlrSettingsRepository.findAll(any(PageRequest.class)))
@@ -87,4 +121,86 @@ class TlrSettingsServiceTest {
     verify(tlrSettingsRepository, times(0)).save(any(TlrSettingsEntity.class));
     assertFalse(tlrSettings.isPresent());
   }
+
+  @Test
+  void tlrSettingsAreCached() {
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(List.of(new TlrSettingsEntity(UUID.randomUUID(), true, List.of()))));
+
+    tlrSettingsService.getTlrSettings();
+    tlrSettingsService.getTlrSettings();
+    tlrSettingsService.getCachedTlrSettings();
+
+    verify(tlrSettingsRepository, times(1)).findAll(any(PageRequest.class));
+  }
+
+  @Test
+  void tlrSettingsAreNotCachedWhenCacheIsDisabled() {
+    cacheProperties.setEnabled(false);
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+    tlrSettingsService.getTlrSettings();
+    tlrSettingsService.getTlrSettings();
+
+    verify(tlrSettingsRepository, times(2)).findAll(any(PageRequest.class));
+  }
+
+  @Test
+  void updatedTlrSettingsAreWrittenThroughToCacheAndOtherInstancesAreNotified() {
+    var tlrSettingsEntity = new TlrSettingsEntity(UUID.randomUUID(), true, List.of());
+    var updatedEntity = new TlrSettingsEntity(tlrSettingsEntity.getId(), true, List.of("college"));
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(List.of(tlrSettingsEntity)));
+    when(tlrSettingsRepository.save(any(TlrSettingsEntity.class)))
+      .thenReturn(updatedEntity);
+
+    tlrSettingsService.getTlrSettings();
+    tlrSettingsService.updateTlrSettings(new TlrSettings().ecsTlrFeatureEnabled(true)
+      .excludeFromEcsRequestLendingTenantSearch(List.of("college")));
+    CachedTlrSettings cachedSettings = tlrSettingsService.getCachedTlrSettings();
+
+    assertTrue(cachedSettings.isExcluded("college"));
+    verify(tlrSettingsRepository, times(2)).findAll(any(PageRequest.class));
+    verify(changeNotifier).notifyChanged(TENANT_ID);
+  }
+
+  @Test
+  void otherInstancesAreNotNotifiedWhenNotificationsAreDisabled() {
+    cacheProperties.setChangeNotificationsEnabled(false);
+    var tlrSettingsEntity = new TlrSettingsEntity(UUID.randomUUID(), true, List.of());
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(List.of(tlrSettingsEntity)));
+    when(tlrSettingsRepository.save(any(TlrSettingsEntity.class)))
+      .thenReturn(tlrSettingsEntity);
+
+    tlrSettingsService.updateTlrSettings(new TlrSettings().ecsTlrFeatureEnabled(true));
+
+    verify(changeNotifier, never()).notifyChanged(any());
+  }
+
+  @Test
+  void evictionForcesTlrSettingsToBeReloaded() {
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+    tlrSettingsService.getTlrSettings();
+    tlrSettingsService.evictCache(TENANT_ID);
+    tlrSettingsService.getTlrSettings();
+
+    verify(tlrSettingsRepository, times(2)).findAll(any(PageRequest.class));
+  }
+
+  @Test
+  void excludedTenantsAreNormalized() {
+    when(tlrSettingsRepository.findAll(any(PageRequest.class)))
+      .thenReturn(new PageImpl<>(List.of(new TlrSettingsEntity(UUID.randomUUID(), true,
+        List.of(" College ", "UNIVERSITY", " ")))));
+
+    CachedTlrSettings cachedSettings = tlrSettingsService.getCachedTlrSettings();
+
+    assertThat(cachedSettings.excludedTenants(), containsInAnyOrder("college", "university"));
+    assertTrue(cachedSettings.isExcluded("University"));
+    assertFalse(cachedSettings.isExcluded("other"));
+  }
 }
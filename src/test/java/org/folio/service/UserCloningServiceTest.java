@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.EMPTY;
@@ -18,6 +19,8 @@ import org.folio.service.impl.UserCloningServiceImpl;
 import org.folio.service.impl.UserServiceImpl;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
+import org.folio.support.BulkFetcher;
+import org.folio.support.CqlQueryPartitioner;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -41,12 +44,18 @@ class UserCloningServiceTest {
   @Mock
   FolioExecutionContext folioContext;
 
+  @Mock
+  ParallelExecutionService parallelExecutionService;
+
   @InjectMocks
   UserServiceImpl userService;
 
   @Mock
   UserServiceImpl userServiceForSecurePatron;
 
+  @Mock
+  CloneRegistry cloneRegistry;
+
   CloningService<User> userCloningService;
 
   @Captor
@@ -54,7 +63,7 @@ class UserCloningServiceTest {
 
   @Test
   void securePatronNameShouldBeCopied() {
-    userCloningService = new UserCloningServiceImpl(userServiceForSecurePatron);
+    userCloningService = new UserCloningServiceImpl(userServiceForSecurePatron, cloneRegistry);
 
     when(userServiceForSecurePatron.find(any(String.class))).thenReturn(null);
     when(userServiceForSecurePatron.create(any(User.class))).thenReturn(null);
@@ -73,8 +82,9 @@ class UserCloningServiceTest {
 
   @Test
   void whenPatronAlreadyExistsDuringCloningErrorShouldBeHandledAndFindRepeated() {
-    userService = Mockito.spy(new UserServiceImpl(userClient, contextService, folioContext));
-    userCloningService = new UserCloningServiceImpl(userService);
+    userService = Mockito.spy(new UserServiceImpl(userClient, contextService, folioContext,
+      parallelExecutionService, new BulkFetcher(CqlQueryPartitioner.withDefaults())));
+    userCloningService = new UserCloningServiceImpl(userService, cloneRegistry);
 
     doThrow(HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_CONTENT, "Unprocessable Entity",
       EMPTY, """
@@ -119,8 +129,9 @@ class UserCloningServiceTest {
 
   @Test
   void whenPatronAlreadyExistsButErrorIsDifferentShouldThrowAndNotRepeatFind() {
-    userService = Mockito.spy(new UserServiceImpl(userClient, contextService, folioContext));
-    userCloningService = new UserCloningServiceImpl(userService);
+    userService = Mockito.spy(new UserServiceImpl(userClient, contextService, folioContext,
+      parallelExecutionService, new BulkFetcher(CqlQueryPartitioner.withDefaults())));
+    userCloningService = new UserCloningServiceImpl(userService, cloneRegistry);
 
     doThrow(HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_CONTENT, "Unprocessable Entity",
       EMPTY, """
@@ -155,4 +166,35 @@ class UserCloningServiceTest {
 
     verify(userService, Mockito.times(1)).find(any(String.class));
   }
+
+  @Test
+  void userKnownToExistIsNotLookedUp() {
+    userCloningService = new UserCloningServiceImpl(userServiceForSecurePatron, cloneRegistry);
+    User user = new User()
+      .id(UUID.randomUUID().toString())
+      .patronGroup("patron-group")
+      .personal(new UserPersonal().firstName("FirstName").lastName("LastName"));
+    when(cloneRegistry.isKnownToExist("User", user.getId(), "patron-group")).thenReturn(true);
+
+    User clone = userCloningService.clone(user);
+
+    assertEquals(user.getId(), clone.getId());
+    assertEquals("patron-group", clone.getPatronGroup());
+    verify(userServiceForSecurePatron, never()).find(any(String.class));
+    verify(userServiceForSecurePatron, never()).create(any(User.class));
+  }
+
+  @Test
+  void foundUserIsRegisteredWithItsPatronGroup() {
+    userCloningService = new UserCloningServiceImpl(userServiceForSecurePatron, cloneRegistry);
+    User user = new User()
+      .id(UUID.randomUUID().toString())
+      .patronGroup("new-patron-group");
+    when(userServiceForSecurePatron.find(user.getId()))
+      .thenReturn(new User().id(user.getId()).patronGroup("old-patron-group"));
+
+    userCloningService.clone(user);
+
+    verify(cloneRegistry).registerExisting("User", user.getId(), "old-patron-group");
+  }
 }
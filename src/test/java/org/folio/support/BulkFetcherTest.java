@@ -0,0 +1,106 @@
+package org.folio.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.folio.client.GetByQueryClient.DEFAULT_LIMIT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.client.RequestStorageClient;
+import org.folio.domain.dto.Request;
+import org.folio.domain.dto.Requests;
+import org.folio.service.ParallelExecutionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.util.UriUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkFetcherTest {
+
+  private static final CqlQuery QUERY = CqlQuery.exactMatch("requestType", "Hold");
+
+  @Mock
+  private RequestStorageClient client;
+  @Mock
+  private ParallelExecutionService executionService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(executionService.mapInParallel(any(), any()))
+      .thenAnswer(invocation -> ((Collection<Object>) invocation.getArgument(0)).stream()
+        .map(invocation.<Function<Object, Object>>getArgument(1))
+        .toList());
+  }
+
+  @Test
+  void allPagesAreFetchedForNonUniqueIndex() {
+    List<Request> firstPage = IntStream.range(0, DEFAULT_LIMIT)
+      .mapToObj(i -> new Request().id(String.format("%05d", i)))
+      .toList();
+    CqlQuery partition = QUERY.and(CqlQuery.exactMatchAny("itemId", List.of("item")));
+    when(client.getByQuery(partition.sortBy("id"), DEFAULT_LIMIT))
+      .thenReturn(new Requests().requests(firstPage));
+    when(client.getByQuery(partition.and(CqlQuery.greaterThen("id", firstPage.getLast().getId()))
+      .sortBy("id"), DEFAULT_LIMIT))
+      .thenReturn(new Requests().requests(List.of(new Request().id("99999"))));
+
+    Collection<Request> requests = new BulkFetcher(CqlQueryPartitioner.withDefaults())
+      .fetchInParallel(client, QUERY, "itemId", List.of("item"), Requests::getRequests,
+        Request::getId, executionService);
+
+    assertThat(requests.size(), is(DEFAULT_LIMIT + 1));
+  }
+
+  @Test
+  void pathAndParametersAreCountedAgainstMaxQueryLength() {
+    int maxQueryLength = 2000;
+    when(client.getByQuery(any(CqlQuery.class), anyInt()))
+      .thenReturn(new Requests().requests(List.of()));
+
+    new BulkFetcher(new CqlQueryPartitioner(maxQueryLength, 1000))
+      .fetchInParallel(client, QUERY, "itemId", randomIds(300), Requests::getRequests,
+        Request::getId, executionService);
+
+    ArgumentCaptor<CqlQuery> queries = ArgumentCaptor.forClass(CqlQuery.class);
+    verify(client, atLeastOnce()).getByQuery(queries.capture(), anyInt());
+    String parameters = "?query=&limit=" + DEFAULT_LIMIT;
+    assertThat(queries.getAllValues().stream()
+        .map(query -> new CqlQuery(StringUtils.removeEnd(query.query(), " sortBy id")))
+        .map(query -> query.and(CqlQuery.greaterThen("id", new UUID(0, 0))).sortBy("id"))
+        .map(query -> encodedLength("/request-storage/requests") + parameters.length() +
+          encodedLength(query.query()))
+        .toList(),
+      everyItem(lessThanOrEqualTo(maxQueryLength)));
+  }
+
+  private static List<String> randomIds(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(i -> UUID.randomUUID().toString())
+      .toList();
+  }
+
+  private static int encodedLength(String value) {
+    return UriUtils.encode(value, UTF_8).length();
+  }
+}
@@ -0,0 +1,124 @@
+package org.folio.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriUtils;
+
+class CqlQueryPartitionerTest {
+
+  private static final CqlQuery COMMON_QUERY = CqlQuery.exactMatch("status", "Open - Not yet filled");
+
+  @Test
+  void allQueriesFitIntoMaxQueryLength() {
+    int maxQueryLength = 2000;
+    List<String> ids = randomIds(300);
+    List<CqlQuery> queries = new CqlQueryPartitioner(maxQueryLength, 1000)
+      .partition(COMMON_QUERY, "itemId", ids);
+
+    assertThat(queries.size() > 1, is(true));
+    assertThat(queries.stream().map(CqlQueryPartitionerTest::encodedLength).toList(),
+      everyItem(lessThanOrEqualTo(maxQueryLength)));
+  }
+
+  @Test
+  void reservedLengthIsDeductedFromMaxQueryLength() {
+    int maxQueryLength = 2000;
+    int reservedLength = 500;
+    List<CqlQuery> queries = new CqlQueryPartitioner(maxQueryLength, 1000)
+      .partition(COMMON_QUERY, "itemId", randomIds(300), reservedLength);
+
+    assertThat(queries.stream().map(CqlQueryPartitionerTest::encodedLength).toList(),
+      everyItem(lessThanOrEqualTo(maxQueryLength - reservedLength)));
+  }
+
+  @Test
+  void valuesAreNotLostAndOrderIsPreserved() {
+    List<String> ids = randomIds(150);
+    List<CqlQuery> queries = new CqlQueryPartitioner(1500, 1000)
+      .partition(CqlQuery.empty(), "id", ids);
+
+    List<String> idsFromQueries = queries.stream()
+      .map(CqlQuery::query)
+      .flatMap(query -> extractValues(query).stream())
+      .toList();
+
+    assertThat(idsFromQueries, is(ids));
+  }
+
+  @Test
+  void numberOfValuesPerQueryIsLimited() {
+    List<CqlQuery> queries = new CqlQueryPartitioner(100_000, 40)
+      .partition(COMMON_QUERY, "id", randomIds(100));
+
+    assertThat(queries.stream().map(query -> extractValues(query.query()).size()).toList(),
+      contains(40, 40, 20));
+  }
+
+  @Test
+  void valuesAreCombinedWithCommonQuery() {
+    List<CqlQuery> queries = CqlQueryPartitioner.withDefaults()
+      .partition(COMMON_QUERY, "id", List.of("1", "2"));
+
+    assertThat(queries, contains(
+      new CqlQuery("status==\"Open - Not yet filled\" and (id==(\"1\" or \"2\"))")));
+  }
+
+  @Test
+  void longerCommonQueryLeavesLessRoomForValues() {
+    CqlQueryPartitioner partitioner = new CqlQueryPartitioner(3000, 1000);
+    List<String> ids = randomIds(200);
+    CqlQuery longCommonQuery = COMMON_QUERY.and(CqlQuery.exactMatch("note", "x".repeat(1000)));
+
+    assertThat(partitioner.partition(longCommonQuery, "id", ids).size() >
+      partitioner.partition(COMMON_QUERY, "id", ids).size(), is(true));
+  }
+
+  @Test
+  void valueExceedingMaxQueryLengthIsQueriedSeparately() {
+    String longValue = "x".repeat(500);
+    List<CqlQuery> queries = new CqlQueryPartitioner(300, 1000)
+      .partition(CqlQuery.empty(), "id", List.of("1", longValue, "2"));
+
+    assertThat(queries, hasSize(3));
+  }
+
+  @Test
+  void emptyListOfValuesProducesNoQueries() {
+    assertThat(CqlQueryPartitioner.withDefaults().partition(COMMON_QUERY, "id", List.of()), empty());
+  }
+
+  @Test
+  void nonPositiveLimitsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new CqlQueryPartitioner(0, 10));
+    assertThrows(IllegalArgumentException.class, () -> new CqlQueryPartitioner(10, 0));
+  }
+
+  private static List<String> randomIds(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(i -> UUID.randomUUID().toString())
+      .toList();
+  }
+
+  private static List<String> extractValues(String query) {
+    int valuesStart = query.lastIndexOf("==(") + 3;
+    String values = query.substring(valuesStart, query.indexOf(')', valuesStart));
+    return List.of(values.replace("\"", "").split(CqlQuery.MULTIPLE_VALUES_DELIMITER));
+  }
+
+  private static int encodedLength(CqlQuery query) {
+    return UriUtils.encode(query.query(), UTF_8).length();
+  }
+}
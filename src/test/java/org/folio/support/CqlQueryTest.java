@@ -70,6 +70,12 @@ class CqlQueryTest {
       is(String.format("id==(\"%s\" or \"%s\")", uuid1, uuid2)));
   }
 
+  @Test
+  void sortByBuildsCorrectQuery() {
+    assertThat(exactMatch("key", "value").sortBy("id").toString(), is("key==\"value\" sortBy id"));
+    assertThat(empty().sortBy("id").toString(), is("cql.allRecords=1 sortBy id"));
+  }
+
   @Test
   void andBuildsCorrectQuery() {
     assertThat(exactMatch("key1", "value1").and(exactMatch("key2", "value2")).toString(),
@@ -0,0 +1,103 @@
+package org.folio.support;
+
+import static org.folio.client.GetByQueryClient.DEFAULT_LIMIT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.folio.client.RequestStorageClient;
+import org.folio.domain.dto.Request;
+import org.folio.domain.dto.Requests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PagedFetcherTest {
+
+  private static final CqlQuery QUERY = CqlQuery.exactMatch("requestType", "Hold");
+
+  @Mock
+  private RequestStorageClient client;
+
+  @Test
+  void allPagesAreFetchedUsingKeysetPagination() {
+    when(client.getByQuery(QUERY.sortBy("id"), 2))
+      .thenReturn(requests("1", "2"));
+    when(client.getByQuery(QUERY.and(CqlQuery.greaterThen("id", "2")).sortBy("id"), 2))
+      .thenReturn(requests("3", "4"));
+    when(client.getByQuery(QUERY.and(CqlQuery.greaterThen("id", "4")).sortBy("id"), 2))
+      .thenReturn(requests("5"));
+
+    List<String> ids = PagedFetcher.stream(client, QUERY, Requests::getRequests, Request::getId, 2)
+      .map(Request::getId)
+      .toList();
+
+    assertThat(ids, is(List.of("1", "2", "3", "4", "5")));
+    verify(client, times(3)).getByQuery(any(CqlQuery.class), anyInt());
+  }
+
+  @Test
+  void resultLargerThanDefaultLimitIsNotTruncated() {
+    List<String> firstPageIds = IntStream.range(0, DEFAULT_LIMIT)
+      .mapToObj(i -> String.format("%05d", i))
+      .toList();
+    when(client.getByQuery(QUERY.sortBy("id"), DEFAULT_LIMIT))
+      .thenReturn(requests(firstPageIds.toArray(String[]::new)));
+    when(client.getByQuery(QUERY.and(CqlQuery.greaterThen("id", firstPageIds.getLast())).sortBy("id"),
+      DEFAULT_LIMIT))
+      .thenReturn(requests("99999"));
+
+    long count = PagedFetcher.stream(client, QUERY, Requests::getRequests, Request::getId).count();
+
+    assertThat(count, is(DEFAULT_LIMIT + 1L));
+  }
+
+  @Test
+  void pagesAreFetchedLazily() {
+    when(client.getByQuery(QUERY.sortBy("id"), 2))
+      .thenReturn(requests("1", "2"));
+
+    Optional<Request> first = PagedFetcher.stream(client, QUERY, Requests::getRequests,
+      Request::getId, 2).findFirst();
+
+    assertThat(first.map(Request::getId), is(Optional.of("1")));
+    verify(client, times(1)).getByQuery(any(CqlQuery.class), anyInt());
+  }
+
+  @Test
+  void emptyResultProducesEmptyStream() {
+    when(client.getByQuery(QUERY.sortBy("id"), 2))
+      .thenReturn(requests());
+
+    long count = PagedFetcher.stream(client, QUERY, Requests::getRequests, Request::getId, 2).count();
+
+    assertThat(count, is(0L));
+  }
+
+  @Test
+  void nonPositivePageSizeIsRejected() {
+    assertThrows(IllegalArgumentException.class,
+      () -> PagedFetcher.stream(client, QUERY, Requests::getRequests, Request::getId, 0));
+    verify(client, never()).getByQuery(any(CqlQuery.class), anyInt());
+  }
+
+  private static Requests requests(String... ids) {
+    List<Request> requests = Arrays.stream(ids)
+      .map(id -> new Request().id(id))
+      .toList();
+    return new Requests().requests(requests).totalRecords(requests.size());
+  }
+}
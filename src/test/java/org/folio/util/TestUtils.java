@@ -6,16 +6,24 @@ import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static java.lang.String.format;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.http.HttpStatus;
+import org.folio.service.ParallelExecutionService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.support.kafka.DefaultKafkaEvent;
@@ -111,6 +119,54 @@ public class TestUtils {
       .when(service).execute(anyString(), any(FolioExecutionContext.class), any(Runnable.class));
   }
 
+  // runs tasks sequentially in the calling thread, skipping failed ones when mapping and
+  // returning failed futures for failed async tasks
+  @SuppressWarnings("unchecked")
+  public static void mockParallelExecutionService(ParallelExecutionService service) {
+    lenient().doAnswer(invocation -> {
+        Map<Object, Object> results = new LinkedHashMap<>();
+        Function<Object, Object> mapper = invocation.getArgument(1);
+        for (Object input : (Collection<Object>) invocation.getArgument(0)) {
+          try {
+            results.put(input, mapper.apply(input));
+          } catch (RuntimeException e) {
+            // skipped, same as in real implementation
+          }
+        }
+        return results;
+      })
+      .when(service).mapInParallelSkippingFailures(any(), any(), anyInt(), any());
+    lenient().doAnswer(invocation -> ((Collection<Object>) invocation.getArgument(0)).stream()
+        .map(invocation.<Function<Object, Object>>getArgument(1))
+        .toList())
+      .when(service).mapInParallel(any(), any(), anyInt());
+    lenient().doAnswer(invocation -> {
+        try {
+          return CompletableFuture.completedFuture(((Supplier<?>) invocation.getArgument(0)).get());
+        } catch (RuntimeException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      })
+      .when(service).supplyAsync(any());
+    lenient().doAnswer(invocation -> {
+        try {
+          return CompletableFuture.completedFuture(((Supplier<?>) invocation.getArgument(0)).get());
+        } catch (RuntimeException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      })
+      .when(service).supplyDetached(any());
+    lenient().doAnswer(invocation -> {
+        try {
+          return CompletableFuture.completedFuture(((Supplier<?>) invocation.getArgument(0)).get());
+        } catch (RuntimeException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      })
+      .when(service).supplyDetached(any(), any());
+    lenient().when(service.currentContextExecutor()).thenReturn(Runnable::run);
+  }
+
   public static String randomId() {
     return UUID.randomUUID().toString();
   }